@@ -226,6 +226,16 @@ public final class BuildContext {
         return execution.getExecutor();
     }
 
+    /**
+     * Get the build steps this step depends on, either directly or transitively. All of them completed before
+     * this step started.
+     *
+     * @return the build steps this step depends on (not {@code null})
+     */
+    public Set<BuildStep> getDependencies() {
+        return stepInfo.getTransitiveDependencies();
+    }
+
     // -- //
 
     private void doProduce(ItemId id, BuildItem value) {
@@ -1,5 +1,8 @@
 package io.quarkus.builder;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -10,6 +13,8 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final Set<StepInfo> dependencySteps = new HashSet<>();
+    private volatile Set<BuildStep> transitiveDependencies;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
@@ -31,6 +36,28 @@ final class StepInfo {
         return dependents;
     }
 
+    void addDependencyStep(StepInfo stepInfo) {
+        dependencySteps.add(stepInfo);
+    }
+
+    Set<BuildStep> getTransitiveDependencies() {
+        Set<BuildStep> result = transitiveDependencies;
+        if (result == null) {
+            result = new HashSet<>();
+            final Set<StepInfo> visited = new HashSet<>();
+            final ArrayDeque<StepInfo> toVisit = new ArrayDeque<>(dependencySteps);
+            while (!toVisit.isEmpty()) {
+                final StepInfo current = toVisit.poll();
+                if (visited.add(current)) {
+                    result.add(current.getBuildStep());
+                    toVisit.addAll(current.dependencySteps);
+                }
+            }
+            transitiveDependencies = result = Collections.unmodifiableSet(result);
+        }
+        return result;
+    }
+
     Set<ItemId> getConsumes() {
         return consumes;
     }
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,9 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -288,4 +293,40 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testTransitiveDependencies() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final AtomicReference<Set<BuildStep>> secondDependencies = new AtomicReference<>();
+        final AtomicReference<Set<BuildStep>> thirdDependencies = new AtomicReference<>();
+        final BuildStep first = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+        };
+        final BuildStep second = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                secondDependencies.set(context.getDependencies());
+                context.consume(DummyItem.class);
+                context.produce(new DummyItem2());
+            }
+        };
+        final BuildStep third = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                thirdDependencies.set(context.getDependencies());
+                context.consume(DummyItem2.class);
+                context.produce(new DummyItem3());
+            }
+        };
+        builder.addBuildStep(first).produces(DummyItem.class).build();
+        builder.addBuildStep(second).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addBuildStep(third).consumes(DummyItem2.class).produces(DummyItem3.class).build();
+        builder.addFinal(DummyItem3.class);
+        builder.build().createExecutionBuilder("my-app.jar").execute();
+        Assertions.assertEquals(Set.of(first), secondDependencies.get());
+        Assertions.assertEquals(Set.of(first, second), thirdDependencies.get());
+    }
 }
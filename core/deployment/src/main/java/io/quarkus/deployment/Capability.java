@@ -19,6 +19,11 @@ public interface Capability {
 
     String CONFIG_YAML = QUARKUS_PREFIX + "config.yaml";
 
+    /**
+     * Application data caching
+     */
+    String CACHE = QUARKUS_PREFIX + "cache";
+
     /**
      * Java Servlet API
      */
@@ -0,0 +1,33 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Application startup configuration.
+ */
+@ConfigRoot
+public class StartupConfig {
+
+    /**
+     * If set to true, the startup tasks recorded for the runtime init phase are run concurrently, a task only waiting
+     * for the tasks recorded by the build steps it depends on.
+     * <p>
+     * This can reduce the startup time of applications with many extensions, but relies on the build step
+     * dependencies describing all the runtime dependencies between the recorded tasks, which is why it is
+     * disabled by default. Static init tasks are always run serially.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelInit;
+
+    /**
+     * If set to true, the values resolved by the runtime config while the application starts are kept, so each
+     * property walks the config sources, profiles and expressions only once, whether it is read to populate a config
+     * root or to be injected.
+     * <p>
+     * Changes made to the config sources during startup, e.g. by setting a system property, are only visible once the
+     * application has started, which is why it is disabled by default.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean configSnapshot;
+}
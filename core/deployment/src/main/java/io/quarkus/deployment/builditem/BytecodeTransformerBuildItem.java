@@ -40,6 +40,14 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final boolean cacheable;
 
+    /**
+     * Identifies the transformation across builds, allowing the transformed class to be stored in the persistent
+     * transformation cache. Two transformers with the same key must produce the same output for the same input class,
+     * so the key must capture everything the transformation depends on besides the bytes of the class itself,
+     * e.g. the version of the library performing it and the other classes it inspects.
+     */
+    final String cacheKey;
+
     public BytecodeTransformerBuildItem(String classToTransform,
             BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction) {
         this(classToTransform, visitorFunction, null);
@@ -75,6 +83,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.requireConstPoolEntry = requireConstPoolEntry;
         this.cacheable = cacheable;
         this.inputTransformer = null;
+        this.cacheKey = null;
     }
 
     public BytecodeTransformerBuildItem(Builder builder) {
@@ -84,6 +93,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.requireConstPoolEntry = builder.requireConstPoolEntry;
         this.cacheable = builder.cacheable;
         this.inputTransformer = builder.inputTransformer;
+        this.cacheKey = builder.cacheKey;
         if (visitorFunction == null && inputTransformer == null) {
             throw new IllegalArgumentException("One of either visitorFunction or inputTransformer must be set");
         }
@@ -113,6 +123,14 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         return inputTransformer;
     }
 
+    /**
+     * @return the key identifying the transformation across builds, or {@code null} if the transformed class must not
+     *         be stored in the persistent transformation cache
+     */
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
     public static class Builder {
         public BiFunction<String, byte[], byte[]> inputTransformer;
         private String classToTransform;
@@ -120,6 +138,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         private Set<String> requireConstPoolEntry = null;
         private boolean eager = false;
         private boolean cacheable = false;
+        private String cacheKey;
 
         public Builder setInputTransformer(BiFunction<String, byte[], byte[]> inputTransformer) {
             this.inputTransformer = inputTransformer;
@@ -151,6 +170,14 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
             return this;
         }
 
+        /**
+         * Sets the key identifying the transformation across builds, see {@link BytecodeTransformerBuildItem#getCacheKey()}.
+         */
+        public Builder setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+            return this;
+        }
+
         public BytecodeTransformerBuildItem build() {
             return new BytecodeTransformerBuildItem(this);
         }
@@ -4,9 +4,13 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.app.ClassChangeInformation;
 import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.util.InputsFingerprint;
 
 /**
  * A build item that can be used to query the live reload state.
@@ -16,6 +20,8 @@ import io.quarkus.builder.item.SimpleBuildItem;
  */
 public final class LiveReloadBuildItem extends SimpleBuildItem {
 
+    private static final Logger log = Logger.getLogger(LiveReloadBuildItem.class);
+
     private final boolean liveReload;
     private final Set<String> changedResources;
     private final Map<Class<?>, Object> reloadContext;
@@ -77,6 +83,32 @@ public final class LiveReloadBuildItem extends SimpleBuildItem {
         reloadContext.put(type, val);
     }
 
+    /**
+     * Returns the value computed for the given key by a previous start if the fingerprint of the inputs it was
+     * computed from is the same, otherwise computes it and keeps it for the next reload.
+     * <p>
+     * This allows a build step to skip work on a live reload when none of the inputs it declares changed. The
+     * computation must only depend on these inputs, and the value must not hold onto state that is specific to a
+     * single start.
+     *
+     * @param key the key of the value, usually the name of the build step
+     * @param fingerprint the fingerprint of all the inputs of the computation
+     * @param computation the computation
+     * @return the value
+     * @see InputsFingerprint
+     */
+    public <T> T computeIfUnchanged(String key, String fingerprint, Supplier<T> computation) {
+        StepResults results = (StepResults) reloadContext.computeIfAbsent(StepResults.class, k -> new StepResults());
+        StepResult previous = results.get(key);
+        if (previous != null && previous.fingerprint.equals(fingerprint)) {
+            log.debugf("Inputs of %s did not change, reusing its previous result", key);
+            return (T) previous.value;
+        }
+        T value = computation.get();
+        results.put(key, new StepResult(fingerprint, value));
+        return value;
+    }
+
     /**
      * Returns the change information from the last successful restart.
      *
@@ -87,4 +119,20 @@ public final class LiveReloadBuildItem extends SimpleBuildItem {
     public ClassChangeInformation getChangeInformation() {
         return changeInformation;
     }
+
+    static final class StepResults extends ConcurrentHashMap<String, StepResult> {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    static final class StepResult {
+
+        final String fingerprint;
+        final Object value;
+
+        StepResult(String fingerprint, Object value) {
+            this.fingerprint = fingerprint;
+            this.value = value;
+        }
+    }
 }
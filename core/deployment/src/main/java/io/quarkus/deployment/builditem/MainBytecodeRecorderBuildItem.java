@@ -1,5 +1,8 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Set;
+
+import io.quarkus.builder.BuildStep;
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -7,15 +10,31 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final BuildStep buildStep;
+    private final Set<BuildStep> buildStepDependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder
+     * @param buildStep the build step which recorded the bytecode
+     * @param buildStepDependencies the build steps the recording build step depends on
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, BuildStep buildStep,
+            Set<BuildStep> buildStepDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.buildStep = buildStep;
+        this.buildStepDependencies = buildStepDependencies;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.buildStep = null;
+        this.buildStepDependencies = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -25,4 +44,19 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the build step which recorded the bytecode, or {@code null} if unknown
+     */
+    public BuildStep getBuildStep() {
+        return buildStep;
+    }
+
+    /**
+     * @return the build steps the recording build step depends on, or {@code null} if unknown, in which case the
+     *         startup task must not run concurrently with any other task
+     */
+    public Set<BuildStep> getBuildStepDependencies() {
+        return buildStepDependencies;
+    }
 }
@@ -175,6 +175,8 @@ public final class RunTimeConfigurationGenerator {
     static final MethodDescriptor CU_ADD_SOURCE_FACTORY_PROVIDER = MethodDescriptor.ofMethod(ConfigUtils.class,
             "addSourceFactoryProvider",
             void.class, SmallRyeConfigBuilder.class, ConfigSourceFactoryProvider.class);
+    static final MethodDescriptor CU_ADD_STARTUP_SNAPSHOT = MethodDescriptor.ofMethod(ConfigUtils.class,
+            "addStartupSnapshot", void.class, SmallRyeConfigBuilder.class, int.class);
     static final MethodDescriptor CU_WITH_MAPPING = MethodDescriptor.ofMethod(ConfigUtils.class, "addMapping",
             void.class, SmallRyeConfigBuilder.class, String.class, String.class);
 
@@ -302,6 +304,7 @@ public final class RunTimeConfigurationGenerator {
         final Set<String> runtimeConfigSourceProviders;
         final Set<String> runtimeConfigSourceFactories;
         final Set<ConfigClassWithPrefix> configMappings;
+        final boolean startupConfigSnapshot;
         /**
          * Regular converters organized by type. Each converter is stored in a separate field. Some are used
          * only at build time, some only at run time, and some at both times.
@@ -340,6 +343,7 @@ public final class RunTimeConfigurationGenerator {
             runtimeConfigSourceProviders = builder.getRuntimeConfigSourceProviders();
             runtimeConfigSourceFactories = builder.getRuntimeConfigSourceFactories();
             configMappings = builder.getConfigMappings();
+            startupConfigSnapshot = builder.isStartupConfigSnapshot();
             cc = ClassCreator.builder().classOutput(classOutput).className(CONFIG_CLASS_NAME).setFinal(true).build();
             generateEmptyParsers(cc);
             // not instantiable
@@ -688,6 +692,11 @@ public final class RunTimeConfigurationGenerator {
                 installConfiguration(bootstrapConfig, readBootstrapConfig);
             }
 
+            if (startupConfigSnapshot) {
+                readConfig.invokeStaticMethod(CU_ADD_STARTUP_SNAPSHOT, runTimeBuilder,
+                        readConfig.load(specifiedRunTimeDefaultValues.size() + buildTimeRunTimeVisibleValues.size()
+                                + runTimeDefaults.size()));
+            }
             final ResultHandle runTimeConfig = readConfig.invokeVirtualMethod(SRCB_BUILD, runTimeBuilder);
             installConfiguration(runTimeConfig, readConfig);
 
@@ -1705,6 +1714,8 @@ public final class RunTimeConfigurationGenerator {
 
             private Set<ConfigClassWithPrefix> configMappings;
 
+            private boolean startupConfigSnapshot;
+
             Builder() {
             }
 
@@ -1825,6 +1836,15 @@ public final class RunTimeConfigurationGenerator {
                 return this;
             }
 
+            boolean isStartupConfigSnapshot() {
+                return startupConfigSnapshot;
+            }
+
+            public Builder setStartupConfigSnapshot(final boolean startupConfigSnapshot) {
+                this.startupConfigSnapshot = startupConfigSnapshot;
+                return this;
+            }
+
             public GenerateOperation build() {
                 return new GenerateOperation(this);
             }
@@ -0,0 +1,31 @@
+package io.quarkus.deployment.configuration;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Persistent cache of the bytecode transformations applied to the application classes.
+ */
+@ConfigRoot
+public class TransformationCacheConfig {
+
+    /**
+     * If set to true, the classes transformed by bytecode transformers which declare a cache key are stored on disk,
+     * and the following builds reuse them as long as the original class and the cache keys of its transformers are
+     * the same.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory the transformed classes are stored in.
+     * <p>
+     * If not set, the classes are stored in the {@code quarkus-transformation-cache} directory of the build output
+     * directory, so they do not survive a clean build.
+     */
+    @ConfigItem
+    public Optional<Path> directory;
+}
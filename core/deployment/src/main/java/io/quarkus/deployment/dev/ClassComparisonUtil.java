@@ -20,9 +20,15 @@ import org.jboss.jandex.Type;
 
 public class ClassComparisonUtil {
     static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
+        if (old == null) {
+            return false;
+        }
         if (clazz.flags() != old.flags()) {
             return false;
         }
+        if (!Objects.equals(clazz.superName(), old.superName())) {
+            return false;
+        }
         if (!clazz.typeParameters().equals(old.typeParameters())) {
             return false;
         }
@@ -104,16 +110,24 @@ public class ClassComparisonUtil {
         if (a.size() != b.size()) {
             return false;
         }
-        Map<DotName, AnnotationInstance> lookup = b.stream()
-                .collect(Collectors.toMap(AnnotationInstance::name, Function.identity()));
-
-        for (AnnotationInstance i1 : a) {
-            AnnotationInstance i2 = lookup.get(i1.name());
-            if (i2 == null) {
+        //the same annotation can be present more than once, e.g. repeated type annotations on a generic signature
+        Map<DotName, List<AnnotationInstance>> byName = a.stream()
+                .collect(Collectors.groupingBy(AnnotationInstance::name));
+        Map<DotName, List<AnnotationInstance>> lookup = b.stream()
+                .collect(Collectors.groupingBy(AnnotationInstance::name));
+        if (!byName.keySet().equals(lookup.keySet())) {
+            return false;
+        }
+        for (Map.Entry<DotName, List<AnnotationInstance>> entry : byName.entrySet()) {
+            List<AnnotationInstance> instances = entry.getValue();
+            List<AnnotationInstance> others = lookup.get(entry.getKey());
+            if (instances.size() != others.size()) {
                 return false;
             }
-            if (!compareAnnotation(i1, i2)) {
-                return false;
+            for (int i = 0; i < instances.size(); ++i) {
+                if (!compareAnnotation(instances.get(i), others.get(i))) {
+                    return false;
+                }
             }
         }
         return true;
@@ -147,15 +161,16 @@ public class ClassComparisonUtil {
     private static void methodMap(Collection<AnnotationInstance> b, List<AnnotationInstance> method2,
             Map<Integer, List<AnnotationInstance>> params2) {
         for (AnnotationInstance i : b) {
-            if (i.target().kind() == AnnotationTarget.Kind.METHOD) {
-                method2.add(i);
-            } else {
+            if (i.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
                 int index = i.target().asMethodParameter().position();
                 List<AnnotationInstance> instances = params2.get(index);
                 if (instances == null) {
                     params2.put(index, instances = new ArrayList<>());
                 }
                 instances.add(i);
+            } else {
+                //annotations of the method itself, and type annotations of its signature
+                method2.add(i);
             }
         }
     }
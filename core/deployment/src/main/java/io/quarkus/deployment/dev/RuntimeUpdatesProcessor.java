@@ -460,8 +460,14 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                         if (ok) {
                             for (ClassInfo clazz : current.getKnownClasses()) {
                                 ClassInfo old = lastStartIndex.getClassByName(clazz.name());
-                                if (!ClassComparisonUtil.isSameStructure(clazz, old)
-                                        || disableInstrumentationForClassPredicate.test(clazz)) {
+                                if (!ClassComparisonUtil.isSameStructure(clazz, old)) {
+                                    log.debugf("The structure of %s changed, it cannot be replaced via instrumentation",
+                                            clazz.name());
+                                    ok = false;
+                                    break;
+                                }
+                                if (disableInstrumentationForClassPredicate.test(clazz)) {
+                                    log.debugf("Instrumentation based reload is disabled for %s", clazz.name());
                                     ok = false;
                                     break;
                                 }
@@ -473,6 +479,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                             ClassChangeAgent.getInstrumentation().redefineClasses(defs);
                             instrumentationChange = true;
                         }
+                    } catch (UnsupportedOperationException e) {
+                        //the JVM detected a change that cannot be applied to the loaded classes, a restart will handle it
+                        log.debug("Unable to replace classes via instrumentation, restarting instead", e);
+                        instrumentationChange = false;
                     } catch (Exception e) {
                         log.error("Failed to replace classes via instrumentation", e);
                         instrumentationChange = false;
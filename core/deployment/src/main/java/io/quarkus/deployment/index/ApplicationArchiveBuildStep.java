@@ -40,6 +40,7 @@ import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -82,7 +83,9 @@ public class ApplicationArchiveBuildStep {
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfig indexCacheConfig,
+            OutputTargetBuildItem outputTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -94,6 +97,14 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.directory = null;
+        if (indexCacheConfig.enabled) {
+            if (indexCacheConfig.directory.isPresent()) {
+                indexCache.directory = indexCacheConfig.directory.get();
+            } else if (outputTarget.getOutputDirectory() != null) {
+                indexCache.directory = outputTarget.getOutputDirectory().resolve("quarkus-index-cache");
+            }
+        }
 
         Map<AppArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -284,7 +295,7 @@ public class ApplicationArchiveBuildStep {
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    return IndexingUtil.indexJar(path, removed, indexCache.directory);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -295,10 +306,14 @@ public class ApplicationArchiveBuildStep {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes may also be persisted in a directory, to be reused by the following builds.
      */
     private static final class IndexCache {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        Path directory;
+
     }
 }
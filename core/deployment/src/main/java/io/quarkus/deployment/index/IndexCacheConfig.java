@@ -0,0 +1,31 @@
+package io.quarkus.deployment.index;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Persistent cache of the indexes of the application dependencies.
+ */
+@ConfigRoot
+public class IndexCacheConfig {
+
+    /**
+     * If set to true, the indexes computed for the dependency jars that do not contain a Jandex index are stored
+     * on disk and reused by the following builds, as long as the content of the jar is the same.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory the indexes are stored in.
+     * <p>
+     * If not set, the indexes are stored in the {@code quarkus-index-cache} directory of the build output directory,
+     * so they do not survive a clean build. Point it to a shared location, for example in the local Maven repository,
+     * to share the indexes between modules and clean builds.
+     */
+    @ConfigItem
+    public Optional<Path> directory;
+}
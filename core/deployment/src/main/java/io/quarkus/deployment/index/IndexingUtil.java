@@ -7,7 +7,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Set;
@@ -20,10 +24,12 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
 import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.runtime.util.HashUtil;
 import io.smallrye.common.io.jar.JarFiles;
 
 public class IndexingUtil {
@@ -69,6 +75,91 @@ public class IndexingUtil {
         }
     }
 
+    /**
+     * Indexes the given jar, reusing the index persisted in the given cache directory by a previous build if the
+     * jar content is the same.
+     * <p>
+     * The cache is only used for jars which do not contain an index and have no removed resources, as reading
+     * the index of a jar is as fast as reading a cached one. Failing to read or write the cache is not fatal.
+     *
+     * @param path the jar
+     * @param removed the resources to ignore, may be {@code null}
+     * @param cacheDirectory the cache directory, if {@code null} the cache is not used
+     */
+    public static Index indexJar(Path path, Set<String> removed, Path cacheDirectory) throws IOException {
+        File file = path.toFile();
+        if (cacheDirectory == null || removed != null) {
+            return indexJar(file, removed);
+        }
+        try (JarFile jarFile = new JarFile(file)) {
+            if (jarFile.getEntry(JANDEX_INDEX) != null) {
+                return indexJar(file, removed);
+            }
+        }
+
+        String hash;
+        try (InputStream in = Files.newInputStream(path)) {
+            hash = HashUtil.sha256(in);
+        }
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".jar")) {
+            fileName = fileName.substring(0, fileName.length() - 4);
+        }
+        Path cachedIndex = cacheDirectory.resolve(fileName + "-" + hash + ".idx");
+
+        Index index = readCachedIndex(cachedIndex);
+        if (index != null) {
+            log.debugf("Using the cached index of %s", path);
+            return index;
+        }
+        index = indexJar(file, removed);
+        writeCachedIndex(cachedIndex, index);
+        return index;
+    }
+
+    private static Index readCachedIndex(Path cachedIndex) {
+        if (!Files.isRegularFile(cachedIndex)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(cachedIndex)) {
+            IndexReader reader = new IndexReader(in);
+            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                return null;
+            }
+            return reader.read();
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to read the cached index %s", cachedIndex);
+            return null;
+        }
+    }
+
+    private static void writeCachedIndex(Path cachedIndex, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(cachedIndex.getParent());
+            // concurrent builds may share the cache, so the index is moved in place once complete
+            tmp = Files.createTempFile(cachedIndex.getParent(), cachedIndex.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, cachedIndex, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, cachedIndex, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to write the cached index %s", cachedIndex);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
     private static Index indexJar(JarFile file, Set<String> removed) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
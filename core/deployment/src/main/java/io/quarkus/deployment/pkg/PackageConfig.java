@@ -150,6 +150,22 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true the dependency jars,
+     * the application jar and the jars holding the generated and transformed classes are written concurrently,
+     * using a thread per available processor.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelAssembly;
+
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is false the generated and
+     * transformed classes are stored uncompressed in their jars, which makes the jars bigger but the classes
+     * faster to load.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean compressGeneratedBytecode;
+
     /**
      * Fernflower Decompiler configuration
      */
@@ -0,0 +1,89 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the file operations of the jar assembly, either directly or on a pool of threads when the assembly is
+ * done in parallel.
+ * <p>
+ * The bookkeeping of the assembly (class path, order of the jars...) is always done by the calling thread, only
+ * the operations writing distinct files are submitted here.
+ */
+final class JarAssemblyTasks implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> pending = new ArrayList<>();
+
+    JarAssemblyTasks(boolean parallel) {
+        if (parallel) {
+            AtomicInteger count = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "quarkus-jar-assembly-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * Runs the given operation, possibly asynchronously.
+     */
+    void submit(Task task) throws IOException {
+        if (executor == null) {
+            task.run();
+        } else {
+            pending.add(executor.submit(() -> {
+                task.run();
+                return null;
+            }));
+        }
+    }
+
+    /**
+     * Waits for all the submitted operations to be done, rethrowing the first failure.
+     */
+    void await() throws IOException {
+        try {
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            pending.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    interface Task {
+
+        void run() throws IOException;
+    }
+}
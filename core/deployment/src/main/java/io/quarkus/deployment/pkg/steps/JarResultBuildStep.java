@@ -238,9 +238,11 @@ public class JarResultBuildStep {
                     packageConfig, applicationInfo, generatedClasses, generatedResources, mainClassBuildItem,
                     classLoadingConfig);
         } else {
-            return buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
-                    packageConfig, classLoadingConfig, applicationInfo, generatedClasses, generatedResources,
-                    additionalApplicationArchiveBuildItems, mainClassBuildItem);
+            try (JarAssemblyTasks tasks = new JarAssemblyTasks(packageConfig.parallelAssembly)) {
+                return buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses,
+                        applicationArchivesBuildItem, packageConfig, classLoadingConfig, applicationInfo, generatedClasses,
+                        generatedResources, additionalApplicationArchiveBuildItems, mainClassBuildItem, tasks);
+            }
         }
     }
 
@@ -531,7 +533,7 @@ public class JarResultBuildStep {
             List<GeneratedClassBuildItem> generatedClasses,
             List<GeneratedResourceBuildItem> generatedResources,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItems,
-            MainClassBuildItem mainClassBuildItem) throws Exception {
+            MainClassBuildItem mainClassBuildItem, JarAssemblyTasks tasks) throws Exception {
 
         boolean rebuild = outputTargetBuildItem.isRebuild();
 
@@ -597,49 +599,22 @@ public class JarResultBuildStep {
         List<Path> parentFirst = new ArrayList<>();
         //we process in order of priority
         //transformed classes first
+        Path transformedZip = null;
         if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
-            Path transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
+            transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
             jars.add(transformedZip);
-            try (FileSystem out = ZipUtils.newZip(transformedZip)) {
-                for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
-                        .getTransformedClassesByJar().values()) {
-                    for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
-                        Path target = out.getPath(transformed.getFileName());
-                        if (transformed.getData() != null) {
-                            if (target.getParent() != null) {
-                                Files.createDirectories(target.getParent());
-                            }
-                            Files.write(target, transformed.getData());
-                        }
-                    }
-                }
-            }
-            if (fernflowerJar != null) {
-                wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, transformedZip);
-            }
+            Path target = transformedZip;
+            tasks.submit(() -> writeTransformedClasses(target, transformedClasses, packageConfig));
         }
         //now generated classes and resources
         Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
         jars.add(generatedZip);
-        try (FileSystem out = ZipUtils.newZip(generatedZip)) {
-            for (GeneratedClassBuildItem i : generatedClasses) {
-                String fileName = i.getName().replace('.', '/') + ".class";
-                Path target = out.getPath(fileName);
-                if (target.getParent() != null) {
-                    Files.createDirectories(target.getParent());
-                }
-                Files.write(target, i.getClassData());
-            }
-
-            for (GeneratedResourceBuildItem i : generatedResources) {
-                Path target = out.getPath(i.getName());
-                if (target.getParent() != null) {
-                    Files.createDirectories(target.getParent());
-                }
-                Files.write(target, i.getClassData());
-            }
-        }
+        tasks.submit(() -> writeGeneratedClasses(generatedZip, generatedClasses, generatedResources, packageConfig));
         if (fernflowerJar != null) {
+            tasks.await();
+            if (transformedZip != null) {
+                wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, transformedZip);
+            }
             wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, generatedZip);
         }
 
@@ -655,11 +630,13 @@ public class JarResultBuildStep {
         if (!rebuild) {
             Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
             packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
-            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
-                for (Path root : applicationArchivesBuildItem.getRootArchive().getRootDirs()) {
-                    copyFiles(root, runnerZipFs, null, finalIgnoredEntries);
+            tasks.submit(() -> {
+                try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+                    for (Path root : applicationArchivesBuildItem.getRootArchive().getRootDirs()) {
+                        copyFiles(root, runnerZipFs, null, finalIgnoredEntries);
+                    }
                 }
-            }
+            });
         }
         final Set<AppArtifactKey> parentFirstKeys = getParentFirstKeys(curateOutcomeBuildItem, classLoadingConfig);
         StringBuilder classPath = new StringBuilder();
@@ -669,7 +646,7 @@ public class JarResultBuildStep {
                 jars.addAll(appDep.getArtifact().getPaths().toList());
             } else {
                 copyDependency(parentFirstKeys, outputTargetBuildItem, copiedArtifacts, mainLib, baseLib, jars, true,
-                        classPath, appDep, transformedClasses, removed);
+                        classPath, appDep, transformedClasses, removed, tasks);
             }
             if (parentFirstKeys.contains(appDep.getArtifact().getKey())) {
                 parentFirst.addAll(appDep.getArtifact().getPaths().toList());
@@ -702,6 +679,8 @@ public class JarResultBuildStep {
             nonExistentResources.add(MP_CONFIG_FILE);
         }
 
+        //the jars are indexed when the application is serialized, they all need to be written by now
+        tasks.await();
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
@@ -741,8 +720,9 @@ public class JarResultBuildStep {
                 for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getFullDeploymentDeps()) {
                     copyDependency(parentFirstKeys, outputTargetBuildItem, copiedArtifacts, deploymentLib, baseLib, jars,
                             false, classPath,
-                            appDep, new TransformedClassesBuildItem(Collections.emptyMap()), removed); //we don't care about transformation here, so just pass in an empty item
+                            appDep, new TransformedClassesBuildItem(Collections.emptyMap()), removed, tasks); //we don't care about transformation here, so just pass in an empty item
                 }
+                tasks.await();
 
                 Map<AppArtifactKey, List<String>> relativePaths = new HashMap<>();
                 for (Map.Entry<AppArtifactKey, List<Path>> e : copiedArtifacts.entrySet()) {
@@ -891,7 +871,7 @@ public class JarResultBuildStep {
     private void copyDependency(Set<AppArtifactKey> parentFirstArtifacts, OutputTargetBuildItem outputTargetBuildItem,
             Map<AppArtifactKey, List<Path>> runtimeArtifacts, Path libDir, Path baseLib, List<Path> jars,
             boolean allowParentFirst, StringBuilder classPath, AppDependency appDep,
-            TransformedClassesBuildItem transformedClasses, Set<AppArtifactKey> removedDeps)
+            TransformedClassesBuildItem transformedClasses, Set<AppArtifactKey> removedDeps, JarAssemblyTasks tasks)
             throws IOException {
         final AppArtifact depArtifact = appDep.getArtifact();
 
@@ -920,7 +900,7 @@ public class JarResultBuildStep {
                 // This case can happen when we are building a jar from inside the Quarkus repository
                 // and Quarkus Bootstrap's localProjectDiscovery has been set to true. In such a case
                 // the non-jar dependencies are the Quarkus dependencies picked up on the file system
-                packageClasses(resolvedDep, targetPath);
+                tasks.submit(() -> packageClasses(resolvedDep, targetPath));
             } else {
                 Set<TransformedClassesBuildItem.TransformedClass> transformedFromThisArchive = transformedClasses
                         .getTransformedClassesByJar().get(resolvedDep);
@@ -933,15 +913,68 @@ public class JarResultBuildStep {
                     }
                 }
                 if (removedFromThisArchive.isEmpty()) {
-                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    //unchanged dependencies are copied as is, without being extracted and compressed again
+                    tasks.submit(() -> Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING));
                 } else {
                     //we have removed classes, we need to handle them correctly
-                    filterZipFile(resolvedDep, targetPath, removedFromThisArchive);
+                    tasks.submit(() -> filterZipFile(resolvedDep, targetPath, removedFromThisArchive));
                 }
             }
         }
     }
 
+    private void writeTransformedClasses(Path transformedZip, TransformedClassesBuildItem transformedClasses,
+            PackageConfig packageConfig) throws IOException {
+        try (FileSystem out = newBytecodeZip(transformedZip, packageConfig)) {
+            for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
+                    .getTransformedClassesByJar().values()) {
+                for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
+                    Path target = out.getPath(transformed.getFileName());
+                    if (transformed.getData() != null) {
+                        if (target.getParent() != null) {
+                            Files.createDirectories(target.getParent());
+                        }
+                        Files.write(target, transformed.getData());
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeGeneratedClasses(Path generatedZip, List<GeneratedClassBuildItem> generatedClasses,
+            List<GeneratedResourceBuildItem> generatedResources, PackageConfig packageConfig) throws IOException {
+        try (FileSystem out = newBytecodeZip(generatedZip, packageConfig)) {
+            for (GeneratedClassBuildItem i : generatedClasses) {
+                String fileName = i.getName().replace('.', '/') + ".class";
+                Path target = out.getPath(fileName);
+                if (target.getParent() != null) {
+                    Files.createDirectories(target.getParent());
+                }
+                Files.write(target, i.getClassData());
+            }
+
+            for (GeneratedResourceBuildItem i : generatedResources) {
+                Path target = out.getPath(i.getName());
+                if (target.getParent() != null) {
+                    Files.createDirectories(target.getParent());
+                }
+                Files.write(target, i.getClassData());
+            }
+        }
+    }
+
+    private static FileSystem newBytecodeZip(Path zipFile, PackageConfig packageConfig) throws IOException {
+        if (packageConfig.compressGeneratedBytecode) {
+            return ZipUtils.newZip(zipFile);
+        }
+        //the zip file system stores the entries without compressing them when asked to
+        Map<String, String> env = new HashMap<>();
+        env.put("create", "true");
+        env.put("noCompression", "true");
+        Files.createDirectories(zipFile.getParent());
+        return ZipUtils.newFileSystem(ZipUtils.toZipUri(zipFile), env);
+    }
+
     private void packageClasses(Path resolvedDep, final Path targetPath) throws IOException {
         try (FileSystem runnerZipFs = ZipUtils.newZip(targetPath)) {
             Files.walkFileTree(resolvedDep, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
@@ -0,0 +1,97 @@
+package io.quarkus.deployment.steps;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Content addressed cache of transformed classes, shared between builds.
+ * <p>
+ * An entry is keyed by the hash of the original class bytes, the cache keys of the transformers applied to the class
+ * and the Quarkus version. Failing to read or write the cache is not fatal.
+ */
+final class ClassTransformationCache {
+
+    private static final Logger log = Logger.getLogger(ClassTransformationCache.class);
+
+    private final Path directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    ClassTransformationCache(Path directory) {
+        this.directory = directory;
+    }
+
+    String key(String className, byte[] classData, List<String> transformerKeys) {
+        StringBuilder key = new StringBuilder(className).append('\n')
+                .append(Version.getVersion()).append('\n')
+                .append(HashUtil.sha256(classData));
+        for (String transformerKey : transformerKeys) {
+            key.append('\n').append(transformerKey);
+        }
+        return HashUtil.sha256(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    byte[] get(String key) {
+        Path file = file(key);
+        if (Files.isRegularFile(file)) {
+            try {
+                byte[] data = Files.readAllBytes(file);
+                hits.incrementAndGet();
+                return data;
+            } catch (IOException e) {
+                log.debugf(e, "Unable to read the cached class %s", file);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    void put(String key, byte[] data) {
+        Path file = file(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // concurrent builds may share the cache, so the class is moved in place once complete
+            tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+            Files.write(tmp, data);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the cached class %s", file);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getMisses() {
+        return misses.get();
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".class");
+    }
+}
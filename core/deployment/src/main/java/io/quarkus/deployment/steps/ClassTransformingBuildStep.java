@@ -40,8 +40,10 @@ import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RemovedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.configuration.TransformationCacheConfig;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.LaunchMode;
 
 public class ClassTransformingBuildStep {
@@ -66,7 +68,8 @@ public class ClassTransformingBuildStep {
     TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems,
             ApplicationArchivesBuildItem appArchives, LiveReloadBuildItem liveReloadBuildItem,
             LaunchModeBuildItem launchModeBuildItem, ClassLoadingConfig classLoadingConfig,
-            CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems)
+            CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
+            TransformationCacheConfig transformationCacheConfig, OutputTargetBuildItem outputTarget)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources.isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -78,6 +81,7 @@ public class ClassTransformingBuildStep {
         Map<String, Set<String>> constScanning = new HashMap<>();
         Set<String> eager = new HashSet<>();
         Set<String> nonCacheable = new HashSet<>();
+        Set<String> nonPersistable = new HashSet<>();
         for (BytecodeTransformerBuildItem i : bytecodeTransformerBuildItems) {
             bytecodeTransformers.computeIfAbsent(i.getClassToTransform(), (h) -> new ArrayList<>())
                     .add(i);
@@ -93,7 +97,11 @@ public class ClassTransformingBuildStep {
             if (!i.isCacheable()) {
                 nonCacheable.add(i.getClassToTransform());
             }
+            if (i.getCacheKey() == null) {
+                nonPersistable.add(i.getClassToTransform());
+            }
         }
+        final ClassTransformationCache persistentCache = createPersistentCache(transformationCacheConfig, outputTarget);
         QuarkusClassLoader cl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
@@ -176,6 +184,10 @@ public class ClassTransformingBuildStep {
                     List<BiFunction<String, byte[], byte[]>> preVisitFunctions = entry.getValue().stream()
                             .map(BytecodeTransformerBuildItem::getInputTransformer).filter(Objects::nonNull)
                             .collect(Collectors.toList());
+                    List<String> cacheKeys = persistentCache != null && !nonPersistable.contains(className)
+                            ? entry.getValue().stream().map(BytecodeTransformerBuildItem::getCacheKey)
+                                    .collect(Collectors.toList())
+                            : null;
                     transformedToArchive.put(classFileName, jar);
                     transformed.add(executorPool.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
                         @Override
@@ -190,7 +202,19 @@ public class ClassTransformingBuildStep {
                                         return null;
                                     }
                                 }
-                                byte[] data = transformClass(className, visitors, classData, preVisitFunctions);
+                                byte[] data;
+                                if (cacheKeys != null) {
+                                    String key = persistentCache.key(className, classData, cacheKeys);
+                                    data = persistentCache.get(key);
+                                    if (data == null) {
+                                        data = transformClass(className, visitors, classData, preVisitFunctions);
+                                        if (data != null) {
+                                            persistentCache.put(key, data);
+                                        }
+                                    }
+                                } else {
+                                    data = transformClass(className, visitors, classData, preVisitFunctions);
+                                }
                                 TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
                                         className, data,
                                         classFileName, eager.contains(className));
@@ -222,9 +246,30 @@ public class ClassTransformingBuildStep {
                 }
             }
         }
+        if (persistentCache != null) {
+            int lookups = persistentCache.getHits() + persistentCache.getMisses();
+            if (lookups > 0) {
+                log.infof("Transformation cache: %d of %d cacheable classes reused (%d%%)", persistentCache.getHits(),
+                        lookups, persistentCache.getHits() * 100 / lookups);
+            }
+        }
         return new TransformedClassesBuildItem(transformedClassesByJar);
     }
 
+    private static ClassTransformationCache createPersistentCache(TransformationCacheConfig transformationCacheConfig,
+            OutputTargetBuildItem outputTarget) {
+        if (!transformationCacheConfig.enabled) {
+            return null;
+        }
+        if (transformationCacheConfig.directory.isPresent()) {
+            return new ClassTransformationCache(transformationCacheConfig.directory.get());
+        }
+        if (outputTarget.getOutputDirectory() != null) {
+            return new ClassTransformationCache(outputTarget.getOutputDirectory().resolve("quarkus-transformation-cache"));
+        }
+        return null;
+    }
+
     private void handleRemovedResources(ClassLoadingConfig classLoadingConfig, CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar,
             List<RemovedResourceBuildItem> removedResourceBuildItems) {
@@ -8,6 +8,7 @@ import static java.util.stream.Collectors.toSet;
 
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
@@ -25,6 +27,7 @@ import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.IsNormal;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -35,17 +38,21 @@ import io.quarkus.deployment.builditem.ConfigClassBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.StaticInitConfigSourceFactoryBuildItem;
 import io.quarkus.deployment.builditem.StaticInitConfigSourceProviderBuildItem;
 import io.quarkus.deployment.builditem.SuppressNonRuntimeConfigChangedWarningBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
 import io.quarkus.deployment.configuration.definition.ClassDefinition;
 import io.quarkus.deployment.configuration.definition.RootDefinition;
+import io.quarkus.deployment.configuration.matching.ConfigPatternMap;
+import io.quarkus.deployment.configuration.matching.Container;
 import io.quarkus.deployment.logging.LoggingSetupBuildItem;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
@@ -53,6 +60,7 @@ import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.StaticInitSafe;
 import io.quarkus.runtime.configuration.ConfigChangeRecorder;
 import io.quarkus.runtime.configuration.ConfigurationRuntimeConfig;
+import io.quarkus.runtime.configuration.EnvNameMapping;
 import io.quarkus.runtime.configuration.RuntimeOverrideConfigSource;
 import io.smallrye.config.ConfigMappings.ConfigClassWithPrefix;
 import io.smallrye.config.ConfigSourceFactory;
@@ -93,7 +101,8 @@ public class ConfigGenerationBuildStep {
             List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders,
             List<StaticInitConfigSourceProviderBuildItem> staticInitConfigSourceProviders,
             List<StaticInitConfigSourceFactoryBuildItem> staticInitConfigSourceFactories,
-            List<ConfigClassBuildItem> configClasses)
+            List<ConfigClassBuildItem> configClasses,
+            StartupConfig startupConfig)
             throws IOException {
 
         if (liveReloadBuildItem.isLiveReload()) {
@@ -136,6 +145,7 @@ public class ConfigGenerationBuildStep {
                 .setRuntimeConfigSourceProviders(discoveredConfigSourceProviders)
                 .setRuntimeConfigSourceFactories(discoveredConfigSourceFactories)
                 .setConfigMappings(getConfigClassesWithPrefix(configClasses))
+                .setStartupConfigSnapshot(startupConfig.configSnapshot)
                 .build()
                 .run();
     }
@@ -186,6 +196,41 @@ public class ConfigGenerationBuildStep {
         recorder.handleConfigChange(configurationConfig, values);
     }
 
+    /**
+     * Generates the environment variable names of the properties of the config roots read at run time, so that the
+     * environment variables can be mapped to the property names without matching them against every name.
+     */
+    @BuildStep
+    void generateEnvNameMapping(ConfigurationBuildItem configItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource) {
+        BuildTimeConfigurationReader.ReadResult readResult = configItem.getReadResult();
+        Set<String> names = new TreeSet<>();
+        collectPropertyNames(readResult.getBuildTimeRunTimePatternMap(), "quarkus", names);
+        collectPropertyNames(readResult.getBootstrapPatternMap(), "quarkus", names);
+        collectPropertyNames(readResult.getRunTimePatternMap(), "quarkus", names);
+
+        StringBuilder mapping = new StringBuilder();
+        for (String name : names) {
+            mapping.append(EnvNameMapping.toEnvName(name)).append('=').append(name).append('\n');
+        }
+        generatedResource.produce(new GeneratedResourceBuildItem(EnvNameMapping.RESOURCE,
+                mapping.toString().getBytes(StandardCharsets.UTF_8)));
+        nativeImageResource.produce(new NativeImageResourceBuildItem(EnvNameMapping.RESOURCE));
+    }
+
+    private static void collectPropertyNames(ConfigPatternMap<Container> patternMap, String prefix, Set<String> names) {
+        if (patternMap == null) {
+            return;
+        }
+        if (patternMap.getMatched() != null) {
+            names.add(prefix);
+        }
+        for (String childName : patternMap.childNames()) {
+            collectPropertyNames(patternMap.getChild(childName), prefix + "." + childName, names);
+        }
+    }
+
     @BuildStep(onlyIfNot = { IsNormal.class })
     public void setupConfigOverride(
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
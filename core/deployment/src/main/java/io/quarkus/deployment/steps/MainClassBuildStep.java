@@ -31,6 +31,7 @@ import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
@@ -73,6 +74,7 @@ import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskRunner;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ProfileManager;
@@ -119,7 +121,8 @@ public class MainClassBuildStep {
             LaunchModeBuildItem launchMode,
             LiveReloadBuildItem liveReloadBuildItem,
             ApplicationInfoBuildItem applicationInfo,
-            Optional<AppCDSRequestedBuildItem> appCDSRequested) {
+            Optional<AppCDSRequestedBuildItem> appCDSRequested,
+            StartupConfig startupConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -267,9 +270,13 @@ public class MainClassBuildStep {
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    loaders, gizmoOutput, startupContext, tryBlock);
+        if (startupConfig.parallelInit) {
+            writeParallelRecordedBytecode(mainMethod, substitutions, loaders, gizmoOutput, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, loaders, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -440,10 +447,83 @@ public class MainClassBuildStep {
             List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String startupTaskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                loaders, gizmoOutput);
+        if (startupTaskClassName == null) {
             return;
         }
 
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(startupTaskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Runs the recorded startup tasks through {@link StartupTaskRunner}, so that a task only waits for the tasks
+     * recorded by the build steps its own build step depends on. The tasks without known dependencies, such as the
+     * config setup tasks, are barriers: they wait for all the previous tasks and all the following tasks wait for them.
+     */
+    private void writeParallelRecordedBytecode(List<MainBytecodeRecorderBuildItem> mainMethod,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        // the items are in the order they were produced, so a task can only depend on the preceding ones
+        List<MainBytecodeRecorderBuildItem> holders = new ArrayList<>();
+        List<String> startupTaskClassNames = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String startupTaskClassName = writeStartupTask(holder.getBytecodeRecorder(),
+                    holder.getGeneratedStartupContextClassName(), substitutions, loaders, gizmoOutput);
+            if (startupTaskClassName != null) {
+                holders.add(holder);
+                startupTaskClassNames.add(startupTaskClassName);
+            }
+        }
+
+        ResultHandle runner = bytecodeCreator.newInstance(ofConstructor(StartupTaskRunner.class, StartupContext.class),
+                startupContext);
+        for (int i = 0; i < holders.size(); i++) {
+            MainBytecodeRecorderBuildItem holder = holders.get(i);
+            List<Integer> taskDependencies = new ArrayList<>();
+            for (int j = i - 1; j >= 0; j--) {
+                MainBytecodeRecorderBuildItem previous = holders.get(j);
+                if (isBarrier(previous)) {
+                    // the tasks before the barrier are dependencies of the barrier already
+                    taskDependencies.add(j);
+                    break;
+                }
+                if (isBarrier(holder) || holder.getBuildStepDependencies().contains(previous.getBuildStep())) {
+                    taskDependencies.add(j);
+                }
+            }
+            ResultHandle taskDependenciesHandle = bytecodeCreator.newArray(int.class, taskDependencies.size());
+            for (int j = 0; j < taskDependencies.size(); j++) {
+                bytecodeCreator.writeArrayValue(taskDependenciesHandle, j,
+                        bytecodeCreator.load(taskDependencies.get(j).intValue()));
+            }
+            bytecodeCreator.invokeVirtualMethod(
+                    ofMethod(StartupTaskRunner.class, "addTask", int.class, StartupTask.class, int[].class), runner,
+                    bytecodeCreator.newInstance(ofConstructor(startupTaskClassNames.get(i))), taskDependenciesHandle);
+        }
+        bytecodeCreator.invokeVirtualMethod(ofMethod(StartupTaskRunner.class, "run", void.class), runner);
+    }
+
+    private static boolean isBarrier(MainBytecodeRecorderBuildItem holder) {
+        return holder.getBuildStep() == null || holder.getBuildStepDependencies() == null;
+    }
+
+    /**
+     * @return the name of the startup task class, or {@code null} if there is nothing to run
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
@@ -455,11 +535,7 @@ public class MainClassBuildStep {
             recorder.writeBytecode(gizmoOutput);
         }
 
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
@@ -11,6 +11,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ThreadFactoryBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.ThreadPoolConfig;
 
@@ -32,6 +33,12 @@ public class ThreadPoolSetup {
                         contextBuildItem.map(ContextHandlerBuildItem::contextHandler).orElse(null)));
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerMetrics(ExecutorRecorder recorder, ThreadPoolConfig threadPoolConfig) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(threadPoolConfig));
+    }
+
     @BuildStep
     RuntimeInitializedClassBuildItem registerClasses() {
         // make sure that the config provider gets initialized only at run time
@@ -0,0 +1,127 @@
+package io.quarkus.deployment.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+
+/**
+ * Computes a fingerprint of the inputs a build step declares, so that its results can be reused on a live reload
+ * when none of them changed.
+ * <p>
+ * Classes contribute their structure, as seen by Jandex, and not their bytecode. A class whose method bodies
+ * changed has the same fingerprint, which is what makes the results of the steps only looking at the index reusable.
+ *
+ * @see LiveReloadBuildItem#computeIfUnchanged(String, String, java.util.function.Supplier)
+ */
+public final class InputsFingerprint {
+
+    private static final byte[] SEPARATOR = { 0 };
+
+    private final MessageDigest digest;
+
+    public InputsFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public InputsFingerprint add(byte[] value) {
+        digest.update(value);
+        digest.update(SEPARATOR);
+        return this;
+    }
+
+    public InputsFingerprint add(Object value) {
+        return add(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the path and the content of the given file.
+     */
+    public InputsFingerprint addFile(Path file) {
+        add(file);
+        try {
+            return add(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds the structure of the given class: its declaration, its members and all its annotations.
+     */
+    public InputsFingerprint addClass(ClassInfo clazz) {
+        add(clazz.name());
+        add(clazz.flags());
+        add(clazz.superClassType());
+        add(clazz.interfaceTypes());
+        add(clazz.typeParameters());
+        for (FieldInfo field : clazz.fields()) {
+            add(field.flags());
+            add(field);
+        }
+        for (MethodInfo method : clazz.methods()) {
+            add(method.flags());
+            add(method);
+            List<Type> parameters = method.parameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                add(method.parameterName(i));
+            }
+            add(method.exceptions());
+            add(method.defaultValue());
+        }
+        List<Map.Entry<DotName, List<AnnotationInstance>>> annotations = new ArrayList<>(clazz.annotations().entrySet());
+        annotations.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<DotName, List<AnnotationInstance>> entry : annotations) {
+            for (AnnotationInstance annotation : entry.getValue()) {
+                add(annotation.target());
+                add(annotation);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the structure of all the classes known to the given index.
+     */
+    public InputsFingerprint addIndex(IndexView index) {
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(ClassInfo::name));
+        for (ClassInfo clazz : classes) {
+            addClass(clazz);
+        }
+        return this;
+    }
+
+    /**
+     * @return the fingerprint of all the inputs added so far
+     */
+    public String compute() {
+        byte[] hash = digest.digest();
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1, 3));
+        }
+        return sb.toString();
+    }
+}
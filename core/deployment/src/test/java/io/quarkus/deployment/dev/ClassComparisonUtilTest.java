@@ -0,0 +1,87 @@
+package io.quarkus.deployment.dev;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+public class ClassComparisonUtilTest {
+
+    @Test
+    public void testTypeAnnotations() {
+        assertTrue(ClassComparisonUtil.isSameStructure(classInfo(TypeAnnotated.class), classInfo(TypeAnnotated.class)));
+        assertFalse(ClassComparisonUtil.isSameStructure(classInfo(TypeAnnotated.class),
+                classInfo(OtherTypeAnnotated.class)));
+    }
+
+    @Test
+    public void testSuperClass() {
+        assertTrue(ClassComparisonUtil.isSameStructure(classInfo(Empty.class), classInfo(OtherEmpty.class)));
+        assertFalse(ClassComparisonUtil.isSameStructure(classInfo(Empty.class), classInfo(EmptyList.class)));
+    }
+
+    @Test
+    public void testUnknownClass() {
+        assertFalse(ClassComparisonUtil.isSameStructure(classInfo(Empty.class), null));
+    }
+
+    private static ClassInfo classInfo(Class<?> clazz) {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = ClassComparisonUtilTest.class.getClassLoader()
+                .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(stream);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        Index index = indexer.complete();
+        return index.getClassByName(DotName.createSimple(clazz.getName()));
+    }
+
+    @Target(ElementType.TYPE_USE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Checked {
+
+        String value() default "";
+    }
+
+    public static class TypeAnnotated {
+
+        Map<@Checked String, @Checked Integer> values;
+
+        String join(List<@Checked String> first, @Checked("second") String second) {
+            return first + second;
+        }
+    }
+
+    public static class OtherTypeAnnotated {
+
+        Map<@Checked String, @Checked Integer> values;
+
+        String join(List<@Checked String> first, @Checked("other") String second) {
+            return first + second;
+        }
+    }
+
+    public static class Empty {
+    }
+
+    public static class OtherEmpty {
+    }
+
+    public static class EmptyList extends ArrayList<String> {
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexingUtilTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPersistentCache() throws IOException {
+        Path cacheDir = tempDir.resolve("cache");
+        Path jar = tempDir.resolve("test-1.0.jar");
+        writeJar(jar, IndexingUtilTest.class);
+
+        Index index = IndexingUtil.indexJar(jar, null, cacheDir);
+        assertNotNull(index.getClassByName(DotName.createSimple(IndexingUtilTest.class.getName())));
+        List<Path> cached = cachedIndexes(cacheDir);
+        assertEquals(1, cached.size());
+        long lastModified = Files.getLastModifiedTime(cached.get(0)).toMillis();
+
+        // same content, the cached index is used
+        index = IndexingUtil.indexJar(jar, null, cacheDir);
+        assertNotNull(index.getClassByName(DotName.createSimple(IndexingUtilTest.class.getName())));
+        assertEquals(cached, cachedIndexes(cacheDir));
+        assertEquals(lastModified, Files.getLastModifiedTime(cached.get(0)).toMillis());
+
+        // different content, the jar is indexed again
+        writeJar(jar, IndexCacheConfig.class);
+        index = IndexingUtil.indexJar(jar, null, cacheDir);
+        assertNull(index.getClassByName(DotName.createSimple(IndexingUtilTest.class.getName())));
+        assertNotNull(index.getClassByName(DotName.createSimple(IndexCacheConfig.class.getName())));
+        assertEquals(2, cachedIndexes(cacheDir).size());
+    }
+
+    private static List<Path> cachedIndexes(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void writeJar(Path jar, Class<?> clazz) throws IOException {
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream classBytes = clazz.getClassLoader().getResourceAsStream(resource)) {
+            jarOut.putNextEntry(new JarEntry(resource));
+            classBytes.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassTransformationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCache() {
+        byte[] original = { 1, 2, 3 };
+        byte[] transformed = { 4, 5, 6 };
+
+        ClassTransformationCache cache = new ClassTransformationCache(tempDir);
+        String key = cache.key("org.acme.Foo", original, List.of("transformer:1"));
+        assertNull(cache.get(key));
+        cache.put(key, transformed);
+
+        // a following build
+        cache = new ClassTransformationCache(tempDir);
+        assertEquals(key, cache.key("org.acme.Foo", original, List.of("transformer:1")));
+        assertArrayEquals(transformed, cache.get(key));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        assertNotEquals(key, cache.key("org.acme.Foo", new byte[] { 1, 2 }, List.of("transformer:1")));
+        assertNotEquals(key, cache.key("org.acme.Foo", original, List.of("transformer:2")));
+        assertNotEquals(key, cache.key("org.acme.Bar", original, List.of("transformer:1")));
+    }
+}
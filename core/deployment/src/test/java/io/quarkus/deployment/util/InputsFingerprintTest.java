@@ -0,0 +1,69 @@
+package io.quarkus.deployment.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+
+public class InputsFingerprintTest {
+
+    @Test
+    public void testMethodBodyIgnored() throws IOException {
+        String first = new InputsFingerprint().addIndex(index(1, false)).compute();
+        assertEquals(first, new InputsFingerprint().addIndex(index(2, false)).compute());
+        assertNotEquals(first, new InputsFingerprint().addIndex(index(1, true)).compute());
+    }
+
+    @Test
+    public void testInputs() {
+        assertEquals(new InputsFingerprint().add("foo").add("bar").compute(),
+                new InputsFingerprint().add("foo").add("bar").compute());
+        assertNotEquals(new InputsFingerprint().add("foo").add("bar").compute(),
+                new InputsFingerprint().add("foob").add("ar").compute());
+    }
+
+    @Test
+    public void testComputeIfUnchanged() {
+        Map<Class<?>, Object> context = new HashMap<>();
+        AtomicInteger computations = new AtomicInteger();
+        LiveReloadBuildItem first = new LiveReloadBuildItem(false, null, context, null);
+        assertEquals(1, (int) first.computeIfUnchanged("step", "a", computations::incrementAndGet));
+
+        LiveReloadBuildItem reload = new LiveReloadBuildItem(true, null, context, null);
+        assertEquals(1, (int) reload.computeIfUnchanged("step", "a", computations::incrementAndGet));
+        assertEquals(2, (int) reload.computeIfUnchanged("step", "b", computations::incrementAndGet));
+        assertEquals(3, (int) reload.computeIfUnchanged("other", "b", computations::incrementAndGet));
+    }
+
+    private static Index index(int value, boolean additionalMethod) throws IOException {
+        Map<String, byte[]> classes = new HashMap<>();
+        try (ClassCreator creator = ClassCreator.builder().className("io.quarkus.test.Fingerprinted")
+                .classOutput(classes::put).build()) {
+            try (MethodCreator method = creator.getMethodCreator("value", int.class)) {
+                method.returnValue(method.load(value));
+            }
+            if (additionalMethod) {
+                try (MethodCreator method = creator.getMethodCreator("other", int.class)) {
+                    method.returnValue(method.load(value));
+                }
+            }
+        }
+        Indexer indexer = new Indexer();
+        for (byte[] data : classes.values()) {
+            indexer.index(new ByteArrayInputStream(data));
+        }
+        return indexer.complete();
+    }
+}
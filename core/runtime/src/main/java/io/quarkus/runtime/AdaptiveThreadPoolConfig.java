@@ -0,0 +1,31 @@
+package io.quarkus.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class AdaptiveThreadPoolConfig {
+
+    /**
+     * Whether the maximum number of threads should be adjusted to the load. The pool starts with the greater of the
+     * core threads and the number of available processors, grows when tasks wait longer than
+     * {@link #targetQueueLatency} in the queue and shrinks again when most threads are idle. It never exceeds the
+     * configured max threads.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The average time a task may wait in the queue before the pool grows.
+     */
+    @ConfigItem(defaultValue = "0.01S")
+    public Duration targetQueueLatency;
+
+    /**
+     * How often the pool size is adjusted.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration interval;
+}
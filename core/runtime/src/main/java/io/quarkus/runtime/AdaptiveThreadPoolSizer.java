@@ -0,0 +1,65 @@
+package io.quarkus.runtime;
+
+import java.time.Duration;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+/**
+ * Periodically adjusts the maximum size of the core thread pool, within the configured bounds.
+ * <p>
+ * The pool doubles when tasks waited longer than the target latency on average, or are still waiting in the queue,
+ * while most threads were busy. The wait time is only known once a task starts, so the queued tasks make the pool
+ * grow even if every thread is blocked and no task starts at all. The pool shrinks by an eighth when the queue is
+ * empty, tasks barely waited and less than half of the threads were busy. Threads that are no longer needed exit once
+ * the keep alive time elapses.
+ */
+final class AdaptiveThreadPoolSizer implements Runnable {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
+
+    private static final Runnable NO_OP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private final EnhancedQueueExecutor executor;
+    private final ThreadPoolStatistics statistics;
+    private final int minimum;
+    private final int maximum;
+    private final long targetQueueLatency;
+
+    AdaptiveThreadPoolSizer(EnhancedQueueExecutor executor, ThreadPoolStatistics statistics, int minimum, int maximum,
+            Duration targetQueueLatency) {
+        this.executor = executor;
+        this.statistics = statistics;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.targetQueueLatency = targetQueueLatency.toNanos();
+    }
+
+    @Override
+    public void run() {
+        long averageQueueWait = statistics.resetAverageQueueWait();
+        int current = executor.getMaximumPoolSize();
+        double blockingRatio = (double) statistics.getActiveThreads() / current;
+        int queueSize = executor.getQueueSize();
+        int next = current;
+        if ((averageQueueWait > targetQueueLatency || queueSize > 0) && blockingRatio >= 0.5) {
+            next = Math.min(maximum, current * 2);
+        } else if (averageQueueWait <= targetQueueLatency / 2 && queueSize == 0 && blockingRatio < 0.5) {
+            next = Math.max(minimum, current - Math.max(1, current / 8));
+        }
+        if (next != current) {
+            log.debugf(
+                    "Resizing the thread pool from %d to %d threads, average queue wait: %d ns, queued tasks: %d, blocking ratio: %.2f",
+                    current, next, averageQueueWait, queueSize, blockingRatio);
+            executor.setMaximumPoolSize(next);
+            // new threads are only started when a task is submitted, so the tasks already queued would keep waiting
+            for (int i = Math.min(queueSize, next - current); i > 0; i--) {
+                executor.execute(NO_OP);
+            }
+        }
+    }
+}
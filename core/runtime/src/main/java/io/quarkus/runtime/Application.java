@@ -11,6 +11,7 @@ import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.dev.appstate.ApplicationStateNotification;
+import io.quarkus.runtime.configuration.StartupConfigSnapshotInterceptor;
 import io.quarkus.runtime.shutdown.ShutdownRecorder;
 
 /**
@@ -117,6 +118,9 @@ public abstract class Application implements Closeable {
                 ApplicationStateNotification.notifyStartupFailed(t);
             }
             throw t;
+        } finally {
+            // lookups see the current value of the config sources from now on
+            StartupConfigSnapshotInterceptor.release();
         }
         stateLock.lock();
         try {
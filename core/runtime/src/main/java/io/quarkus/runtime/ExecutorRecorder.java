@@ -5,8 +5,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.ContextHandler;
@@ -16,6 +21,7 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
  *
@@ -29,10 +35,23 @@ public class ExecutorRecorder {
     }
 
     private static volatile Executor current;
+    private static volatile EnhancedQueueExecutor currentUnderlying;
+    private static volatile ThreadPoolStatistics statistics;
+    private static volatile MetricsFactory.TimeRecorder queueWaitRecorder;
 
     public ExecutorService setupRunTime(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
             LaunchMode launchMode, ThreadFactory threadFactory, ContextHandler<Object> contextHandler) {
-        final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig, threadFactory, contextHandler);
+        final ThreadPoolStatistics statistics = threadPoolConfig.metricsEnabled || threadPoolConfig.adaptive.enabled
+                ? new ThreadPoolStatistics(contextHandler)
+                : null;
+        if (statistics != null && queueWaitRecorder != null) {
+            statistics.setQueueWaitRecorder(queueWaitRecorder);
+        }
+        final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig, threadFactory, contextHandler,
+                statistics);
+        if (threadPoolConfig.adaptive.enabled) {
+            scheduleAdaptiveSizing(shutdownContext, threadPoolConfig, underlying, statistics);
+        }
         if (launchMode == LaunchMode.DEVELOPMENT) {
             shutdownContext.addLastShutdownTask(new Runnable() {
                 @Override
@@ -43,7 +62,9 @@ public class ExecutorRecorder {
                         thread.start();
                     }
                     current = null;
-
+                    currentUnderlying = null;
+                    ExecutorRecorder.statistics = null;
+                    queueWaitRecorder = null;
                 }
             });
         } else {
@@ -54,9 +75,103 @@ public class ExecutorRecorder {
             underlying.prestartAllCoreThreads();
         }
         current = underlying;
+        currentUnderlying = underlying;
+        ExecutorRecorder.statistics = statistics;
         return underlying;
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics(ThreadPoolConfig threadPoolConfig) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!threadPoolConfig.metricsEnabled) {
+                    return;
+                }
+                // the pool may not be created yet, the values are read when the metrics are collected
+                metricsFactory.builder("thread.pool.size")
+                        .description("Number of threads in the core thread pool.")
+                        .buildGauge(poolValue(EnhancedQueueExecutor::getPoolSize));
+                metricsFactory.builder("thread.pool.max.size")
+                        .description("Maximum number of threads of the core thread pool, adjusted by the adaptive sizing.")
+                        .buildGauge(poolValue(EnhancedQueueExecutor::getMaximumPoolSize));
+                metricsFactory.builder("thread.pool.queue.size")
+                        .description("Number of tasks waiting in the queue of the core thread pool.")
+                        .buildGauge(poolValue(EnhancedQueueExecutor::getQueueSize));
+                metricsFactory.builder("thread.pool.active")
+                        .description("Number of threads of the core thread pool running a task.")
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                ThreadPoolStatistics stats = statistics;
+                                return stats == null ? 0 : stats.getActiveThreads();
+                            }
+                        });
+                metricsFactory.builder("thread.pool.rejected")
+                        .description("Number of tasks rejected by the core thread pool.")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                ThreadPoolStatistics stats = statistics;
+                                return stats == null ? 0 : stats.getRejectedTasks();
+                            }
+                        });
+                MetricsFactory.TimeRecorder queueWait = metricsFactory.builder("thread.pool.queue.wait")
+                        .description("Time tasks waited in the queue of the core thread pool before running.")
+                        .buildTimer();
+                queueWaitRecorder = queueWait;
+                ThreadPoolStatistics stats = statistics;
+                if (stats != null) {
+                    stats.setQueueWaitRecorder(queueWait);
+                }
+            }
+        };
+    }
+
+    private static Supplier<Number> poolValue(ToIntFunction<EnhancedQueueExecutor> function) {
+        return new Supplier<Number>() {
+            @Override
+            public Number get() {
+                EnhancedQueueExecutor executor = currentUnderlying;
+                return executor == null ? 0 : function.applyAsInt(executor);
+            }
+        };
+    }
+
+    private static void scheduleAdaptiveSizing(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
+            EnhancedQueueExecutor executor, ThreadPoolStatistics statistics) {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "executor-thread-pool-sizer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final long interval = threadPoolConfig.adaptive.interval.toNanos();
+        scheduler.scheduleWithFixedDelay(new AdaptiveThreadPoolSizer(executor, statistics,
+                minimumPoolSize(threadPoolConfig), maximumPoolSize(threadPoolConfig),
+                threadPoolConfig.adaptive.targetQueueLatency), interval, interval, TimeUnit.NANOSECONDS);
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                scheduler.shutdownNow();
+            }
+        });
+    }
+
+    private static int maximumPoolSize(ThreadPoolConfig threadPoolConfig) {
+        return threadPoolConfig.maxThreads.orElse(Math.max(8 * ProcessorInfo.availableProcessors(), 200));
+    }
+
+    /**
+     * @return the maximum pool size the adaptive sizing starts with and never goes below
+     */
+    private static int minimumPoolSize(ThreadPoolConfig threadPoolConfig) {
+        return Math.max(threadPoolConfig.coreThreads,
+                Math.min(ProcessorInfo.availableProcessors(), maximumPoolSize(threadPoolConfig)));
+    }
+
     private static Runnable createShutdownTask(ThreadPoolConfig threadPoolConfig, EnhancedQueueExecutor executor) {
         return new Runnable() {
             @Override
@@ -139,19 +254,20 @@ public class ExecutorRecorder {
     }
 
     private static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolConfig, ThreadFactory threadFactory,
-            ContextHandler<Object> contextHandler) {
+            ContextHandler<Object> contextHandler, ThreadPoolStatistics statistics) {
         if (threadFactory == null) {
             threadFactory = new JBossThreadFactory(new ThreadGroup("executor"), Boolean.TRUE, null,
                     "executor-thread-%t", JBossExecutors.loggingExceptionHandler("org.jboss.executor.uncaught"), null);
         }
         final EnhancedQueueExecutor.Builder builder = new EnhancedQueueExecutor.Builder()
                 .setRegisterMBean(false)
-                .setHandoffExecutor(JBossExecutors.rejectingExecutor())
+                .setHandoffExecutor(statistics == null ? JBossExecutors.rejectingExecutor()
+                        : statistics.countRejections(JBossExecutors.rejectingExecutor()))
                 .setThreadFactory(JBossExecutors.resettingThreadFactory(threadFactory));
-        final int cpus = ProcessorInfo.availableProcessors();
         // run time config variables
         builder.setCorePoolSize(threadPoolConfig.coreThreads);
-        builder.setMaximumPoolSize(threadPoolConfig.maxThreads.orElse(Math.max(8 * cpus, 200)));
+        builder.setMaximumPoolSize(threadPoolConfig.adaptive.enabled ? minimumPoolSize(threadPoolConfig)
+                : maximumPoolSize(threadPoolConfig));
         if (threadPoolConfig.queueSize.isPresent()) {
             if (threadPoolConfig.queueSize.getAsInt() < 0) {
                 builder.setMaximumQueueSize(Integer.MAX_VALUE);
@@ -162,7 +278,9 @@ public class ExecutorRecorder {
         builder.setGrowthResistance(threadPoolConfig.growthResistance);
         builder.setKeepAliveTime(threadPoolConfig.keepAliveTime);
 
-        if (contextHandler != null) {
+        if (statistics != null) {
+            builder.setContextHandler(statistics);
+        } else if (contextHandler != null) {
             builder.setContextHandler(contextHandler);
         }
 
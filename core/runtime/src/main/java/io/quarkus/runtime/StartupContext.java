@@ -25,16 +25,21 @@ public class StartupContext implements Closeable {
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
-            shutdownTasks.add(runnable);
+            synchronized (shutdownTasks) {
+                shutdownTasks.add(runnable);
+            }
         }
 
         @Override
         public void addLastShutdownTask(Runnable runnable) {
-            lastShutdownTasks.add(runnable);
+            synchronized (lastShutdownTasks) {
+                lastShutdownTasks.add(runnable);
+            }
         }
     };
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    // startup tasks may run concurrently, see StartupTaskRunner
+    private final ThreadLocal<String> currentBuildStepName = new ThreadLocal<>();
 
     public StartupContext() {
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -49,34 +54,41 @@ public class StartupContext implements Closeable {
         });
     }
 
-    public void putValue(String name, Object value) {
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
     @Override
     public void close() {
         runAllInReverseOrder(shutdownTasks);
-        shutdownTasks.clear();
+        synchronized (shutdownTasks) {
+            shutdownTasks.clear();
+        }
         runAllInReverseOrder(lastShutdownTasks);
-        lastShutdownTasks.clear();
+        synchronized (lastShutdownTasks) {
+            lastShutdownTasks.clear();
+        }
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (tasks) {
+            toClose = new ArrayList<>(tasks);
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -94,11 +106,11 @@ public class StartupContext implements Closeable {
 
     @SuppressWarnings("unused")
     public String getCurrentBuildStepName() {
-        return currentBuildStepName;
+        return currentBuildStepName.get();
     }
 
     @SuppressWarnings("unused")
     public void setCurrentBuildStepName(String currentBuildStepName) {
-        this.currentBuildStepName = currentBuildStepName;
+        this.currentBuildStepName.set(currentBuildStepName);
     }
 }
@@ -0,0 +1,159 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the startup tasks of an application concurrently, honouring the dependencies between the build steps
+ * which recorded them. Generally this will be used from generated bytecode, and should not be used directly.
+ * <p>
+ * If a task fails no further task is started, and the failure is rethrown once the running tasks have completed.
+ */
+public final class StartupTaskRunner {
+
+    private final StartupContext startupContext;
+    private final List<StartupTask> tasks = new ArrayList<>();
+    private final List<List<Integer>> dependents = new ArrayList<>();
+    private final List<Integer> remainingDependencies = new ArrayList<>();
+
+    private ExecutorService executor;
+    private int inFlight;
+    private Throwable failure;
+
+    public StartupTaskRunner(StartupContext startupContext) {
+        this.startupContext = startupContext;
+    }
+
+    /**
+     * Adds a task, which will only be started once the given tasks have completed.
+     *
+     * @param task the task
+     * @param dependencies the indexes of the tasks it depends on, in the order they were added
+     * @return the index of the task
+     */
+    public int addTask(StartupTask task, int[] dependencies) {
+        int index = tasks.size();
+        for (int dependency : dependencies) {
+            if (dependency < 0 || dependency >= index) {
+                throw new IllegalArgumentException("Startup task " + index + " cannot depend on task " + dependency);
+            }
+        }
+        tasks.add(task);
+        dependents.add(new ArrayList<>());
+        remainingDependencies.add(dependencies.length);
+        for (int dependency : dependencies) {
+            dependents.get(dependency).add(index);
+        }
+        return index;
+    }
+
+    /**
+     * Runs the tasks, and waits for them to complete.
+     */
+    public void run() {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), tasks.size()));
+        executor = Executors.newFixedThreadPool(threads,
+                new StartupThreadFactory(Thread.currentThread().getContextClassLoader()));
+        try {
+            awaitTasks();
+        } finally {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private synchronized void awaitTasks() {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (remainingDependencies.get(i) == 0) {
+                submit(i);
+            }
+        }
+        boolean interrupted = false;
+        while (inFlight > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    // must be called while holding the lock
+    private void submit(int index) {
+        inFlight++;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                runTask(index);
+            }
+        });
+    }
+
+    private void runTask(int index) {
+        Throwable taskFailure = null;
+        try {
+            long start = System.currentTimeMillis();
+            tasks.get(index).deploy(startupContext);
+            StepTiming.printStepTime(startupContext, start);
+        } catch (Throwable t) {
+            taskFailure = t;
+        }
+        synchronized (this) {
+            if (taskFailure != null) {
+                if (failure == null) {
+                    failure = taskFailure;
+                } else {
+                    failure.addSuppressed(taskFailure);
+                }
+            } else if (failure == null) {
+                for (int dependent : dependents.get(index)) {
+                    int remaining = remainingDependencies.get(dependent) - 1;
+                    remainingDependencies.set(dependent, remaining);
+                    if (remaining == 0) {
+                        submit(dependent);
+                    }
+                }
+            }
+            if (--inFlight == 0) {
+                notifyAll();
+            }
+        }
+    }
+
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        StartupThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
@@ -84,4 +84,16 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * Whether the time tasks wait in the queue, the number of active threads and the number of rejected tasks should
+     * be recorded. They are exported as metrics if a metrics extension is present.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean metricsEnabled;
+
+    /**
+     * Adaptive sizing of the thread pool
+     */
+    @ConfigItem
+    public AdaptiveThreadPoolConfig adaptive;
 }
@@ -0,0 +1,105 @@
+package io.quarkus.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.threads.ContextHandler;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Records the time tasks of the core thread pool wait in the queue, the number of threads running a task and the
+ * number of rejected tasks.
+ * <p>
+ * It is installed as the {@link ContextHandler} of the pool, so the submission time is captured by the submitting
+ * thread and the wait time is known as soon as a pool thread picks the task up. The context handler configured for
+ * the pool, if any, is still applied.
+ */
+final class ThreadPoolStatistics implements ContextHandler<Object> {
+
+    private final ContextHandler<Object> delegate;
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private final LongAdder rejectedTasks = new LongAdder();
+    // the tasks started and the time they waited since the last call to resetAverageQueueWait()
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder queueWaitTime = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder queueWaitRecorder;
+
+    ThreadPoolStatistics(ContextHandler<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object captureContext() {
+        return new Submission(System.nanoTime(), delegate == null ? null : delegate.captureContext());
+    }
+
+    @Override
+    public void runWith(Runnable task, Object context) {
+        Submission submission = (Submission) context;
+        long wait = System.nanoTime() - submission.time;
+        startedTasks.increment();
+        queueWaitTime.add(wait);
+        MetricsFactory.TimeRecorder recorder = queueWaitRecorder;
+        if (recorder != null) {
+            recorder.update(wait, TimeUnit.NANOSECONDS);
+        }
+        activeThreads.incrementAndGet();
+        try {
+            if (delegate == null) {
+                task.run();
+            } else {
+                delegate.runWith(task, submission.context);
+            }
+        } finally {
+            activeThreads.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return a handoff executor that counts the tasks before passing them to the given one
+     */
+    Executor countRejections(Executor handoffExecutor) {
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                rejectedTasks.increment();
+                handoffExecutor.execute(command);
+            }
+        };
+    }
+
+    void setQueueWaitRecorder(MetricsFactory.TimeRecorder queueWaitRecorder) {
+        this.queueWaitRecorder = queueWaitRecorder;
+    }
+
+    int getActiveThreads() {
+        return activeThreads.get();
+    }
+
+    long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * @return the average time in nanoseconds the tasks started since the previous call waited in the queue
+     */
+    long resetAverageQueueWait() {
+        long tasks = startedTasks.sumThenReset();
+        long time = queueWaitTime.sumThenReset();
+        return tasks == 0 ? 0 : time / tasks;
+    }
+
+    private static final class Submission {
+
+        final long time;
+        final Object context;
+
+        Submission(long time, Object context) {
+            this.time = time;
+            this.context = context;
+        }
+    }
+}
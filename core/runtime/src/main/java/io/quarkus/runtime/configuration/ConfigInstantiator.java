@@ -46,6 +46,13 @@ public class ConfigInstantiator {
         supportedClassNameSuffix = Collections.unmodifiableSet(suffixes);
     }
 
+    static final ClassValue<List<ConfigField>> CONFIG_FIELDS = new ClassValue<List<ConfigField>>() {
+        @Override
+        protected List<ConfigField> computeValue(Class<?> type) {
+            return readConfigFields(type);
+        }
+    };
+
     public static <T> T handleObject(Supplier<T> supplier) {
         T o = supplier.get();
         handleObject(o);
@@ -65,12 +72,52 @@ public class ConfigInstantiator {
     }
 
     private static void handleObject(String prefix, Object o, SmallRyeConfig config) {
+        handleObject(prefix, o, config, new HashMap<>());
+    }
+
+    private static void handleObject(String prefix, Object o, SmallRyeConfig config, Map<Type, Converter<?>> converters) {
 
         try {
-            final Class cls = o.getClass();
             if (!isClassNameSuffixSupported(o)) {
                 return;
             }
+            for (ConfigField configField : CONFIG_FIELDS.get(o.getClass())) {
+                final Field field = configField.field;
+                if (configField.groupConstructor != null) {
+                    Object newInstance = configField.groupConstructor.newInstance();
+                    field.set(o, newInstance);
+                    handleObject(prefix + "." + configField.name, newInstance, config, converters);
+                } else if (configField.genericType == null) { //TODO: FIXME, this cannot handle Map yet
+                    field.set(o, new HashMap<>());
+                } else {
+                    String fullName = prefix + "." + configField.name;
+                    final Converter<?> conv = converters.computeIfAbsent(configField.genericType,
+                            ConfigInstantiator::getConverterFor);
+                    try {
+                        Optional<?> value = config.getOptionalValue(fullName, conv);
+                        if (value.isPresent()) {
+                            field.set(o, value.get());
+                        } else if (configField.defaultValue != null) {
+                            //the runtime config source handles default automatically
+                            //however this may not have actually been installed depending on where the failure occured
+                            field.set(o, conv.convert(configField.defaultValue));
+                        }
+                    } catch (NoSuchElementException ignored) {
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the fields to populate only once per class, so that repeated recoveries do not pay for the reflective
+     * lookups again.
+     */
+    private static List<ConfigField> readConfigFields(Class<?> cls) {
+        try {
+            List<ConfigField> configFields = new ArrayList<>();
             for (Field field : cls.getDeclaredFields()) {
                 if (field.isSynthetic() || Modifier.isFinal(field.getModifiers())) {
                     continue;
@@ -81,11 +128,9 @@ public class ConfigInstantiator {
                 if (configItem == null || fieldClass.isAnnotationPresent(ConfigGroup.class)) {
                     Constructor<?> constructor = fieldClass.getConstructor();
                     constructor.setAccessible(true);
-                    Object newInstance = constructor.newInstance();
-                    field.set(o, newInstance);
-                    handleObject(prefix + "." + dashify(field.getName()), newInstance, config);
-                } else if (fieldClass == Map.class) { //TODO: FIXME, this cannot handle Map yet
-                    field.set(o, new HashMap<>());
+                    configFields.add(new ConfigField(field, dashify(field.getName()), constructor, null, null));
+                } else if (fieldClass == Map.class) {
+                    configFields.add(new ConfigField(field, null, null, null, null));
                 } else {
                     String name = configItem.name();
                     if (name.equals(ConfigItem.HYPHENATED_ELEMENT_NAME)) {
@@ -93,23 +138,13 @@ public class ConfigInstantiator {
                     } else if (name.equals(ConfigItem.ELEMENT_NAME)) {
                         name = field.getName();
                     }
-                    String fullName = prefix + "." + name;
-                    final Type genericType = field.getGenericType();
-                    final Converter<?> conv = getConverterFor(genericType);
-                    try {
-                        Optional<?> value = config.getOptionalValue(fullName, conv);
-                        if (value.isPresent()) {
-                            field.set(o, value.get());
-                        } else if (!configItem.defaultValue().equals(ConfigItem.NO_DEFAULT)) {
-                            //the runtime config source handles default automatically
-                            //however this may not have actually been installed depending on where the failure occured
-                            field.set(o, conv.convert(configItem.defaultValue()));
-                        }
-                    } catch (NoSuchElementException ignored) {
-                    }
+                    String defaultValue = configItem.defaultValue().equals(ConfigItem.NO_DEFAULT) ? null
+                            : configItem.defaultValue();
+                    configFields.add(new ConfigField(field, name, null, field.getGenericType(), defaultValue));
                 }
             }
-        } catch (Exception e) {
+            return Collections.unmodifiableList(configFields);
+        } catch (NoSuchMethodException e) {
             throw new RuntimeException(e);
         }
     }
@@ -194,4 +229,22 @@ public class ConfigInstantiator {
         }
         return false;
     }
+
+    private static final class ConfigField {
+        final Field field;
+        final String name;
+        // set for nested groups
+        final Constructor<?> groupConstructor;
+        // null for maps and nested groups
+        final Type genericType;
+        final String defaultValue;
+
+        ConfigField(Field field, String name, Constructor<?> groupConstructor, Type genericType, String defaultValue) {
+            this.field = field;
+            this.name = name;
+            this.groupConstructor = groupConstructor;
+            this.genericType = genericType;
+            this.defaultValue = defaultValue;
+        }
+    }
 }
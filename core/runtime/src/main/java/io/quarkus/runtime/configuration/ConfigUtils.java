@@ -103,7 +103,24 @@ public final class ConfigUtils {
             builder.withSources(new RuntimeOverrideConfigSource(classLoader));
         }
         if (runTime) {
-            builder.addDefaultSources();
+            // the default sources, with the environment variables mapped to the known property names
+            MappedEnvConfigSource envConfigSource = new MappedEnvConfigSource(classLoader);
+            builder.withSources(envConfigSource, new SysPropConfigSource());
+            if (envConfigSource.hasUnresolvedNames()) {
+                builder.withInterceptorFactories(new ConfigSourceInterceptorFactory() {
+                    @Override
+                    public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                        return envConfigSource.namesInterceptor();
+                    }
+
+                    @Override
+                    public OptionalInt getPriority() {
+                        // the map keys are looked up in the names once the profiles are applied
+                        return OptionalInt.of(Priorities.LIBRARY + 1000);
+                    }
+                });
+            }
+            builder.withSources(classPathSources(META_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader));
             builder.withDefaultValue(UUID_KEY, UUID.randomUUID().toString());
             builder.withSources(dotEnvSources(classLoader));
         } else {
@@ -162,6 +179,28 @@ public final class ConfigUtils {
         return builder;
     }
 
+    /**
+     * Add the interceptor keeping a snapshot of the resolved values while the application starts.
+     *
+     * @param builder the builder
+     * @param expectedSize the expected number of properties read at startup
+     * @see StartupConfigSnapshotInterceptor
+     */
+    public static void addStartupSnapshot(SmallRyeConfigBuilder builder, int expectedSize) {
+        builder.withInterceptorFactories(new ConfigSourceInterceptorFactory() {
+            @Override
+            public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                return new StartupConfigSnapshotInterceptor(expectedSize);
+            }
+
+            @Override
+            public OptionalInt getPriority() {
+                // before every other interceptor, so the values are kept once fully resolved
+                return OptionalInt.of(Integer.MAX_VALUE);
+            }
+        });
+    }
+
     /**
      * Add a configuration source provider to the builder.
      *
@@ -0,0 +1,256 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The environment variable names of the configuration properties known at build time.
+ * <p>
+ * The mapping is generated at build time, one {@code ENV_NAME=property.name} line per property. A {@code {*}} segment
+ * stands for a map key, e.g. the name of a named datasource, and matches any non empty part of the environment
+ * variable name.
+ */
+public final class EnvNameMapping {
+
+    /**
+     * The resource the mapping is generated to.
+     */
+    public static final String RESOURCE = "META-INF/quarkus-config-env-names";
+
+    public static final String WILD_CARD = "{*}";
+
+    /**
+     * The map keys that can only stand for one key, the lowercase form of the segment.
+     */
+    private static final Pattern SINGLE_KEY = Pattern.compile("[A-Za-z0-9]+");
+
+    private static final EnvNameMapping EMPTY = new EnvNameMapping(Collections.emptyList());
+
+    private final Map<String, String> names = new HashMap<>();
+    private final List<NamePattern> patterns = new ArrayList<>();
+
+    EnvNameMapping(List<String> lines) {
+        for (String line : lines) {
+            int idx = line.indexOf('=');
+            if (idx <= 0) {
+                continue;
+            }
+            String envName = line.substring(0, idx);
+            String name = line.substring(idx + 1);
+            if (envName.contains(WILD_CARD)) {
+                patterns.add(new NamePattern(envName, name));
+            } else {
+                names.putIfAbsent(envName, name);
+            }
+        }
+        // the most specific patterns first
+        patterns.sort(Comparator.comparingInt((NamePattern p) -> p.fixedLength).reversed());
+    }
+
+    /**
+     * @return the mapping generated for the application, or an empty mapping if there is none
+     */
+    static EnvNameMapping load(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return EMPTY;
+            }
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            }
+            return new EnvNameMapping(lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the environment variable name of the given property name, map key segments are kept as is
+     */
+    public static String toEnvName(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        int start = 0;
+        int idx;
+        while ((idx = name.indexOf(WILD_CARD, start)) != -1) {
+            appendEnvName(sb, name, start, idx);
+            sb.append(WILD_CARD);
+            start = idx + WILD_CARD.length();
+        }
+        appendEnvName(sb, name, start, name.length());
+        return sb.toString();
+    }
+
+    private static void appendEnvName(StringBuilder sb, String name, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+    }
+
+    /**
+     * Maps the given environment variables to the property names they stand for.
+     * <p>
+     * A map key is only derived from the environment variable name when there is a single possible key, i.e. the
+     * segment only holds letters and digits. The other variables matching a pattern, e.g.
+     * {@code QUARKUS_DATASOURCE_MY_DS_JDBC_URL} which could be about the {@code my-ds} or the {@code my_ds}
+     * datasource, are added to {@code unresolved} and left to {@link #resolve(String, Collection)}.
+     *
+     * @return the values of the given environment variables, by the property name they map to
+     */
+    Map<String, String> map(Map<String, String> env, Map<String, String> unresolved) {
+        if (names.isEmpty() && patterns.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            String name = names.get(entry.getKey());
+            if (name == null) {
+                boolean matched = false;
+                for (NamePattern pattern : patterns) {
+                    Matcher matcher = pattern.matcher(entry.getKey());
+                    if (matcher != null) {
+                        matched = true;
+                        name = pattern.name(matcher, Collections.emptyList());
+                        if (name != null) {
+                            break;
+                        }
+                    }
+                }
+                if (name == null && matched) {
+                    unresolved.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (name != null) {
+                properties.put(name, entry.getValue());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return the property name of the given environment variable, with the map keys used by the given property names,
+     *         or {@code null} if the environment variable matches none or more than one of these keys
+     */
+    String resolve(String envName, Collection<String> knownNames) {
+        for (NamePattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(envName);
+            if (matcher != null) {
+                String name = pattern.name(matcher, knownNames);
+                if (name != null) {
+                    return name;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class NamePattern {
+
+        final Pattern envName;
+        final String[] nameParts;
+        final int fixedLength;
+        final String prefix;
+
+        NamePattern(String envName, String name) {
+            String[] envParts = envName.split(Pattern.quote(WILD_CARD), -1);
+            StringBuilder regex = new StringBuilder();
+            int fixedLength = 0;
+            for (int i = 0; i < envParts.length; i++) {
+                if (i > 0) {
+                    regex.append("(.+)");
+                }
+                if (!envParts[i].isEmpty()) {
+                    regex.append(Pattern.quote(envParts[i]));
+                }
+                fixedLength += envParts[i].length();
+            }
+            this.envName = Pattern.compile(regex.toString());
+            this.nameParts = name.split(Pattern.quote(WILD_CARD), -1);
+            this.fixedLength = fixedLength;
+            this.prefix = envParts[0];
+        }
+
+        Matcher matcher(String envName) {
+            if (!envName.startsWith(prefix)) {
+                return null;
+            }
+            Matcher matcher = this.envName.matcher(envName);
+            if (!matcher.matches() || matcher.groupCount() != nameParts.length - 1) {
+                return null;
+            }
+            return matcher;
+        }
+
+        String name(Matcher matcher, Collection<String> knownNames) {
+            StringBuilder sb = new StringBuilder(nameParts[0]);
+            for (int i = 1; i < nameParts.length; i++) {
+                String envKey = matcher.group(i);
+                String key;
+                if (SINGLE_KEY.matcher(envKey).matches()) {
+                    key = envKey.toLowerCase(Locale.ROOT);
+                } else {
+                    key = knownKey(sb.toString(), envKey, knownNames);
+                    if (key == null) {
+                        return null;
+                    }
+                }
+                sb.append(key).append(nameParts[i]);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * @return the single key following the given prefix in the given property names whose environment variable form
+         *         is the given key, or {@code null} if there is none or more than one
+         */
+        private static String knownKey(String prefix, String envKey, Collection<String> knownNames) {
+            String found = null;
+            for (String name : knownNames) {
+                if (!name.startsWith(prefix) || name.length() == prefix.length()) {
+                    continue;
+                }
+                int end;
+                if (name.charAt(prefix.length()) == '"') {
+                    end = name.indexOf('"', prefix.length() + 1) + 1;
+                } else {
+                    end = name.indexOf('.', prefix.length());
+                    if (end == -1) {
+                        end = name.length();
+                    }
+                }
+                if (end <= prefix.length()) {
+                    continue;
+                }
+                String key = name.substring(prefix.length(), end);
+                String unquoted = key.charAt(0) == '"' ? key.substring(1, key.length() - 1) : key;
+                if (!toEnvName(unquoted).equals(envKey) || key.equals(found)) {
+                    continue;
+                }
+                if (found != null) {
+                    // e.g. both my-ds and my_ds are known
+                    return null;
+                }
+                found = key;
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.quarkus.runtime.configuration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.ConfigSourceInterceptor;
+import io.smallrye.config.ConfigSourceInterceptorContext;
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.EnvConfigSource;
+
+/**
+ * The runtime environment variables config source.
+ * <p>
+ * The environment variables matching a property known at build time are mapped to the property name once, when the
+ * source is created, see {@link EnvNameMapping}. These properties are then resolved with a single lookup, and their
+ * names are listed by {@link #getPropertyNames()}, which makes the map keys only set in environment variables, like
+ * the name of a datasource, visible to the application.
+ * <p>
+ * A map key is only taken from an environment variable name when it cannot stand for another key. The names of the
+ * other environment variables are only listed, by {@link #namesInterceptor()}, once a key used by the other sources
+ * tells which property they are about.
+ */
+class MappedEnvConfigSource extends EnvConfigSource {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_ORDINAL = 300;
+
+    private final EnvNameMapping mapping;
+    private final Map<String, String> mapped;
+    private final Map<String, String> unresolved;
+    private final Map<String, String> resolved;
+    private final Set<String> propertyNames;
+
+    MappedEnvConfigSource(ClassLoader classLoader) {
+        this(System.getenv(), EnvNameMapping.load(classLoader));
+    }
+
+    MappedEnvConfigSource(Map<String, String> env, EnvNameMapping mapping) {
+        super(new HashMap<>(env), ordinal(env));
+        this.mapping = mapping;
+        Map<String, String> unresolved = new HashMap<>();
+        this.mapped = mapping.map(env, unresolved);
+        this.unresolved = unresolved.isEmpty() ? Collections.emptyMap() : unresolved;
+        this.resolved = unresolved.isEmpty() ? Collections.emptyMap() : new ConcurrentHashMap<>();
+        if (mapped.isEmpty()) {
+            this.propertyNames = super.getPropertyNames();
+        } else {
+            Set<String> propertyNames = new HashSet<>(super.getPropertyNames());
+            propertyNames.addAll(mapped.keySet());
+            this.propertyNames = Collections.unmodifiableSet(propertyNames);
+        }
+    }
+
+    private static int ordinal(Map<String, String> env) {
+        String ordinal = env.get(ConfigSource.CONFIG_ORDINAL);
+        if (ordinal != null) {
+            try {
+                return Integer.parseInt(ordinal.trim());
+            } catch (NumberFormatException ignored) {
+                // use the default ordinal
+            }
+        }
+        return DEFAULT_ORDINAL;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    @Override
+    public String getValue(String propertyName) {
+        String value = mapped.get(propertyName);
+        if (value == null && !resolved.isEmpty()) {
+            value = resolved.get(propertyName);
+        }
+        return value != null ? value : super.getValue(propertyName);
+    }
+
+    /**
+     * @return {@code true} if some environment variables could not be mapped to a property name on their own
+     */
+    boolean hasUnresolvedNames() {
+        return !unresolved.isEmpty();
+    }
+
+    /**
+     * @return the interceptor listing the names of the environment variables whose map keys are used by the other
+     *         sources
+     */
+    ConfigSourceInterceptor namesInterceptor() {
+        return new NamesInterceptor(this);
+    }
+
+    private Set<String> resolve(Set<String> knownNames) {
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<String, String> entry : unresolved.entrySet()) {
+            String name = mapping.resolve(entry.getKey(), knownNames);
+            if (name != null) {
+                resolved.put(name, entry.getValue());
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static final class NamesInterceptor implements ConfigSourceInterceptor {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MappedEnvConfigSource source;
+
+        NamesInterceptor(MappedEnvConfigSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public ConfigValue getValue(ConfigSourceInterceptorContext context, String name) {
+            return context.proceed(name);
+        }
+
+        @Override
+        public Iterator<String> iterateNames(ConfigSourceInterceptorContext context) {
+            Set<String> names = new LinkedHashSet<>();
+            context.iterateNames().forEachRemaining(names::add);
+            names.addAll(source.resolve(names));
+            return names.iterator();
+        }
+    }
+}
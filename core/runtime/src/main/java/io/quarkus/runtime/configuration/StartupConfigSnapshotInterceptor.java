@@ -0,0 +1,58 @@
+package io.quarkus.runtime.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.smallrye.config.ConfigSourceInterceptor;
+import io.smallrye.config.ConfigSourceInterceptorContext;
+import io.smallrye.config.ConfigValue;
+
+/**
+ * Keeps the values resolved by the runtime config while the application starts, so that each property walks the
+ * interceptor chain and the config sources only once, whether it is read to populate a config root or to be
+ * injected. Properties without a value are remembered as well.
+ * <p>
+ * The snapshot is released once the application has started, from then on every lookup sees the current value of
+ * the config sources again.
+ */
+public final class StartupConfigSnapshotInterceptor implements ConfigSourceInterceptor {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ConfigValue MISSING = ConfigValue.builder().withName("").build();
+
+    private static volatile StartupConfigSnapshotInterceptor current;
+
+    private transient volatile Map<String, ConfigValue> values;
+
+    public StartupConfigSnapshotInterceptor(int expectedSize) {
+        values = new ConcurrentHashMap<>(expectedSize);
+        current = this;
+    }
+
+    @Override
+    public ConfigValue getValue(ConfigSourceInterceptorContext context, String name) {
+        Map<String, ConfigValue> values = this.values;
+        if (values == null) {
+            return context.proceed(name);
+        }
+        ConfigValue value = values.get(name);
+        if (value == null) {
+            value = context.proceed(name);
+            values.put(name, value == null ? MISSING : value);
+            return value;
+        }
+        return value == MISSING ? null : value;
+    }
+
+    /**
+     * Releases the snapshot of the application being started, if any.
+     */
+    public static void release() {
+        StartupConfigSnapshotInterceptor snapshot = current;
+        if (snapshot != null) {
+            snapshot.values = null;
+            current = null;
+        }
+    }
+}
@@ -27,4 +27,17 @@ public class StepTiming {
                 .println("Build step " + currentBuildStepName + " completed in: " + (stepTimingStop - stepTimingStart) + "ms");
         stepTimingStart = System.currentTimeMillis();
     }
+
+    /**
+     * Prints the time taken by a step which may have run concurrently with other steps, so the shared start time
+     * cannot be used.
+     */
+    public static void printStepTime(StartupContext startupContext, long stepStart) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        String currentBuildStepName = startupContext.getCurrentBuildStepName();
+        System.out.println("Build step " + currentBuildStepName + " completed in: " + (System.currentTimeMillis() - stepStart)
+                + "ms on thread " + Thread.currentThread().getName());
+    }
 }
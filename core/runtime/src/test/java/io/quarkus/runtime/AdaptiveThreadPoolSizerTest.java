@@ -0,0 +1,127 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.jboss.threads.JBossExecutors;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveThreadPoolSizerTest {
+
+    @Test
+    public void testRejectionsCounted() throws InterruptedException {
+        ThreadPoolStatistics statistics = new ThreadPoolStatistics(null);
+        EnhancedQueueExecutor executor = executor(statistics, 1, 1);
+        executor.setMaximumQueueSize(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(awaiting(release, null));
+            executor.execute(awaiting(release, null));
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(awaiting(release, null)));
+            assertEquals(1, statistics.getRejectedTasks());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testResize() throws InterruptedException {
+        ThreadPoolStatistics statistics = new ThreadPoolStatistics(null);
+        EnhancedQueueExecutor executor = executor(statistics, 1, 2);
+        AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(executor, statistics, 1, 8, Duration.ofMillis(1));
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch others = new CountDownLatch(1);
+        CountDownLatch queuedStarted = new CountDownLatch(1);
+        try {
+            executor.execute(awaiting(first, null));
+            executor.execute(awaiting(others, null));
+            // waits in the queue until the first task completes
+            executor.execute(awaiting(others, queuedStarted));
+            Thread.sleep(20);
+            first.countDown();
+            assertTrue(queuedStarted.await(10, TimeUnit.SECONDS));
+
+            // a task waited while all the threads were busy
+            sizer.run();
+            assertEquals(4, executor.getMaximumPoolSize());
+
+            others.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (statistics.getActiveThreads() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            // idle
+            sizer.run();
+            assertEquals(3, executor.getMaximumPoolSize());
+        } finally {
+            first.countDown();
+            others.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testGrowWhenSaturated() throws InterruptedException {
+        ThreadPoolStatistics statistics = new ThreadPoolStatistics(null);
+        EnhancedQueueExecutor executor = executor(statistics, 2, 2);
+        AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(executor, statistics, 2, 8, Duration.ofMillis(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(2);
+        CountDownLatch queuedStarted = new CountDownLatch(2);
+        try {
+            // every thread is blocked, so none of the queued tasks starts and no wait time is recorded
+            executor.execute(awaiting(release, blocked));
+            executor.execute(awaiting(release, blocked));
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                executor.execute(awaiting(release, queuedStarted));
+            }
+            assertEquals(3, executor.getQueueSize());
+
+            sizer.run();
+            assertEquals(4, executor.getMaximumPoolSize());
+            // the two new threads pick up queued tasks although the blocked ones never complete
+            assertTrue(queuedStarted.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static EnhancedQueueExecutor executor(ThreadPoolStatistics statistics, int core, int max) {
+        return new EnhancedQueueExecutor.Builder()
+                .setRegisterMBean(false)
+                .setCorePoolSize(core)
+                .setMaximumPoolSize(max)
+                .setContextHandler(statistics)
+                .setHandoffExecutor(statistics.countRejections(JBossExecutors.rejectingExecutor()))
+                .build();
+    }
+
+    private static Runnable awaiting(CountDownLatch latch, CountDownLatch started) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                if (started != null) {
+                    started.countDown();
+                }
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTaskRunnerTest {
+
+    @Test
+    public void testDependenciesRunFirst() {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        StartupContext context = new StartupContext();
+        StartupTaskRunner runner = new StartupTaskRunner(context);
+        int config = runner.addTask(recording(executed, "config"), new int[0]);
+        int a = runner.addTask(recording(executed, "a"), new int[] { config });
+        int b = runner.addTask(recording(executed, "b"), new int[] { config });
+        runner.addTask(new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                assertEquals("a", context.getValue("a"));
+                assertEquals("b", context.getValue("b"));
+                executed.add("c");
+            }
+        }, new int[] { a, b });
+        runner.run();
+        assertEquals(4, executed.size());
+        assertEquals("config", executed.get(0));
+        assertEquals("c", executed.get(3));
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() throws InterruptedException {
+        if (Runtime.getRuntime().availableProcessors() < 2) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(2);
+        StartupTask task = new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                latch.countDown();
+                try {
+                    assertTrue(latch.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        StartupTaskRunner runner = new StartupTaskRunner(new StartupContext());
+        runner.addTask(task, new int[0]);
+        runner.addTask(task, new int[0]);
+        runner.run();
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void testFailureStopsScheduling() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        StartupTaskRunner runner = new StartupTaskRunner(new StartupContext());
+        int failing = runner.addTask(new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                throw failure;
+            }
+        }, new int[0]);
+        runner.addTask(new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                dependentRan.set(true);
+            }
+        }, new int[] { failing });
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, runner::run);
+        assertSame(failure, thrown);
+        assertFalse(dependentRan.get());
+    }
+
+    private static StartupTask recording(List<String> executed, String name) {
+        return new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                context.putValue(name, name);
+                executed.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class ConfigInstantiatorTestCase {
+
+    @AfterEach
+    public void releaseConfig() {
+        ConfigProviderResolver cpr = ConfigProviderResolver.instance();
+        try {
+            cpr.releaseConfig(cpr.getConfig());
+        } catch (IllegalStateException ignored) {
+            // just means no config was installed, which is fine
+        }
+    }
+
+    @Test
+    public void testPopulate() {
+        registerConfig("quarkus.sample.host", "example.org",
+                "quarkus.sample.port", "8081",
+                "quarkus.sample.mode", "read-only",
+                "quarkus.sample.tags", "a,b",
+                "quarkus.sample.pool.max-size", "12");
+
+        SampleConfig config = ConfigInstantiator.handleObject(SampleConfig::new);
+        assertEquals("example.org", config.host);
+        assertEquals(8081, config.port);
+        assertEquals(Mode.READ_ONLY, config.mode);
+        assertEquals(Arrays.asList("a", "b"), config.tags);
+        assertFalse(config.description.isPresent());
+        assertEquals(12, config.pool.maxSize);
+        assertEquals(30, config.pool.idleSeconds);
+        assertTrue(config.values.isEmpty());
+    }
+
+    @Test
+    public void testFieldsReusedAcrossConfigs() {
+        registerConfig("quarkus.sample.port", "1");
+        assertEquals(1, ConfigInstantiator.handleObject(SampleConfig::new).port);
+        releaseConfig();
+
+        // the fields are only read once per class, but the values and the converters come from the current config
+        registerConfig("quarkus.sample.port", "2", "quarkus.sample.description", "second");
+        SampleConfig config = ConfigInstantiator.handleObject(SampleConfig::new);
+        assertEquals(2, config.port);
+        assertEquals(Optional.of("second"), config.description);
+    }
+
+    @Test
+    public void testManyProperties() {
+        // repeated populations only read the fields of the classes once
+        String[] keyValues = { "quarkus.sample.host", "localhost", "quarkus.sample.port", "8080",
+                "quarkus.sample.tags", "x", "quarkus.sample.pool.max-size", "5" };
+        registerConfig(keyValues);
+        ConfigInstantiator.handleObject(SampleConfig::new);
+        List<?> fields = ConfigInstantiator.CONFIG_FIELDS.get(SampleConfig.class);
+        List<?> poolFields = ConfigInstantiator.CONFIG_FIELDS.get(PoolConfig.class);
+        for (int i = 0; i < 50; i++) {
+            SampleConfig config = ConfigInstantiator.handleObject(SampleConfig::new);
+            assertEquals("localhost", config.host);
+            assertEquals(8080, config.port);
+            assertEquals(Mode.READ_WRITE, config.mode);
+            assertEquals(5, config.pool.maxSize);
+        }
+        assertSame(fields, ConfigInstantiator.CONFIG_FIELDS.get(SampleConfig.class));
+        assertSame(poolFields, ConfigInstantiator.CONFIG_FIELDS.get(PoolConfig.class));
+    }
+
+    private static void registerConfig(String... keyValues) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test input", 500))
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, Thread.currentThread().getContextClassLoader());
+    }
+
+    public enum Mode {
+        READ_ONLY,
+        READ_WRITE
+    }
+
+    public static class SampleConfig {
+
+        @ConfigItem
+        public String host;
+
+        @ConfigItem(defaultValue = "8080")
+        public int port;
+
+        @ConfigItem(defaultValue = "read-write")
+        public Mode mode;
+
+        @ConfigItem
+        public List<String> tags;
+
+        @ConfigItem
+        public Optional<String> description = Optional.empty();
+
+        @ConfigItem
+        public Map<String, String> values;
+
+        public PoolConfig pool;
+    }
+
+    @ConfigGroup
+    public static class PoolConfig {
+
+        /**
+         * The maximum size
+         */
+        @ConfigItem
+        public int maxSize;
+
+        /**
+         * The idle timeout in seconds
+         */
+        @ConfigItem(defaultValue = "30")
+        public int idleSeconds;
+    }
+}
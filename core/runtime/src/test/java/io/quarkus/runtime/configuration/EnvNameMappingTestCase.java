@@ -0,0 +1,93 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class EnvNameMappingTestCase {
+
+    private static final EnvNameMapping MAPPING = new EnvNameMapping(Arrays.asList(
+            EnvNameMapping.toEnvName("quarkus.http.port") + "=quarkus.http.port",
+            EnvNameMapping.toEnvName("quarkus.datasource.jdbc.url") + "=quarkus.datasource.jdbc.url",
+            EnvNameMapping.toEnvName("quarkus.datasource.{*}.jdbc.url") + "=quarkus.datasource.{*}.jdbc.url",
+            EnvNameMapping.toEnvName("quarkus.datasource.{*}.jdbc.min-size") + "=quarkus.datasource.{*}.jdbc.min-size",
+            EnvNameMapping.toEnvName("quarkus.log.category.{*}.level") + "=quarkus.log.category.{*}.level"));
+
+    @Test
+    public void testEnvName() {
+        assertEquals("QUARKUS_DATASOURCE_{*}_JDBC_MIN_SIZE",
+                EnvNameMapping.toEnvName("quarkus.datasource.{*}.jdbc.min-size"));
+    }
+
+    @Test
+    public void testMappedNames() {
+        Map<String, String> env = new HashMap<>();
+        env.put("QUARKUS_HTTP_PORT", "8081");
+        env.put("QUARKUS_DATASOURCE_JDBC_URL", "jdbc:h2:mem:default");
+        env.put("QUARKUS_DATASOURCE_USERS_JDBC_URL", "jdbc:h2:mem:users");
+        env.put("QUARKUS_DATASOURCE_USERS_JDBC_MIN_SIZE", "2");
+        env.put("QUARKUS_DATASOURCE_MY_DS_JDBC_URL", "jdbc:h2:mem:my-ds");
+        env.put("QUARKUS_UNKNOWN", "unknown");
+        env.put("PATH", "/usr/bin");
+
+        MappedEnvConfigSource source = new MappedEnvConfigSource(env, MAPPING);
+        assertEquals("8081", source.getValue("quarkus.http.port"));
+        assertEquals("jdbc:h2:mem:default", source.getValue("quarkus.datasource.jdbc.url"));
+        assertEquals("jdbc:h2:mem:users", source.getValue("quarkus.datasource.users.jdbc.url"));
+        assertEquals("2", source.getValue("quarkus.datasource.users.jdbc.min-size"));
+        assertTrue(source.getPropertyNames().contains("quarkus.datasource.users.jdbc.url"));
+        assertTrue(source.getPropertyNames().contains("PATH"));
+        // MY_DS could be my-ds, my_ds or my.ds, no key is made up
+        assertTrue(source.hasUnresolvedNames());
+        assertFalse(source.getPropertyNames().stream().anyMatch(name -> name.startsWith("quarkus.datasource.\"")));
+        assertEquals("jdbc:h2:mem:my-ds", source.getValue("quarkus.datasource.my-ds.jdbc.url"));
+
+        // names that are not mapped are resolved as before
+        assertEquals("unknown", source.getValue("quarkus.unknown"));
+        assertEquals("/usr/bin", source.getValue("PATH"));
+        assertNull(source.getValue("quarkus.datasource.other.jdbc.url"));
+    }
+
+    @Test
+    public void testKnownMapKeys() {
+        Map<String, String> env = new HashMap<>();
+        env.put("QUARKUS_DATASOURCE_MY_DS_JDBC_URL", "jdbc:h2:mem:my-ds");
+        env.put("QUARKUS_DATASOURCE_OTHER_DS_JDBC_URL", "jdbc:h2:mem:other-ds");
+        env.put("QUARKUS_LOG_CATEGORY_IO_QUARKUS_LEVEL", "DEBUG");
+
+        MappedEnvConfigSource source = new MappedEnvConfigSource(env, MAPPING);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.datasource.my-ds.db-kind", "h2",
+                        "quarkus.datasource.other-ds.db-kind", "h2",
+                        "quarkus.datasource.other_ds.db-kind", "h2",
+                        "quarkus.log.category.\"io.quarkus\".min-level", "DEBUG"), "test", 100))
+                .withInterceptors(source.namesInterceptor())
+                .build();
+        Set<String> names = new HashSet<>();
+        config.getPropertyNames().forEach(names::add);
+
+        // the key is known from another source
+        assertTrue(names.contains("quarkus.datasource.my-ds.jdbc.url"));
+        assertTrue(names.contains("quarkus.log.category.\"io.quarkus\".level"));
+        // more than one known key matches
+        assertFalse(names.contains("quarkus.datasource.other-ds.jdbc.url"));
+        assertFalse(names.contains("quarkus.datasource.other_ds.jdbc.url"));
+        assertEquals("jdbc:h2:mem:my-ds", config.getRawValue("quarkus.datasource.my-ds.jdbc.url"));
+        assertEquals("DEBUG", config.getRawValue("quarkus.log.category.\"io.quarkus\".level"));
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class StartupConfigSnapshotTestCase {
+
+    @AfterEach
+    public void release() {
+        StartupConfigSnapshotInterceptor.release();
+    }
+
+    @Test
+    public void testSnapshot() {
+        CountingConfigSource source = new CountingConfigSource();
+        source.values.put("greeting", "hello ${name}");
+        source.values.put("name", "world");
+        source.values.put("%test.name", "test");
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withProfile("test");
+        ConfigUtils.addStartupSnapshot(builder, 16);
+        SmallRyeConfig config = builder.build();
+
+        // the profile and the expression are resolved once
+        assertEquals("hello test", config.getValue("greeting", String.class));
+        assertFalse(config.getOptionalValue("missing", String.class).isPresent());
+        int lookups = source.lookups.get();
+        assertEquals("hello test", config.getValue("greeting", String.class));
+        assertFalse(config.getOptionalValue("missing", String.class).isPresent());
+        assertEquals(lookups, source.lookups.get());
+
+        // changes are only visible once the snapshot is released
+        source.values.put("%test.name", "quarkus");
+        assertEquals("hello test", config.getValue("greeting", String.class));
+        StartupConfigSnapshotInterceptor.release();
+        assertEquals("hello quarkus", config.getValue("greeting", String.class));
+    }
+
+    static class CountingConfigSource implements ConfigSource {
+
+        final Map<String, String> values = new HashMap<>();
+        final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return values.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            lookups.incrementAndGet();
+            return values.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+    }
+}
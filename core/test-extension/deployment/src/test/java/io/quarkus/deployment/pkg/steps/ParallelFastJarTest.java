@@ -0,0 +1,49 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.commandmode.HelloWorldMain;
+import io.quarkus.test.ProdBuildResults;
+import io.quarkus.test.ProdModeTestResults;
+import io.quarkus.test.QuarkusProdModeTest;
+
+public class ParallelFastJarTest {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource("application.properties", "microprofile-config.properties")
+                    .addClass(HelloWorldMain.class))
+            .setApplicationName("parallel-fast-jar")
+            .setApplicationVersion("0.1-SNAPSHOT")
+            .overrideConfigKey("quarkus.package.parallel-assembly", "true")
+            .overrideConfigKey("quarkus.package.compress-generated-bytecode", "false")
+            .setExpectExit(true)
+            .setRun(true);
+
+    @ProdBuildResults
+    private ProdModeTestResults prodModeTestResults;
+
+    @Test
+    public void testRun() throws IOException {
+        assertThat(config.getStartupConsoleOutput()).contains("Hello World");
+        assertThat(config.getExitCode()).isEqualTo(10);
+
+        Path generatedJar = prodModeTestResults.getBuildDir().resolve(JarResultBuildStep.DEFAULT_FAST_JAR_DIRECTORY_NAME)
+                .resolve(JarResultBuildStep.QUARKUS).resolve(JarResultBuildStep.GENERATED_BYTECODE_JAR);
+        try (ZipFile zip = new ZipFile(generatedJar.toFile())) {
+            assertThat(zip.stream().filter(e -> e.getName().endsWith(".class"))).isNotEmpty()
+                    .allMatch(e -> e.getMethod() == ZipEntry.STORED);
+        }
+    }
+}
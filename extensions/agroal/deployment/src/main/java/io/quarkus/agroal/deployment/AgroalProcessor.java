@@ -25,6 +25,7 @@ import io.quarkus.agroal.runtime.DataSourceJdbcBuildTimeConfig;
 import io.quarkus.agroal.runtime.DataSourceSupport;
 import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig;
+import io.quarkus.agroal.runtime.StatementCachingDriver;
 import io.quarkus.agroal.runtime.TransactionIntegration;
 import io.quarkus.agroal.spi.JdbcDataSourceBuildItem;
 import io.quarkus.agroal.spi.JdbcDriverBuildItem;
@@ -113,6 +114,7 @@ class AgroalProcessor {
                 io.agroal.pool.ConnectionHandler.class.getName(),
                 io.agroal.api.security.AgroalDefaultSecurityProvider.class.getName(),
                 io.agroal.api.security.AgroalKerberosSecurityProvider.class.getName(),
+                StatementCachingDriver.class.getName(),
                 java.sql.Statement[].class.getName(),
                 java.sql.Statement.class.getName(),
                 java.sql.ResultSet.class.getName(),
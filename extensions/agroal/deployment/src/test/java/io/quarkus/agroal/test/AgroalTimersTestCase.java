@@ -0,0 +1,54 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AgroalTimersTestCase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-metrics-enabled.properties");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testTimersOfDefaultDS() throws SQLException {
+        SimpleTimer acquireTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.acquire.time", new Tag("datasource", "default")));
+        SimpleTimer executionTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.statement.execution.time", new Tag("datasource", "default")));
+
+        Assertions.assertNotNull(acquireTime, "Agroal timers should be registered eagerly");
+        Assertions.assertNotNull(executionTime, "Agroal timers should be registered eagerly");
+
+        try (Connection connection = defaultDS.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                statement.execute();
+                statement.execute();
+            }
+        }
+
+        Assertions.assertEquals(1L, acquireTime.getCount());
+        Assertions.assertEquals(2L, executionTime.getCount());
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.inject.Inject;
+
+import org.h2.jdbc.JdbcPreparedStatement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PreparedStatementCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.prepared-statement-cache-size", "1");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Test
+    public void testStatementReused() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            JdbcPreparedStatement first = execute(connection, "SELECT 1");
+            Assertions.assertSame(first, execute(connection, "SELECT 1"));
+
+            // the cache only holds one statement
+            JdbcPreparedStatement other = execute(connection, "SELECT 2");
+            Assertions.assertNotSame(first, execute(connection, "SELECT 1"));
+            Assertions.assertNotSame(other, execute(connection, "SELECT 2"));
+        }
+    }
+
+    @Test
+    public void testStatementInUseNotShared() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            try (PreparedStatement first = connection.prepareStatement("SELECT 3");
+                    PreparedStatement second = connection.prepareStatement("SELECT 3")) {
+                Assertions.assertNotSame(first.unwrap(JdbcPreparedStatement.class),
+                        second.unwrap(JdbcPreparedStatement.class));
+            }
+        }
+    }
+
+    @Test
+    public void testReconfiguredStatementNotReused() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            JdbcPreparedStatement first;
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 4")) {
+                statement.setMaxRows(1);
+                first = statement.unwrap(JdbcPreparedStatement.class);
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 4")) {
+                Assertions.assertNotSame(first, statement.unwrap(JdbcPreparedStatement.class));
+                Assertions.assertEquals(0, statement.getMaxRows());
+            }
+        }
+    }
+
+    private static JdbcPreparedStatement execute(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Assertions.assertTrue(resultSet.next());
+            }
+            return statement.unwrap(JdbcPreparedStatement.class);
+        }
+    }
+}
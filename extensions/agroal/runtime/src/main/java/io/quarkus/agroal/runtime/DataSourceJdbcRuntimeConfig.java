@@ -93,6 +93,16 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectStatementLeaks = true;
 
+    /**
+     * The maximum number of prepared statements kept open per connection, so that preparing the same SQL again on
+     * this connection reuses them. The least recently used statement is closed when the cache is full.
+     * <p>
+     * Only useful with drivers that do not cache prepared statements themselves.
+     * Set to {@code 0} to disable the cache.
+     */
+    @ConfigItem
+    public int preparedStatementCacheSize = 0;
+
     /**
      * Query executed when first using a connection.
      */
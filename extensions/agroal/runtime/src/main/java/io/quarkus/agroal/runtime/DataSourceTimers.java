@@ -0,0 +1,59 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Holds the timers of a datasource, if metrics are enabled for it.
+ * <p>
+ * The connection acquisition time is measured as a listener of the pool, the statement execution time
+ * by the connections created through {@link StatementCachingDriver}.
+ */
+public final class DataSourceTimers implements AgroalDataSourceListener {
+
+    private final ThreadLocal<long[]> acquisitionStart = new ThreadLocal<>();
+
+    private volatile TimeRecorder acquisitionTimer;
+    private volatile TimeRecorder executionTimer;
+
+    public void setAcquisitionTimer(TimeRecorder acquisitionTimer) {
+        this.acquisitionTimer = acquisitionTimer;
+    }
+
+    public void setExecutionTimer(TimeRecorder executionTimer) {
+        this.executionTimer = executionTimer;
+    }
+
+    TimeRecorder getExecutionTimer() {
+        return executionTimer;
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        if (acquisitionTimer == null) {
+            return;
+        }
+        long[] start = acquisitionStart.get();
+        if (start == null) {
+            start = new long[1];
+            acquisitionStart.set(start);
+        }
+        start[0] = System.nanoTime();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        TimeRecorder timer = acquisitionTimer;
+        if (timer == null) {
+            return;
+        }
+        long[] start = acquisitionStart.get();
+        if (start != null && start[0] != 0) {
+            timer.update(System.nanoTime() - start[0], TimeUnit.NANOSECONDS);
+            start[0] = 0;
+        }
+    }
+}
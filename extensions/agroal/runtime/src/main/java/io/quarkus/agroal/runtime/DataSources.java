@@ -71,6 +71,7 @@ public class DataSources {
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DataSourceTimers> dataSourceTimers = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -104,6 +105,14 @@ public class DataSources {
                 .getDataSource(dataSourceName);
     }
 
+    /**
+     * Meant to be used from recorders, see {@link #fromName(String)}.
+     */
+    public static DataSourceTimers timersOf(String dataSourceName) {
+        return Arc.container().instance(DataSources.class).get()
+                .getTimers(dataSourceName);
+    }
+
     public AgroalDataSource getDataSource(String dataSourceName) {
         return dataSources.computeIfAbsent(dataSourceName, new Function<String, AgroalDataSource>() {
             @Override
@@ -113,6 +122,18 @@ public class DataSources {
         });
     }
 
+    /**
+     * @return the timers of the given datasource, which are only updated if metrics have been registered for it
+     */
+    public DataSourceTimers getTimers(String dataSourceName) {
+        return dataSourceTimers.computeIfAbsent(dataSourceName, new Function<String, DataSourceTimers>() {
+            @Override
+            public DataSourceTimers apply(String s) {
+                return new DataSourceTimers();
+            }
+        });
+    }
+
     public AgroalDataSource doCreateDataSource(String dataSourceName) {
         if (!dataSourceSupport.entries.containsKey(dataSourceName)) {
             throw new IllegalArgumentException("No datasource named '" + dataSourceName + "' exists");
@@ -168,6 +189,31 @@ public class DataSources {
         applyNewConfiguration(dataSourceConfiguration, poolConfiguration, connectionFactoryConfiguration, driver,
                 dataSourceJdbcBuildTimeConfig, dataSourceRuntimeConfig, dataSourceJdbcRuntimeConfig, mpMetricsPresent);
 
+        // Prepared statement cache and statement execution time, both handled by wrapping the driver
+        boolean timedStatements = dataSourcesBuildTimeConfig.metricsEnabled
+                && dataSourceJdbcBuildTimeConfig.enableMetrics.orElse(true);
+        int preparedStatementCacheSize = dataSourceJdbcRuntimeConfig.preparedStatementCacheSize;
+        if (preparedStatementCacheSize < 0) {
+            throw new IllegalArgumentException("The prepared statement cache size of datasource '" + dataSourceName
+                    + "' must not be negative");
+        }
+        if (preparedStatementCacheSize > 0 || timedStatements) {
+            if (Driver.class.isAssignableFrom(driver)) {
+                connectionFactoryConfiguration.connectionProviderClass(StatementCachingDriver.class);
+                connectionFactoryConfiguration.jdbcProperty(StatementCachingDriver.DELEGATE_DRIVER_PROPERTY,
+                        driver.getName());
+                connectionFactoryConfiguration.jdbcProperty(StatementCachingDriver.STATEMENT_CACHE_SIZE_PROPERTY,
+                        String.valueOf(preparedStatementCacheSize));
+                if (timedStatements) {
+                    connectionFactoryConfiguration.jdbcProperty(StatementCachingDriver.DATASOURCE_NAME_PROPERTY,
+                            dataSourceName);
+                }
+            } else if (preparedStatementCacheSize > 0) {
+                log.warnv("Prepared statements of datasource {0} are not cached as its driver {1} is not a java.sql.Driver",
+                        dataSourceName, driver.getName());
+            }
+        }
+
         if (dataSourceSupport.disableSslSupport) {
             agroalConnectionConfigurer.disableSslSupport(resolvedDbKind, dataSourceConfiguration);
         }
@@ -186,7 +232,7 @@ public class DataSources {
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
         AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName));
+                new AgroalEventLoggingListener(dataSourceName), getTimers(dataSourceName));
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
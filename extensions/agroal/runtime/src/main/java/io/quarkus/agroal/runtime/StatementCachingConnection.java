@@ -0,0 +1,447 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * A physical connection keeping up to {@code cacheSize} prepared statements once they are closed, so that
+ * preparing the same SQL again on this connection reuses them.
+ * <p>
+ * The cache is least recently used: the statement closed the longest time ago is the one actually closed when the
+ * cache is full. A statement is removed from the cache while in use, so preparing the same SQL twice before closing
+ * the first statement gives two distinct statements.
+ */
+final class StatementCachingConnection implements Connection {
+
+    private static final int UNSPECIFIED = -1;
+
+    private final Connection delegate;
+    private final int cacheSize;
+    private final DataSourceTimers timers;
+    private final LinkedHashMap<StatementKey, CachedPreparedStatement> cache;
+    private boolean closed;
+
+    StatementCachingConnection(Connection delegate, int cacheSize, DataSourceTimers timers) {
+        this.delegate = delegate;
+        this.cacheSize = cacheSize;
+        this.timers = timers;
+        this.cache = new LinkedHashMap<StatementKey, CachedPreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedPreparedStatement> eldest) {
+                if (size() > StatementCachingConnection.this.cacheSize) {
+                    eldest.getValue().closeQuietly();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    TimeRecorder getExecutionTimer() {
+        return timers != null ? timers.getExecutionTimer() : null;
+    }
+
+    private PreparedStatement prepare(StatementKey key) throws SQLException {
+        if (cacheSize > 0) {
+            CachedPreparedStatement cached;
+            synchronized (cache) {
+                cached = cache.remove(key);
+            }
+            if (cached != null) {
+                cached.reuse();
+                return cached;
+            }
+        }
+        PreparedStatement statement;
+        if (key.resultSetType != UNSPECIFIED) {
+            statement = delegate.prepareStatement(key.sql, key.resultSetType, key.resultSetConcurrency);
+        } else if (key.autoGeneratedKeys != UNSPECIFIED) {
+            statement = delegate.prepareStatement(key.sql, key.autoGeneratedKeys);
+        } else {
+            statement = delegate.prepareStatement(key.sql);
+        }
+        return new CachedPreparedStatement(this, cacheSize > 0 ? key : null, statement);
+    }
+
+    /**
+     * @return whether the statement has been put back in the cache, in which case it must not be closed
+     */
+    boolean release(CachedPreparedStatement statement) {
+        StatementKey key = statement.getKey();
+        if (key == null) {
+            return false;
+        }
+        synchronized (cache) {
+            if (closed || cache.containsKey(key)) {
+                return false;
+            }
+            cache.put(key, statement);
+            return true;
+        }
+    }
+
+    private void clearCache() {
+        synchronized (cache) {
+            Iterator<CachedPreparedStatement> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                iterator.next().closeQuietly();
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepare(new StatementKey(sql, UNSPECIFIED, UNSPECIFIED, UNSPECIFIED));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return prepare(new StatementKey(sql, resultSetType, resultSetConcurrency, UNSPECIFIED));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return prepare(new StatementKey(sql, UNSPECIFIED, UNSPECIFIED, autoGeneratedKeys));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+            int resultSetHoldability) throws SQLException {
+        return new CachedPreparedStatement(this, null,
+                delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return new CachedPreparedStatement(this, null, delegate.prepareStatement(sql, columnIndexes));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return new CachedPreparedStatement(this, null, delegate.prepareStatement(sql, columnNames));
+    }
+
+    @Override
+    public void close() throws SQLException {
+        synchronized (cache) {
+            closed = true;
+        }
+        clearCache();
+        delegate.close();
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        synchronized (cache) {
+            closed = true;
+            cache.clear();
+        }
+        delegate.abort(executor);
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        // the same SQL may not have the same meaning in another catalog
+        clearCache();
+        delegate.setCatalog(catalog);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        // the same SQL may not have the same meaning in another schema
+        clearCache();
+        delegate.setSchema(schema);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        // the cached statements have been created with the previous holdability
+        clearCache();
+        delegate.setHoldability(holdability);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return delegate.createStatement();
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return delegate.createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return delegate.prepareCall(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return delegate.nativeSQL(sql);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        delegate.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return delegate.getAutoCommit();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        delegate.commit();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        delegate.rollback();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return delegate.getMetaData();
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        delegate.setReadOnly(readOnly);
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return delegate.isReadOnly();
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return delegate.getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        delegate.setTransactionIsolation(level);
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return delegate.getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return delegate.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        delegate.clearWarnings();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return delegate.getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        delegate.setTypeMap(map);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return delegate.getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return delegate.setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return delegate.setSavepoint(name);
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        delegate.rollback(savepoint);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        delegate.releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return delegate.createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return delegate.createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return delegate.createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return delegate.createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return delegate.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        delegate.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        delegate.setClientInfo(properties);
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return delegate.getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return delegate.getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return delegate.createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return delegate.createStruct(typeName, attributes);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return delegate.getSchema();
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        delegate.setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return delegate.getNetworkTimeout();
+    }
+
+    @Override
+    public void beginRequest() throws SQLException {
+        delegate.beginRequest();
+    }
+
+    @Override
+    public void endRequest() throws SQLException {
+        delegate.endRequest();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    static final class StatementKey {
+
+        final String sql;
+        final int resultSetType;
+        final int resultSetConcurrency;
+        final int autoGeneratedKeys;
+
+        StatementKey(String sql, int resultSetType, int resultSetConcurrency, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return resultSetType == that.resultSetType && resultSetConcurrency == that.resultSetConcurrency
+                    && autoGeneratedKeys == that.autoGeneratedKeys && sql.equals(that.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, resultSetType, resultSetConcurrency, autoGeneratedKeys);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * A {@link Driver} wrapping the actual JDBC driver of a datasource, so that the physical connections
+ * cache their prepared statements and report their execution time.
+ * <p>
+ * Agroal instantiates the connection provider class itself, so the actual driver, the size of the cache
+ * and the name of the datasource are passed as JDBC properties, which are removed before connecting.
+ */
+public final class StatementCachingDriver implements Driver {
+
+    static final String DELEGATE_DRIVER_PROPERTY = "quarkus.agroal.delegate-driver";
+    static final String STATEMENT_CACHE_SIZE_PROPERTY = "quarkus.agroal.prepared-statement-cache-size";
+    static final String DATASOURCE_NAME_PROPERTY = "quarkus.agroal.datasource-name";
+
+    private final ClassLoader classLoader;
+    private volatile Driver delegate;
+
+    public StatementCachingDriver() {
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        this.classLoader = tccl != null ? tccl : StatementCachingDriver.class.getClassLoader();
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        Properties properties = new Properties();
+        properties.putAll(info);
+        String delegateDriver = (String) properties.remove(DELEGATE_DRIVER_PROPERTY);
+        String statementCacheSize = (String) properties.remove(STATEMENT_CACHE_SIZE_PROPERTY);
+        String dataSourceName = (String) properties.remove(DATASOURCE_NAME_PROPERTY);
+        if (delegateDriver == null) {
+            throw new SQLException("Property " + DELEGATE_DRIVER_PROPERTY + " is required");
+        }
+
+        Connection connection = getDelegate(delegateDriver).connect(url, properties);
+        if (connection == null) {
+            return null;
+        }
+        DataSourceTimers timers = dataSourceName == null ? null : DataSources.timersOf(dataSourceName);
+        return new StatementCachingConnection(connection,
+                statementCacheSize == null ? 0 : Integer.parseInt(statementCacheSize), timers);
+    }
+
+    private Driver getDelegate(String delegateDriver) throws SQLException {
+        Driver driver = delegate;
+        if (driver == null) {
+            try {
+                driver = (Driver) Class.forName(delegateDriver, true, classLoader).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException("Unable to instantiate the JDBC driver " + delegateDriver, e);
+            }
+            delegate = driver;
+        }
+        return driver;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) throws SQLException {
+        // the actual driver is only known when connecting, the URL has been validated against it already
+        return url != null && url.startsWith("jdbc:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+        Driver driver = delegate;
+        return driver != null ? driver.getPropertyInfo(url, info) : new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        Driver driver = delegate;
+        return driver != null ? driver.getMajorVersion() : 0;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        Driver driver = delegate;
+        return driver != null ? driver.getMinorVersion() : 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        Driver driver = delegate;
+        return driver != null && driver.jdbcCompliant();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        Driver driver = delegate;
+        if (driver == null) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        return driver.getParentLogger();
+    }
+}
@@ -8,6 +8,8 @@ import java.util.function.Supplier;
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.runtime.DataSourceTimers;
+import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
@@ -111,6 +113,16 @@ public class AgroalMetricsRecorder {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                DataSourceTimers timers = DataSources.timersOf(dataSourceName);
+                timers.setAcquisitionTimer(metricsFactory.builder("agroal.acquire.time")
+                        .description("Time an application waited to acquire a connection.")
+                        .tag("datasource", tagValue)
+                        .buildTimer());
+                timers.setExecutionTimer(metricsFactory.builder("agroal.statement.execution.time")
+                        .description("Time taken to execute prepared statements.")
+                        .tag("datasource", tagValue)
+                        .buildTimer());
             }
         };
     }
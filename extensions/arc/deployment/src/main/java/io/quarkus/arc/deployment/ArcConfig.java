@@ -69,6 +69,47 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean transformUnproxyableClasses;
 
+    /**
+     * If set to true, a single invocation context is used for all {@code @AroundInvoke} interceptors bound to an intercepted
+     * method, instead of a new invocation context for each interceptor in the chain.
+     * <p>
+     * An interceptor may still call {@link javax.interceptor.InvocationContext#proceed()} multiple times. However, it must not
+     * call it after the interceptor method returned. Therefore, the methods returning an asynchronous type, such as
+     * {@code CompletionStage} or {@code Uni}, always use a new invocation context for each interceptor.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean reuseInvocationContext;
+
+    /**
+     * If set to true, the container records the creation of {@code @ApplicationScoped} and {@code @Singleton} beans during
+     * application startup. Once the {@link io.quarkus.runtime.StartupEvent} is fired, a report with the creation time of each
+     * bean and the chain of beans that triggered its creation is logged.
+     * <p>
+     * Normal scoped beans that were created eagerly, e.g. by means of {@link io.quarkus.runtime.Startup}, are flagged in the
+     * report. If such a bean is not needed before the first request then its initialization can be deferred with
+     * {@link #deferredStartupTypes}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean startupProfiling;
+
+    /**
+     * List of normal scoped beans annotated with {@link io.quarkus.runtime.Startup} that should not be initialized during
+     * startup. The initialization of such a bean is deferred until the bean is first used.
+     * <p>
+     * An element value can be:
+     * <ul>
+     * <li>a fully qualified class name, i.e. {@code org.acme.Foo}</li>
+     * <li>a simple class name as defined by {@link Class#getSimpleName()}, i.e. {@code Foo}</li>
+     * <li>a package name with suffix {@code .*}, i.e. {@code org.acme.*}, matches a package</li>
+     * <li>a package name with suffix {@code .**}, i.e. {@code org.acme.**}, matches a package that starts with the value</li>
+     * </ul>
+     * The value is ignored for {@code @Singleton} and {@code @Dependent} beans.
+     *
+     * @see {@link #startupProfiling}
+     */
+    @ConfigItem
+    public Optional<List<String>> deferredStartupTypes;
+
     /**
      * The default naming strategy for {@link ConfigProperties.NamingStrategy}. The allowed values are determined
      * by that enum
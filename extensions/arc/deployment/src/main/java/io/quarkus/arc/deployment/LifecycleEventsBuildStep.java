@@ -25,6 +25,9 @@ public class LifecycleEventsBuildStep {
             ShutdownContextBuildItem shutdown,
             LaunchModeBuildItem launchMode, ArcConfig config) {
         recorder.handleLifecycleEvents(shutdown, launchMode.getLaunchMode(), config.test.disableApplicationLifecycleObservers);
+        if (config.startupProfiling) {
+            recorder.logBeanCreations();
+        }
         return new ApplicationStartBuildItem();
     }
 
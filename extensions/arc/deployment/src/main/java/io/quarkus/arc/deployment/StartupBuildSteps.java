@@ -1,12 +1,18 @@
 package io.quarkus.arc.deployment;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -29,6 +35,8 @@ import io.quarkus.runtime.StartupEvent;
 
 public class StartupBuildSteps {
 
+    private static final Logger LOGGER = Logger.getLogger(StartupBuildSteps.class);
+
     static final DotName STARTUP_NAME = DotName.createSimple(Startup.class.getName());
 
     static final MethodDescriptor ARC_CONTAINER = MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class);
@@ -62,18 +70,41 @@ public class StartupBuildSteps {
 
     @BuildStep
     void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistrationPhase,
-            BuildProducer<ObserverConfiguratorBuildItem> configurators) {
+            BuildProducer<ObserverConfiguratorBuildItem> configurators, ArcConfig config) {
 
         AnnotationStore annotationStore = observerRegistrationPhase.getContext().get(BuildExtension.Key.ANNOTATION_STORE);
+        List<Predicate<ClassInfo>> deferredPredicates = config.deferredStartupTypes.isPresent()
+                ? ArcProcessor.initClassPredicates(config.deferredStartupTypes.get())
+                : Collections.emptyList();
 
         for (BeanInfo bean : observerRegistrationPhase.getContext().beans().withTarget()) {
             AnnotationInstance startupAnnotation = annotationStore.getAnnotation(bean.getTarget().get(), STARTUP_NAME);
             if (startupAnnotation != null) {
+                if (isDeferred(bean, deferredPredicates)) {
+                    if (bean.getScope().isNormal()) {
+                        LOGGER.debugf("Initialization of @Startup bean deferred: %s", bean);
+                        continue;
+                    }
+                    LOGGER.warnf("Initialization of @Startup bean cannot be deferred - the bean is not normal scoped: %s",
+                            bean);
+                }
                 registerStartupObserver(observerRegistrationPhase, bean, startupAnnotation);
             }
         }
     }
 
+    private static boolean isDeferred(BeanInfo bean, List<Predicate<ClassInfo>> deferredPredicates) {
+        ClassInfo beanClass = bean.getImplClazz();
+        if (beanClass != null) {
+            for (Predicate<ClassInfo> predicate : deferredPredicates) {
+                if (predicate.test(beanClass)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observerRegistrationPhase, BeanInfo bean,
             AnnotationInstance startup) {
         ObserverConfigurator configurator = observerRegistrationPhase.getContext().configure()
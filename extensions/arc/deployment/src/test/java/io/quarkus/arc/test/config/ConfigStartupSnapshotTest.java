@@ -0,0 +1,49 @@
+package io.quarkus.arc.test.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.Startup;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConfigStartupSnapshotTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Greeting.class)
+                    .addAsResource(new StringAsset("greeting=hello ${name}\nname=world\n"
+                            + "quarkus.startup.config-snapshot=true"), "application.properties"));
+
+    @Inject
+    Greeting greeting;
+
+    @Test
+    public void testSnapshotReleased() {
+        assertEquals("hello world", greeting.value);
+        System.setProperty("name", "quarkus");
+        try {
+            assertEquals("hello quarkus", ConfigProvider.getConfig().getValue("greeting", String.class));
+        } finally {
+            System.clearProperty("name");
+        }
+    }
+
+    @Startup
+    @Singleton
+    static class Greeting {
+
+        @ConfigProperty(name = "greeting")
+        String value;
+    }
+}
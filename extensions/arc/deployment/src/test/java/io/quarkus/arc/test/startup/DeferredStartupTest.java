@@ -0,0 +1,77 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.logging.LogRecord;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.Startup;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DeferredStartupTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Eager.class, Deferred.class))
+            .overrideConfigKey("quarkus.arc.startup-profiling", "true")
+            .overrideConfigKey("quarkus.arc.deferred-startup-types", "Deferred")
+            .setLogRecordPredicate(record -> record.getMessage().contains("beans created during startup"))
+            .assertLogRecords(records -> {
+                assertEquals(1, records.size());
+                LogRecord record = records.get(0);
+                String report = String.format(record.getMessage(), record.getParameters());
+                assertTrue(report.contains(Eager.class.getName() + " (created eagerly"), report);
+                assertFalse(report.contains(Deferred.class.getName()), report);
+            });
+
+    @Inject
+    Deferred deferred;
+
+    @Test
+    public void testStartup() {
+        assertTrue(Eager.initialized);
+        assertFalse(Deferred.initialized);
+        assertEquals("ok", deferred.ping());
+        assertTrue(Deferred.initialized);
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class Eager {
+
+        static volatile boolean initialized;
+
+        @PostConstruct
+        void init() {
+            initialized = true;
+        }
+
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class Deferred {
+
+        static volatile boolean initialized;
+
+        @PostConstruct
+        void init() {
+            initialized = true;
+        }
+
+        String ping() {
+            return "ok";
+        }
+
+    }
+}
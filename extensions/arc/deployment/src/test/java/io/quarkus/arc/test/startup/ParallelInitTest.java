@@ -0,0 +1,52 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.Startup;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ParallelInitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(StartMe.class))
+            .overrideConfigKey("quarkus.startup.parallel-init", "true")
+            .overrideConfigKey("greeting", "hello");
+
+    @Inject
+    StartMe startMe;
+
+    @Test
+    public void testStartup() {
+        assertTrue(StartMe.started);
+        assertEquals("hello", startMe.getGreeting());
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class StartMe {
+
+        static volatile boolean started;
+
+        @ConfigProperty(name = "greeting")
+        String greeting;
+
+        StartMe() {
+            started = true;
+        }
+
+        String getGreeting() {
+            return greeting;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.arc.runtime;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +11,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import javax.enterprise.context.NormalScope;
+
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
@@ -17,6 +20,8 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.BeanCreationProfiler;
+import io.quarkus.arc.impl.BeanCreationProfiler.BeanCreation;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -36,6 +41,10 @@ public class ArcRecorder {
      */
     public static volatile Map<String, Supplier<?>> supplierMap;
 
+    public void startBeanCreationProfiling() {
+        BeanCreationProfiler.start();
+    }
+
     public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
         ArcContainer container = Arc.initialize();
         shutdown.addShutdownTask(new Runnable() {
@@ -104,6 +113,43 @@ public class ArcRecorder {
         });
     }
 
+    public void logBeanCreations() {
+        List<BeanCreation> creations = BeanCreationProfiler.stop();
+        if (creations.isEmpty()) {
+            LOG.info("No @ApplicationScoped or @Singleton bean was created during startup");
+            return;
+        }
+        creations.sort(Comparator.comparingLong(BeanCreation::getDuration).reversed());
+        long total = 0;
+        StringBuilder report = new StringBuilder();
+        for (BeanCreation creation : creations) {
+            if (creation.getChain().isEmpty()) {
+                total += creation.getDuration();
+            }
+            report.append("\n\t- ").append(toMillis(creation.getDuration())).append(" ms [self: ")
+                    .append(toMillis(creation.getSelfDuration())).append(" ms] ")
+                    .append(toString(creation.getBean()));
+            for (int i = creation.getChain().size() - 1; i >= 0; i--) {
+                report.append(" <- ").append(toString(creation.getChain().get(i)));
+            }
+            if (creation.getChain().isEmpty()
+                    && creation.getBean().getScope().isAnnotationPresent(NormalScope.class)) {
+                // Normal scoped beans are only created eagerly if explicitly requested, e.g. by @Startup
+                report.append(" (created eagerly; can be deferred if not needed before the first request)");
+            }
+        }
+        LOG.infof("%s beans created during startup in %s ms:%s", creations.size(), toMillis(total), report);
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String toString(InjectableBean<?> bean) {
+        String name = bean.getBeanClass().getName();
+        return bean.getKind() == Kind.CLASS ? name : name + " (" + bean.getKind() + ")";
+    }
+
     public Supplier<Object> createSupplier(RuntimeValue<?> value) {
         return new Supplier<Object>() {
             @Override
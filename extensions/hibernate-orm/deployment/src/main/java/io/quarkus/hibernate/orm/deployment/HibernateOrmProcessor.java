@@ -42,6 +42,7 @@ import javax.persistence.spi.PersistenceUnitTransactionType;
 import javax.transaction.TransactionManager;
 
 import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Version;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
 import org.hibernate.cfg.AvailableSettings;
@@ -99,6 +100,7 @@ import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBui
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.configuration.ConfigurationError;
+import io.quarkus.deployment.configuration.TransformationCacheConfig;
 import io.quarkus.deployment.index.IndexingUtil;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.deployment.recording.RecorderContext;
@@ -128,6 +130,7 @@ import io.quarkus.panache.common.deployment.HibernateEnhancersRegisteredBuildIte
 import io.quarkus.panache.common.deployment.HibernateModelClassCandidatesForFieldAccessBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.util.HashUtil;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 
@@ -551,9 +554,11 @@ public final class HibernateOrmProcessor {
     public HibernateEnhancersRegisteredBuildItem enhancerDomainObjects(JpaModelBuildItem jpaModel,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses,
+            TransformationCacheConfig transformationCacheConfig) {
         // Modify the bytecode of all entities to enable lazy-loading, dirty checking, etc..
-        enhanceEntities(jpaModel, transformers, additionalJpaModelBuildItems, additionalClasses);
+        enhanceEntities(jpaModel, transformers, additionalJpaModelBuildItems, additionalClasses,
+                transformationCacheConfig.enabled);
         // this allows others to register their enhancers after Hibernate, so they run before ours
         return new HibernateEnhancersRegisteredBuildItem();
     }
@@ -1058,6 +1063,25 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    /**
+     * The enhancement of an entity depends on the version of Hibernate ORM and on the other classes of the model it
+     * inspects, e.g. its superclasses and the types of its fields, so they are all part of the key.
+     */
+    private static String enhancementCacheKey(Set<String> modelClassNames) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        StringBuilder key = new StringBuilder("hibernate-orm-enhancer:").append(Version.getVersionString());
+        for (String className : new TreeSet<>(modelClassNames)) {
+            try {
+                key.append('\n').append(className).append(':')
+                        .append(HashUtil.sha256(IoUtil.readClassAsBytes(classLoader, className)));
+            } catch (IOException | RuntimeException e) {
+                // the model cannot be hashed, do not cache the enhanced classes
+                return null;
+            }
+        }
+        return HashUtil.sha256(key.toString());
+    }
+
     private static void setMaxFetchDepth(ParsedPersistenceXmlDescriptor descriptor, OptionalInt maxFetchDepth) {
         descriptor.getProperties().setProperty(AvailableSettings.MAX_FETCH_DEPTH, String.valueOf(maxFetchDepth.getAsInt()));
     }
@@ -1065,10 +1089,19 @@ public final class HibernateOrmProcessor {
     private void enhanceEntities(final JpaModelBuildItem jpaModel,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses,
+            boolean transformationCacheEnabled) {
         HibernateEntityEnhancer hibernateEntityEnhancer = new HibernateEntityEnhancer();
+        // hashing the model is only worth it if the transformed classes are actually stored
+        String cacheKey = transformationCacheEnabled ? enhancementCacheKey(jpaModel.getAllModelClassNames()) : null;
         for (String i : jpaModel.getAllModelClassNames()) {
-            transformers.produce(new BytecodeTransformerBuildItem(true, i, hibernateEntityEnhancer, true));
+            transformers.produce(new BytecodeTransformerBuildItem.Builder()
+                    .setEager(true)
+                    .setClassToTransform(i)
+                    .setVisitorFunction(hibernateEntityEnhancer)
+                    .setCacheable(true)
+                    .setCacheKey(cacheKey)
+                    .build());
         }
         for (AdditionalJpaModelBuildItem additionalJpaModel : additionalJpaModelBuildItems) {
             String className = additionalJpaModel.getClassName();
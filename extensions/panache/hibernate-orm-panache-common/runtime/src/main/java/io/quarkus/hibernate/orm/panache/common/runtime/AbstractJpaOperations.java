@@ -3,6 +3,7 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -15,6 +16,10 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.arc.Arc;
@@ -27,6 +32,11 @@ import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    /**
+     * Number of entities per batch for bulk operations when no JDBC batch size is configured
+     */
+    public static final int DEFAULT_BULK_BATCH_SIZE = 50;
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -117,6 +127,111 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistInBatches(Iterable<?> entities) {
+        persistInBatches(entities.iterator(), 0);
+    }
+
+    public void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), checkBatchSize(batchSize));
+    }
+
+    public void persistInBatches(Stream<?> entities) {
+        persistInBatches(entities.iterator(), 0);
+    }
+
+    public void persistInBatches(Stream<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), checkBatchSize(batchSize));
+    }
+
+    /**
+     * Persists the entities, flushing and clearing the persistence context every {@code batchSize} entities so that
+     * its size stays bounded. All the entities must belong to the persistence unit of the first one.
+     *
+     * @param batchSize the number of entities per batch, or 0 to use the configured JDBC batch size
+     */
+    private void persistInBatches(Iterator<?> entities, int batchSize) {
+        if (!entities.hasNext()) {
+            return;
+        }
+        Object entity = entities.next();
+        EntityManager em = getEntityManager(entity.getClass());
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        Integer sessionBatchSize = session.getJdbcBatchSize();
+        if (batchSize == 0) {
+            batchSize = getJdbcBatchSize(session);
+        }
+        // make sure the flushes of this operation use JDBC batching, even if it is not enabled globally
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int count = 0;
+            while (true) {
+                persist(em, entity);
+                if (++count == batchSize) {
+                    em.flush();
+                    em.clear();
+                    count = 0;
+                }
+                if (!entities.hasNext()) {
+                    break;
+                }
+                entity = entities.next();
+            }
+            if (count > 0) {
+                em.flush();
+                em.clear();
+            }
+        } finally {
+            session.setJdbcBatchSize(sessionBatchSize);
+        }
+    }
+
+    public void insertStateless(Iterable<?> entities) {
+        insertStateless(entities.iterator());
+    }
+
+    public void insertStateless(Stream<?> entities) {
+        insertStateless(entities.iterator());
+    }
+
+    /**
+     * Inserts the entities through a {@link StatelessSession} sharing the JDBC connection, and therefore the
+     * transaction, of the current session. All the entities must belong to the persistence unit of the first one.
+     */
+    private void insertStateless(Iterator<?> entities) {
+        if (!entities.hasNext()) {
+            return;
+        }
+        Object entity = entities.next();
+        SessionImplementor session = getEntityManager(entity.getClass()).unwrap(SessionImplementor.class);
+        try (StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(session.connection())) {
+            statelessSession.setJdbcBatchSize(getJdbcBatchSize(session));
+            while (true) {
+                statelessSession.insert(entity);
+                if (!entities.hasNext()) {
+                    break;
+                }
+                entity = entities.next();
+            }
+            // the batch would otherwise only be executed at transaction completion
+            ((SharedSessionContractImplementor) statelessSession).getJdbcCoordinator().executeBatch();
+        }
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0, got " + batchSize);
+        }
+        return batchSize;
+    }
+
+    private static int getJdbcBatchSize(SessionImplementor session) {
+        Integer batchSize = session.getJdbcBatchSize();
+        if (batchSize == null) {
+            batchSize = session.getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        }
+        return batchSize > 1 ? batchSize : DEFAULT_BULK_BATCH_SIZE;
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(entity);
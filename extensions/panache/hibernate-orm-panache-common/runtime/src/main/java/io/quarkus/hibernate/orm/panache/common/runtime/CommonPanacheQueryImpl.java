@@ -2,13 +2,21 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
@@ -16,8 +24,12 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
@@ -256,6 +268,35 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        return (Stream<T>) scroll(fetchSize, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<List<T>> batches(int batchSize) {
+        return (Stream<List<T>>) scroll(batchSize, batchSize);
+    }
+
+    private Stream<?> scroll(int fetchSize, int batchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be greater than 0, got " + fetchSize);
+        }
+        Query jpaQuery = createQuery();
+        @SuppressWarnings("rawtypes")
+        org.hibernate.query.Query hibernateQuery = jpaQuery.unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFetchSize(fetchSize);
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        // the entities managed before the cursor is opened belong to the caller and are never detached
+        Set<Object> managedBefore = managedEntities(session);
+        ScrollableResults results;
+        try (NonThrowingCloseable c = applyFilters()) {
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        ScrollingSpliterator spliterator = new ScrollingSpliterator(results, session, managedBefore, batchSize);
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -383,4 +424,90 @@ public class CommonPanacheQueryImpl<Entity> {
             }
         };
     }
+
+    private static Set<Object> managedEntities(SessionImplementor session) {
+        Set<Object> managed = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (session.getPersistenceContext().getNumberOfManagedEntities() > 0) {
+            for (Entry<Object, EntityEntry> entry : session.getPersistenceContext().reentrantSafeEntityEntries()) {
+                managed.add(entry.getKey());
+            }
+        }
+        return managed;
+    }
+
+    /**
+     * Walks a forward-only cursor and detaches the entities loaded by each row, or batch of rows, once the consumer
+     * is done with them, so that the persistence context does not grow with the number of results. Pending changes are
+     * flushed before detaching, and the entities that were already managed when the cursor was opened stay managed.
+     */
+    private static class ScrollingSpliterator extends Spliterators.AbstractSpliterator<Object> {
+
+        private final ScrollableResults results;
+        private final SessionImplementor session;
+        private final Set<Object> managedBefore;
+        // 0 to return the rows one by one
+        private final int batchSize;
+
+        ScrollingSpliterator(ScrollableResults results, SessionImplementor session, Set<Object> managedBefore,
+                int batchSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.results = results;
+            this.session = session;
+            this.managedBefore = managedBefore;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (batchSize == 0) {
+                if (!results.next()) {
+                    results.close();
+                    return false;
+                }
+                Object row = currentRow();
+                action.accept(row);
+                flush();
+                detach(row);
+                return true;
+            }
+            List<Object> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize && results.next()) {
+                batch.add(currentRow());
+            }
+            if (batch.isEmpty()) {
+                results.close();
+                return false;
+            }
+            action.accept(batch);
+            flush();
+            for (Object row : batch) {
+                detach(row);
+            }
+            return true;
+        }
+
+        private Object currentRow() {
+            // same as the Stream returned by Hibernate ORM: single-element rows are unwrapped
+            Object[] row = results.get();
+            return row.length == 1 ? row[0] : row;
+        }
+
+        private void flush() {
+            // changes made by the consumer would be lost once the entities are detached
+            if (session.isTransactionInProgress() && session.isDirty()) {
+                session.flush();
+            }
+        }
+
+        private void detach(Object row) {
+            if (row instanceof Object[]) {
+                for (Object element : (Object[]) row) {
+                    detach(element);
+                }
+            } else if (row != null && !managedBefore.contains(row)
+                    && session.getPersistenceContext().getEntry(row) != null) {
+                session.evict(row);
+            }
+        }
+    }
 }
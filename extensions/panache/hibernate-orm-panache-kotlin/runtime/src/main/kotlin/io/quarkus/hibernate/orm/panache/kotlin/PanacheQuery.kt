@@ -222,6 +222,36 @@ interface PanacheQuery<Entity: Any> {
      */
     fun stream(): Stream<Entity>
 
+    /**
+     * Returns the current page of results as a Stream backed by a forward-only database cursor, fetching
+     * `fetchSize` rows per database round-trip. Each entity is detached from the persistence context once the
+     * stream has passed it to the next operation, so memory usage does not grow with the number of results. Changes made
+     * to the entities within a transaction are flushed before they are detached, and entities that were already managed
+     * before the stream was opened stay managed.
+     *
+     * The returned Stream holds the cursor open until it is fully consumed or closed, use it in a `use` block.
+     *
+     * @param fetchSize the number of rows fetched per database round-trip
+     * @return the current page of results as a Stream.
+     * @see [PanacheQuery.stream]
+     * @see [PanacheQuery.batches]
+     */
+    fun stream(fetchSize: Int): Stream<Entity>
+
+    /**
+     * Returns the current page of results as a Stream of lists of at most `batchSize` elements, backed by a
+     * forward-only database cursor. The entities of a batch are detached from the persistence context once the
+     * stream has passed the batch to the next operation. Changes made to the entities within a transaction are flushed
+     * before they are detached, and entities that were already managed before the stream was opened stay managed.
+     *
+     * The returned Stream holds the cursor open until it is fully consumed or closed, use it in a `use` block.
+     *
+     * @param batchSize the maximum number of results per batch, also used as the JDBC fetch size
+     * @return the current page of results as a Stream of batches.
+     * @see [PanacheQuery.stream]
+     */
+    fun batches(batchSize: Int): Stream<List<Entity>>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -113,6 +113,14 @@ class PanacheQueryImpl<Entity: Any> : PanacheQuery<Entity> {
         return delegate.stream()
     }
 
+    override fun stream(fetchSize: Int): Stream<Entity> {
+        return delegate.stream(fetchSize)
+    }
+
+    override fun batches(batchSize: Int): Stream<List<Entity>> {
+        return delegate.batches(batchSize)
+    }
+
     override fun firstResult(): Entity? {
         return delegate.firstResult()
     }
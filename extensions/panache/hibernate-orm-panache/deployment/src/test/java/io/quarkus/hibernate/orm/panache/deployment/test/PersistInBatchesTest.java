@@ -0,0 +1,133 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.transaction.Transactional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PersistInBatchesTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyEntity.class))
+            .withConfigurationResource("application-test.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Test
+    @Transactional
+    void shouldPersistWithExplicitBatchSize() {
+        Statistics statistics = prepare();
+        List<Integer> contextSizes = new ArrayList<>();
+        // the bridges generated on the entity take the primitive batch size
+        MyEntity.persistInBatches(recording(entities("iterable", 5), contextSizes), 2);
+        // the persistence context is cleared after each batch of 2 entities
+        assertEquals(Arrays.asList(0, 1, 0, 1, 0), contextSizes);
+        assertEquals(0, managedEntities());
+        // one sequence call per entity and one batched insert statement per batch
+        assertEquals(5, statistics.getEntityInsertCount());
+        assertEquals(5 + 3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        MyEntity.persistInBatches(Stream.of(entity("stream0"), entity("stream1"), entity("stream2")), 2);
+        assertEquals(0, managedEntities());
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(3 + 2, statistics.getPrepareStatementCount());
+        assertEquals(8, MyEntity.count());
+    }
+
+    @Test
+    @Transactional
+    void shouldPersistWithDefaultBatchSize() {
+        Statistics statistics = prepare();
+        List<Integer> contextSizes = new ArrayList<>();
+        // no JDBC batch size is configured, so the default of the H2 dialect is used: 15
+        MyEntity.persistInBatches(recording(entities("default", 120), contextSizes));
+        assertEquals(14, contextSizes.stream().mapToInt(Integer::intValue).max().getAsInt());
+        for (int i = 0; i < 120; i += 15) {
+            assertEquals(0, contextSizes.get(i));
+        }
+        assertEquals(0, managedEntities());
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertEquals(120 + 8, statistics.getPrepareStatementCount());
+        assertEquals(120, MyEntity.count());
+    }
+
+    @Test
+    @Transactional
+    void shouldInsertStateless() {
+        Statistics statistics = prepare();
+        MyEntity.insertStateless(entities("stateless", 5));
+        // the entities are never managed by the current session
+        assertEquals(0, managedEntities());
+        // one sequence call per entity and a single batched insert statement
+        assertEquals(5 + 1, statistics.getPrepareStatementCount());
+        assertEquals(5, MyEntity.count());
+    }
+
+    private static Statistics prepare() {
+        MyEntity.deleteAll();
+        Statistics statistics = MyEntity.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static int managedEntities() {
+        return MyEntity.getEntityManager().unwrap(SessionImplementor.class).getPersistenceContext()
+                .getNumberOfManagedEntities();
+    }
+
+    /**
+     * @return the entities, recording the size of the persistence context each time an entity is requested
+     */
+    private static Iterable<MyEntity> recording(List<MyEntity> entities, List<Integer> contextSizes) {
+        return new Iterable<MyEntity>() {
+            @Override
+            public Iterator<MyEntity> iterator() {
+                Iterator<MyEntity> delegate = entities.iterator();
+                return new Iterator<MyEntity>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public MyEntity next() {
+                        contextSizes.add(managedEntities());
+                        return delegate.next();
+                    }
+                };
+            }
+        };
+    }
+
+    private static List<MyEntity> entities(String prefix, int count) {
+        List<MyEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(entity(prefix + i));
+        }
+        return entities;
+    }
+
+    private static MyEntity entity(String name) {
+        MyEntity entity = new MyEntity();
+        entity.name = name;
+        return entity;
+    }
+}
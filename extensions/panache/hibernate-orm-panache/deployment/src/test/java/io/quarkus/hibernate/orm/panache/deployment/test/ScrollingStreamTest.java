@@ -0,0 +1,92 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ScrollingStreamTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyEntity.class))
+            .withConfigurationResource("application-test.properties");
+
+    @Test
+    @Transactional
+    void shouldFlushChangesBeforeDetaching() {
+        prepare(5);
+        try (Stream<MyEntity> entities = MyEntity.findAll().stream(2)) {
+            entities.forEach(entity -> entity.name += "-streamed");
+        }
+        assertEquals(0, managedEntities());
+        try (Stream<List<MyEntity>> batches = MyEntity.findAll().batches(2)) {
+            batches.forEach(batch -> batch.forEach(entity -> entity.name += "-batched"));
+        }
+        assertEquals(0, managedEntities());
+
+        List<String> names = MyEntity.<MyEntity> listAll(Sort.by("name")).stream()
+                .map(entity -> entity.name)
+                .collect(Collectors.toList());
+        assertEquals(5, names.size());
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals("entity" + i + "-streamed-batched", names.get(i));
+        }
+    }
+
+    @Test
+    @Transactional
+    void shouldKeepAlreadyManagedEntities() {
+        prepare(5);
+        MyEntity managed = MyEntity.find("name", "entity2").firstResult();
+
+        try (Stream<MyEntity> entities = MyEntity.findAll().stream(2)) {
+            // the cursor returns the instance that is already managed
+            assertTrue(entities.anyMatch(entity -> entity == managed));
+        }
+        assertTrue(MyEntity.getEntityManager().contains(managed));
+        assertEquals(1, managedEntities());
+
+        try (Stream<List<MyEntity>> batches = MyEntity.findAll().batches(2)) {
+            assertEquals(5, batches.mapToInt(List::size).sum());
+        }
+        assertTrue(MyEntity.getEntityManager().contains(managed));
+        assertEquals(1, managedEntities());
+        // the caller's changes to the managed entity are still tracked
+        managed.name = "changed";
+        assertSame(managed, MyEntity.find("name", "changed").firstResult());
+    }
+
+    private static void prepare(int count) {
+        MyEntity.deleteAll();
+        for (int i = 0; i < count; i++) {
+            MyEntity entity = new MyEntity();
+            entity.name = "entity" + i;
+            entity.persist();
+        }
+        EntityManager em = MyEntity.getEntityManager();
+        em.flush();
+        em.clear();
+    }
+
+    private static int managedEntities() {
+        return MyEntity.getEntityManager().unwrap(SessionImplementor.class).getPersistenceContext()
+                .getNumberOfManagedEntities();
+    }
+}
@@ -756,6 +756,100 @@ public abstract class PanacheEntityBase {
         JpaOperations.INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities, flushing and clearing the persistence context in batches so that its size stays
+     * bounded. The batch size is the configured JDBC batch size, or 50 if JDBC batching is not configured.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @see #persistInBatches(Iterable, int)
+     * @see #persistInBatches(Stream)
+     * @see #insertStateless(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Iterable<?> entities) {
+        JpaOperations.INSTANCE.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that its size stays bounded. JDBC batching is enabled with the same size for the duration of the operation.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persistInBatches(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context in batches so that its size stays
+     * bounded. The batch size is the configured JDBC batch size, or 50 if JDBC batching is not configured.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @see #persistInBatches(Stream, int)
+     * @see #persistInBatches(Iterable)
+     * @see #insertStateless(Stream)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Stream<?> entities) {
+        JpaOperations.INSTANCE.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that its size stays bounded. JDBC batching is enabled with the same size for the duration of the operation.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persistInBatches(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Insert all given entities with a stateless session that takes part in the current transaction.
+     * <p>
+     * This is the fastest way to load large amounts of new data, but the entities are not managed after the call,
+     * cascades and entity callbacks are not applied, and the insertions are not visible to the second-level cache.
+     *
+     * @param entities the entities to insert
+     * @see #insertStateless(Stream)
+     * @see #persistInBatches(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertStateless(Iterable<?> entities) {
+        JpaOperations.INSTANCE.insertStateless(entities);
+    }
+
+    /**
+     * Insert all given entities with a stateless session that takes part in the current transaction.
+     * <p>
+     * This is the fastest way to load large amounts of new data, but the entities are not managed after the call,
+     * cascades and entity callbacks are not applied, and the insertions are not visible to the second-level cache.
+     *
+     * @param entities the entities to insert
+     * @see #insertStateless(Iterable)
+     * @see #persistInBatches(Stream)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertStateless(Stream<?> entities) {
+        JpaOperations.INSTANCE.insertStateless(entities);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
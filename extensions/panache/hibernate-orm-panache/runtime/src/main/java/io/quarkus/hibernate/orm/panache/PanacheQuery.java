@@ -242,6 +242,38 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} backed by a forward-only database cursor, fetching
+     * {@code fetchSize} rows per database round-trip. Each entity is detached from the persistence context once the
+     * stream has passed it to the next operation, so memory usage does not grow with the number of results. Changes made
+     * to the entities within a transaction are flushed before they are detached, and entities that were already managed
+     * before the stream was opened stay managed.
+     * <p>
+     * The returned {@link Stream} holds the cursor open until it is fully consumed or closed, use it in a
+     * try-with-resources block.
+     *
+     * @param fetchSize the number of rows fetched per database round-trip
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     * @see #batches(int)
+     */
+    public <T extends Entity> Stream<T> stream(int fetchSize);
+
+    /**
+     * Returns the current page of results as a {@link Stream} of lists of at most {@code batchSize} elements, backed by
+     * a forward-only database cursor. The entities of a batch are detached from the persistence context once the
+     * stream has passed the batch to the next operation. Changes made to the entities within a transaction are flushed
+     * before they are detached, and entities that were already managed before the stream was opened stay managed.
+     * <p>
+     * The returned {@link Stream} holds the cursor open until it is fully consumed or closed, use it in a
+     * try-with-resources block.
+     *
+     * @param batchSize the maximum number of results per batch, also used as the JDBC fetch size
+     * @return the current page of results as a {@link Stream} of batches.
+     * @see #stream(int)
+     */
+    public <T extends Entity> Stream<List<T>> batches(int batchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -764,6 +764,94 @@ public interface PanacheRepositoryBase<Entity, Id> {
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities, flushing and clearing the persistence context in batches so that its size stays
+     * bounded. The batch size is the configured JDBC batch size, or 50 if JDBC batching is not configured.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @see #persistInBatches(Iterable, int)
+     * @see #persistInBatches(Stream)
+     * @see #insertStateless(Iterable)
+     */
+    default void persistInBatches(Iterable<Entity> entities) {
+        INSTANCE.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that its size stays bounded. JDBC batching is enabled with the same size for the duration of the operation.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persistInBatches(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    default void persistInBatches(Iterable<Entity> entities, int batchSize) {
+        INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context in batches so that its size stays
+     * bounded. The batch size is the configured JDBC batch size, or 50 if JDBC batching is not configured.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @see #persistInBatches(Stream, int)
+     * @see #persistInBatches(Iterable)
+     * @see #insertStateless(Stream)
+     */
+    default void persistInBatches(Stream<Entity> entities) {
+        INSTANCE.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that its size stays bounded. JDBC batching is enabled with the same size for the duration of the operation.
+     * <p>
+     * Clearing the persistence context detaches <em>all</em> the managed entities, not only the given ones.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persistInBatches(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    default void persistInBatches(Stream<Entity> entities, int batchSize) {
+        INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Insert all given entities with a stateless session that takes part in the current transaction.
+     * <p>
+     * This is the fastest way to load large amounts of new data, but the entities are not managed after the call,
+     * cascades and entity callbacks are not applied, and the insertions are not visible to the second-level cache.
+     *
+     * @param entities the entities to insert
+     * @see #insertStateless(Stream)
+     * @see #persistInBatches(Iterable)
+     */
+    default void insertStateless(Iterable<Entity> entities) {
+        INSTANCE.insertStateless(entities);
+    }
+
+    /**
+     * Insert all given entities with a stateless session that takes part in the current transaction.
+     * <p>
+     * This is the fastest way to load large amounts of new data, but the entities are not managed after the call,
+     * cascades and entity callbacks are not applied, and the insertions are not visible to the second-level cache.
+     *
+     * @param entities the entities to insert
+     * @see #insertStateless(Iterable)
+     * @see #persistInBatches(Stream)
+     */
+    default void insertStateless(Stream<Entity> entities) {
+        INSTANCE.insertStateless(entities);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      * 
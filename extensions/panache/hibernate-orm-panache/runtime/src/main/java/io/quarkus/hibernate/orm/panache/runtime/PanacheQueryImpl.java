@@ -154,6 +154,16 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
+    @Override
+    public <T extends Entity> Stream<List<T>> batches(int batchSize) {
+        return delegate.batches(batchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
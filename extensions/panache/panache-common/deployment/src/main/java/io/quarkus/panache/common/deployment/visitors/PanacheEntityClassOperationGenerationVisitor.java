@@ -159,9 +159,7 @@ public class PanacheEntityClassOperationGenerationVisitor extends ClassVisitor {
         }
         if (callSuperMethod != null && callSuperMethod.asBoolean()) {
             // delegate to super method
-            for (int i = 0; i < parameters.size(); i++) {
-                mv.visitIntInsn(Opcodes.ALOAD, i);
-            }
+            loadParameters(mv, parameters);
             invokeOperations(mv, method, true);
         } else {
             loadOperations(mv);
@@ -180,8 +178,14 @@ public class PanacheEntityClassOperationGenerationVisitor extends ClassVisitor {
     private void loadArguments(MethodVisitor mv, List<org.jboss.jandex.Type> parameters) {
         // inject Class
         injectModel(mv);
-        for (int i = 0; i < parameters.size(); i++) {
-            mv.visitIntInsn(Opcodes.ALOAD, i);
+        loadParameters(mv, parameters);
+    }
+
+    private void loadParameters(MethodVisitor mv, List<org.jboss.jandex.Type> parameters) {
+        int slot = 0;
+        for (org.jboss.jandex.Type parameter : parameters) {
+            mv.visitVarInsn(AsmUtil.getLoadOpcode(parameter), slot);
+            slot += AsmUtil.getParameterSize(parameter);
         }
     }
 
@@ -244,6 +248,8 @@ public class PanacheEntityClassOperationGenerationVisitor extends ClassVisitor {
         String descriptor;
         switch (parameter.kind()) {
             case PRIMITIVE:
+                descriptor = getDescriptor(parameter, argMapper);
+                break;
             case TYPE_VARIABLE:
                 descriptor = OBJECT.descriptor();
                 break;
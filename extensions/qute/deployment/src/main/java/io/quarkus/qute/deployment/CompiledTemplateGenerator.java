@@ -0,0 +1,733 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ExpressionNode;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.TextNode;
+import io.quarkus.qute.deployment.QuteProcessor.Match;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.deployment.TypeInfos.Info;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Compiles a type-safe template into a {@link CompiledTemplate} that calls the getters directly and appends the output to
+ * a {@link StringBuilder}.
+ * <p>
+ * Only a subset of templates can be compiled: text, expressions that consist of properties and start with a parameter or
+ * a loop alias, loop sections that iterate over an {@link Iterable} and if sections with a single condition. Any other
+ * template is not compiled and is always rendered by the section helpers and value resolvers.
+ * <p>
+ * If a part of an expression resolves to {@code null} or to an asynchronous result the compiled template returns
+ * {@code null} and the template is rendered as usual.
+ */
+class CompiledTemplateGenerator {
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    private static final String PACKAGE = "io/quarkus/qute/generated/";
+    // Longer text is split so that a string constant never exceeds the limit of the constant pool
+    private static final int MAX_TEXT_LENGTH = 10000;
+
+    private static final String ALIAS = "alias";
+    private static final String ITERABLE = "iterable";
+    private static final String CONDITION = "condition";
+    private static final String DEFAULT_ALIAS = "it";
+    private static final String ELSE = "else";
+
+    // These names are resolved by MapTemplateExtensions and not as an entry of the data map
+    private static final Set<String> MAP_PROPERTIES = new HashSet<>(
+            Arrays.asList("keys", "keySet", "values", "entrySet", "size", "empty", "isEmpty"));
+
+    private static final DotName INTEGER = DotName.createSimple(Integer.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class.getName());
+
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class,
+            Object.class);
+    private static final MethodDescriptor MAP_CONTAINS_KEY = MethodDescriptor.ofMethod(Map.class, "containsKey",
+            boolean.class, Object.class);
+    private static final MethodDescriptor LIST_GET = MethodDescriptor.ofMethod(List.class, "get", Object.class, int.class);
+    private static final MethodDescriptor LIST_IS_EMPTY = MethodDescriptor.ofMethod(List.class, "isEmpty", boolean.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext",
+            boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+    private static final MethodDescriptor STRING_BUILDER_CONSTRUCTOR = MethodDescriptor.ofConstructor(StringBuilder.class);
+    private static final MethodDescriptor STRING_BUILDER_APPEND = MethodDescriptor.ofMethod(StringBuilder.class, "append",
+            StringBuilder.class, String.class);
+    private static final MethodDescriptor OBJECT_TO_STRING = MethodDescriptor.ofMethod(Object.class, "toString",
+            String.class);
+    private static final MethodDescriptor ENGINE_GET_RESULT_MAPPERS = MethodDescriptor.ofMethod(Engine.class,
+            "getResultMappers", List.class);
+    private static final MethodDescriptor ENGINE_MAP_RESULT = MethodDescriptor.ofMethod(Engine.class, "mapResult",
+            String.class, Object.class, Expression.class);
+    private static final MethodDescriptor IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    private static final MethodDescriptor FLOOR_MOD = MethodDescriptor.ofMethod(Math.class, "floorMod", int.class,
+            int.class, int.class);
+    private static final MethodDescriptor INTEGER_VALUE_OF = MethodDescriptor.ofMethod(Integer.class, "valueOf",
+            Integer.class, int.class);
+    private static final MethodDescriptor BOOLEAN_VALUE_OF = MethodDescriptor.ofMethod(Boolean.class, "valueOf",
+            Boolean.class, boolean.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Predicate<DotName> implicitClasses;
+    private final Set<String> generatedTypes;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param implicitClasses The classes whose members are resolved by the generated value resolvers, i.e. before any
+     *        template extension method and any other value resolver
+     */
+    CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, Predicate<DotName> implicitClasses) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.implicitClasses = implicitClasses;
+        this.generatedTypes = new HashSet<>();
+    }
+
+    /**
+     *
+     * @param analysis
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String generate(TemplateAnalysis analysis) {
+        List<Op> ops;
+        try {
+            ops = compile(analysis.nodes, new ArrayDeque<>(), analysis);
+        } catch (UnsupportedTemplateException e) {
+            LOGGER.debugf("Template %s not compiled: %s", analysis.path, e.getMessage());
+            return null;
+        }
+
+        String generatedName = generatedName(analysis.path);
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledTemplate.class).build();
+
+        MethodCreator getSignature = compiledTemplate.getMethodCreator("getSignature", String.class);
+        getSignature.returnValue(getSignature.load(CompiledTemplate.signature(analysis.nodes)));
+
+        MethodCreator render = compiledTemplate.getMethodCreator("render", String.class, Object.class, Engine.class,
+                List.class);
+        ResultHandle data = render.getMethodParam(0);
+        ResultHandle engine = render.getMethodParam(1);
+        // Type-safe templates are rendered with a data map
+        render.ifFalse(render.instanceOf(data, Map.class)).trueBranch().returnValue(render.loadNull());
+        Scope scope = new Scope(render.checkCast(data, Map.class), engine, render.getMethodParam(2),
+                render.invokeInterfaceMethod(LIST_IS_EMPTY, render.invokeInterfaceMethod(ENGINE_GET_RESULT_MAPPERS, engine)),
+                render.newInstance(STRING_BUILDER_CONSTRUCTOR));
+        emitAll(ops, render, scope);
+        render.returnValue(render.invokeVirtualMethod(OBJECT_TO_STRING, scope.output));
+
+        compiledTemplate.close();
+        String className = generatedName.replace('/', '.');
+        generatedTypes.add(className);
+        return className;
+    }
+
+    private String generatedName(String path) {
+        // ItemResource/items.html -> io/quarkus/qute/generated/ItemResource_items_html_CompiledTemplate
+        StringBuilder baseName = new StringBuilder();
+        for (char c : path.toCharArray()) {
+            baseName.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        String generatedName = PACKAGE + baseName + SUFFIX;
+        int idx = 1;
+        while (generatedTypes.contains(generatedName.replace('/', '.'))) {
+            generatedName = PACKAGE + baseName + idx++ + SUFFIX;
+        }
+        return generatedName;
+    }
+
+    private List<Op> compile(List<TemplateNode> nodes, Deque<Loop> loops, TemplateAnalysis analysis) {
+        List<Op> ops = new ArrayList<>();
+        for (TemplateNode node : nodes) {
+            if (node instanceof TextNode) {
+                ops.add(new Text(((TextNode) node).getValue()));
+            } else if (node instanceof ExpressionNode) {
+                Expression expression = ((ExpressionNode) node).getExpression();
+                ops.add(new Value(compile(expression, loops, analysis), indexOf(expression, analysis)));
+            } else if (node instanceof SectionNode) {
+                SectionNode section = (SectionNode) node;
+                if (section.getHelper() instanceof LoopSectionHelper) {
+                    ops.add(compileLoop(section, loops, analysis));
+                } else if (section.getHelper() instanceof IfSectionHelper) {
+                    ops.add(compileIf(section, loops, analysis));
+                } else {
+                    throw new UnsupportedTemplateException("unsupported section: " + section.getName());
+                }
+            } else {
+                throw new UnsupportedTemplateException("unsupported node: " + node);
+            }
+        }
+        return ops;
+    }
+
+    private Op compileLoop(SectionNode section, Deque<Loop> loops, TemplateAnalysis analysis) {
+        SectionBlock main = section.getBlocks().get(0);
+        Expression iterableExpression = main.expressions.get(ITERABLE);
+        if (iterableExpression == null) {
+            throw new UnsupportedTemplateException("no iterable");
+        }
+        Path iterable = compile(iterableExpression, loops, analysis);
+        ClassInfo iterableClass = classOf(iterable.type);
+        // List<Item> => Item
+        Type iterableType = QuteProcessor.extractMatchType(
+                Types.getTypeClosure(iterableClass, Types.buildResolvedMap(typeArguments(iterable.type),
+                        iterableClass.typeParameters(), new HashMap<>(), index), index),
+                Names.ITERABLE, t -> t);
+        if (iterableType == null) {
+            throw new UnsupportedTemplateException("not an iterable: " + iterable.type);
+        }
+        String alias = main.parameters.get(ALIAS);
+        if (alias == null || alias.equals(Parameter.EMPTY)) {
+            alias = DEFAULT_ALIAS;
+        }
+        Loop loop = new Loop(alias, typeArguments(iterableType).isEmpty() ? null : typeArguments(iterableType).get(0));
+        loops.push(loop);
+        List<Op> body = compile(main.getNodes(), loops, analysis);
+        loops.pop();
+        return new LoopOp(iterable, loop, body, compileElse(section, loops, analysis));
+    }
+
+    private Op compileIf(SectionNode section, Deque<Loop> loops, TemplateAnalysis analysis) {
+        SectionBlock main = section.getBlocks().get(0);
+        if (main.parameters.size() != 1 || main.expressions.size() != 1) {
+            throw new UnsupportedTemplateException("unsupported condition: " + main.parameters);
+        }
+        Expression condition = main.expressions.values().iterator().next();
+        if (!condition.toOriginalString().equals(main.parameters.get(CONDITION))) {
+            // E.g. {#if !item.active}
+            throw new UnsupportedTemplateException("unsupported condition: " + main.parameters);
+        }
+        return new IfOp(compile(condition, loops, analysis), compile(main.getNodes(), loops, analysis),
+                compileElse(section, loops, analysis));
+    }
+
+    private List<Op> compileElse(SectionNode section, Deque<Loop> loops, TemplateAnalysis analysis) {
+        List<SectionBlock> blocks = section.getBlocks();
+        if (blocks.size() == 1) {
+            return null;
+        }
+        SectionBlock elseBlock = blocks.get(1);
+        if (blocks.size() > 2 || !elseBlock.label.equals(ELSE) || !elseBlock.parameters.isEmpty()) {
+            // E.g. {#else if item.active}
+            throw new UnsupportedTemplateException("unsupported block: " + elseBlock.label + " " + elseBlock.parameters);
+        }
+        return compile(elseBlock.getNodes(), loops, analysis);
+    }
+
+    private Path compile(Expression expression, Deque<Loop> loops, TemplateAnalysis analysis) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            throw new UnsupportedTemplateException("unsupported expression: " + expression.toOriginalString());
+        }
+        List<Expression.Part> parts = expression.getParts();
+        for (Expression.Part part : parts) {
+            if (part.isVirtualMethod()) {
+                throw new UnsupportedTemplateException("unsupported expression: " + expression.toOriginalString());
+            }
+        }
+        String name = parts.get(0).getName();
+        Path path = null;
+        // The iteration elements are resolved first, starting with the innermost loop
+        for (Loop loop : loops) {
+            if (loop.alias.equals(name)) {
+                path = new Path(loop, null, loop.elementType);
+                break;
+            }
+            Type metadataType = metadataType(name);
+            if (metadataType != null) {
+                if (parts.size() > 1) {
+                    throw new UnsupportedTemplateException("unsupported expression: " + expression.toOriginalString());
+                }
+                path = new Path(loop, name, metadataType);
+                break;
+            }
+        }
+        if (path == null) {
+            List<Info> infos = TypeInfos.create(expression, index, id -> analysis.path);
+            if (infos.size() != parts.size() || !infos.get(0).isTypeInfo() || MAP_PROPERTIES.contains(name)) {
+                throw new UnsupportedTemplateException("unsupported expression: " + expression.toOriginalString());
+            }
+            path = new Path(null, name, infos.get(0).asTypeInfo().resolvedType);
+        }
+        for (Expression.Part part : parts.subList(1, parts.size())) {
+            ClassInfo clazz = classOf(path.type);
+            if (!implicitClasses.test(clazz.name())) {
+                throw new UnsupportedTemplateException("no generated value resolver for " + clazz);
+            }
+            AnnotationTarget member = QuteProcessor.findProperty(part.getName(), clazz, index);
+            if (member == null || !resolvesTo(member, part.getName(), clazz)) {
+                throw new UnsupportedTemplateException("no property " + part.getName() + " found on " + clazz);
+            }
+            Match match = new Match(index);
+            match.setValues(clazz, path.type);
+            path.members.add(new Member(clazz, member));
+            path.type = QuteProcessor.resolveType(member, match, index, null);
+        }
+        if (path.type == null || isAsync(path.type)) {
+            throw new UnsupportedTemplateException("unsupported type: " + path.type);
+        }
+        // Checking the value of a final type is not necessary and the instanceof checks are not cheap
+        path.mayBeAsync = mayBeAsync(path.type);
+        return path;
+    }
+
+    /**
+     * @return {@code true} if the generated value resolver resolves the property with the given member
+     */
+    private boolean resolvesTo(AnnotationTarget member, String name, ClassInfo clazz) {
+        if (member.kind() == Kind.FIELD) {
+            // Only the fields declared on the class are resolved before the methods
+            return member.asField().declaringClass().name().equals(clazz.name())
+                    && !Modifier.isStatic(member.asField().flags());
+        }
+        if (!member.asMethod().parameters().isEmpty()) {
+            return false;
+        }
+        // E.g. both getName() and name() are declared
+        Set<String> methodNames = new HashSet<>();
+        ClassInfo current = clazz;
+        while (current != null) {
+            for (MethodInfo method : current.methods()) {
+                if (method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID
+                        && Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags())
+                        && !ValueResolverGenerator.isSynthetic(method.flags())
+                        && (method.name().equals(name) || ValueResolverGenerator.getPropertyName(method.name()).equals(name))) {
+                    methodNames.add(method.name());
+                }
+            }
+            current = current.superName() != null ? index.getClassByName(current.superName()) : null;
+        }
+        return methodNames.size() <= 1;
+    }
+
+    private ClassInfo classOf(Type type) {
+        if (type == null
+                || (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE)) {
+            throw new UnsupportedTemplateException("unsupported type: " + type);
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        // The generated class must be able to access the class
+        if (clazz == null || !Modifier.isPublic(clazz.flags()) || isAsync(type)) {
+            throw new UnsupportedTemplateException("unsupported type: " + type);
+        }
+        return clazz;
+    }
+
+    private boolean isAsync(Type type) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return false;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        return ValueResolverGenerator.hasCompletionStageInTypeClosure(clazz, index)
+                || ValueResolverGenerator.hasClassInTypeClosure(clazz, Names.UNI, index);
+    }
+
+    private boolean mayBeAsync(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return false;
+        }
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return true;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        return clazz == null || !Modifier.isFinal(clazz.flags());
+    }
+
+    private static List<Type> typeArguments(Type type) {
+        return type.kind() == Type.Kind.PARAMETERIZED_TYPE ? type.asParameterizedType().arguments()
+                : new ArrayList<>();
+    }
+
+    private static Type metadataType(String name) {
+        switch (name) {
+            case "count":
+            case "index":
+                return Type.create(INTEGER, Type.Kind.CLASS);
+            case "indexParity":
+                return Type.create(STRING, Type.Kind.CLASS);
+            case "hasNext":
+            case "odd":
+            case "isOdd":
+            case "even":
+            case "isEven":
+                return Type.create(BOOLEAN, Type.Kind.CLASS);
+            default:
+                return null;
+        }
+    }
+
+    private static int indexOf(Expression expression, TemplateAnalysis analysis) {
+        for (int i = 0; i < analysis.expressions.size(); i++) {
+            if (analysis.expressions.get(i) == expression) {
+                return i;
+            }
+        }
+        // The compiled template uses the runtime expressions for result mapping
+        throw new UnsupportedTemplateException("expression not found: " + expression.toOriginalString());
+    }
+
+    private static void emitAll(List<Op> ops, BytecodeCreator bytecode, Scope scope) {
+        for (Op op : ops) {
+            op.emit(bytecode, scope);
+        }
+    }
+
+    /**
+     * @return the value, boxed if needed; a {@code null} value is only returned for the last part of the path
+     */
+    private static ResultHandle resolve(Path path, BytecodeCreator bytecode, Scope scope) {
+        ResultHandle value;
+        if (path.loop == null) {
+            value = bytecode.invokeInterfaceMethod(MAP_GET, scope.data, bytecode.load(path.name));
+            BytecodeCreator isNull = bytecode.ifNull(value).trueBranch();
+            if (path.members.isEmpty()) {
+                // A missing entry is not found
+                isNull.ifFalse(isNull.invokeInterfaceMethod(MAP_CONTAINS_KEY, scope.data, isNull.load(path.name)))
+                        .trueBranch().returnValue(isNull.loadNull());
+            } else {
+                isNull.returnValue(isNull.loadNull());
+            }
+        } else if (path.name == null) {
+            value = scope.elements.get(path.loop);
+            if (!path.members.isEmpty()) {
+                bytecode.ifNull(value).trueBranch().returnValue(bytecode.loadNull());
+            }
+        } else {
+            value = resolveMetadata(path.name, scope.indexes.get(path.loop), scope.hasNexts.get(path.loop), bytecode);
+        }
+        for (Iterator<Member> it = path.members.iterator(); it.hasNext();) {
+            Member member = it.next();
+            ResultHandle base = bytecode.checkCast(value, member.clazz.name().toString());
+            Type type;
+            if (member.target.kind() == Kind.FIELD) {
+                FieldInfo field = member.target.asField();
+                type = field.type();
+                value = bytecode.readInstanceField(
+                        FieldDescriptor.of(member.clazz.name().toString(), field.name(), erasure(type)), base);
+            } else {
+                MethodInfo method = member.target.asMethod();
+                type = method.returnType();
+                MethodDescriptor descriptor = MethodDescriptor.ofMethod(member.clazz.name().toString(), method.name(),
+                        erasure(type));
+                if (Modifier.isInterface(member.clazz.flags())) {
+                    value = bytecode.invokeInterfaceMethod(descriptor, base);
+                } else {
+                    value = bytecode.invokeVirtualMethod(descriptor, base);
+                }
+            }
+            if (type.kind() == Type.Kind.PRIMITIVE) {
+                value = box(value, type, bytecode);
+            } else if (it.hasNext()) {
+                // A null value in the middle of the path is not found
+                bytecode.ifNull(value).trueBranch().returnValue(bytecode.loadNull());
+            }
+        }
+        return value;
+    }
+
+    private static ResultHandle resolveMetadata(String name, ResultHandle index, ResultHandle hasNext,
+            BytecodeCreator bytecode) {
+        switch (name) {
+            case "count":
+                return bytecode.invokeStaticMethod(INTEGER_VALUE_OF, bytecode.increment(index));
+            case "index":
+                return bytecode.invokeStaticMethod(INTEGER_VALUE_OF, index);
+            case "hasNext":
+                return bytecode.invokeStaticMethod(BOOLEAN_VALUE_OF, hasNext);
+            default:
+                // The first element is odd
+                AssignableResultHandle result = bytecode.createVariable(Object.class);
+                BranchResult isOdd = bytecode.ifZero(bytecode.invokeStaticMethod(FLOOR_MOD, index, bytecode.load(2)));
+                isOdd.trueBranch().assign(result, parityValue(name, true, isOdd.trueBranch()));
+                isOdd.falseBranch().assign(result, parityValue(name, false, isOdd.falseBranch()));
+                return result;
+        }
+    }
+
+    private static ResultHandle parityValue(String name, boolean odd, BytecodeCreator bytecode) {
+        if (name.equals("indexParity")) {
+            return bytecode.load(odd ? "odd" : "even");
+        }
+        boolean value = name.equals("odd") || name.equals("isOdd") ? odd : !odd;
+        return bytecode.readStaticField(FieldDescriptor.of(Boolean.class, value ? "TRUE" : "FALSE", Boolean.class));
+    }
+
+    private static void returnIfAsync(ResultHandle value, BytecodeCreator bytecode) {
+        // The result of an asynchronous value is rendered as usual
+        for (Class<?> asyncType : new Class<?>[] { CompletionStage.class, Uni.class, ResultNode.class }) {
+            bytecode.ifTrue(bytecode.instanceOf(value, asyncType)).trueBranch().returnValue(bytecode.loadNull());
+        }
+    }
+
+    private static ResultHandle box(ResultHandle value, Type type, BytecodeCreator bytecode) {
+        Type boxed = Types.box(type);
+        String primitive = DescriptorUtils.typeToString(type);
+        return bytecode.invokeStaticMethod(
+                MethodDescriptor.ofMethod(boxed.name().toString(), "valueOf", boxed.name().toString(), primitive), value);
+    }
+
+    private static String erasure(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+                List<Type> bounds = type.asTypeVariable().bounds();
+                return bounds.isEmpty() ? DescriptorUtils.objectToDescriptor(Object.class) : erasure(bounds.get(0));
+            case UNRESOLVED_TYPE_VARIABLE:
+                return DescriptorUtils.objectToDescriptor(Object.class);
+            default:
+                return DescriptorUtils.typeToString(type);
+        }
+    }
+
+    static final class Scope {
+
+        final ResultHandle data;
+        final ResultHandle engine;
+        final ResultHandle expressions;
+        final ResultHandle noResultMappers;
+        final ResultHandle output;
+        final Map<Loop, ResultHandle> elements = new HashMap<>();
+        final Map<Loop, ResultHandle> indexes = new HashMap<>();
+        final Map<Loop, ResultHandle> hasNexts = new HashMap<>();
+
+        Scope(ResultHandle data, ResultHandle engine, ResultHandle expressions, ResultHandle noResultMappers,
+                ResultHandle output) {
+            this.data = data;
+            this.engine = engine;
+            this.expressions = expressions;
+            this.noResultMappers = noResultMappers;
+            this.output = output;
+        }
+
+    }
+
+    static final class Loop {
+
+        final String alias;
+        final Type elementType;
+
+        Loop(String alias, Type elementType) {
+            this.alias = alias;
+            this.elementType = elementType;
+        }
+
+    }
+
+    static final class Member {
+
+        // The static type of the base object
+        final ClassInfo clazz;
+        final AnnotationTarget target;
+
+        Member(ClassInfo clazz, AnnotationTarget target) {
+            this.clazz = clazz;
+            this.target = target;
+        }
+
+    }
+
+    /**
+     * A compiled expression: a data map entry, an iteration element or iteration metadata followed by the members.
+     */
+    static final class Path {
+
+        // null for a data map entry
+        final Loop loop;
+        // the name of the data map entry or the iteration metadata; null for an iteration element
+        final String name;
+        final List<Member> members = new ArrayList<>();
+        Type type;
+        // true if the value may be an asynchronous result at runtime
+        boolean mayBeAsync;
+
+        Path(Loop loop, String name, Type type) {
+            this.loop = loop;
+            this.name = name;
+            this.type = type;
+        }
+
+    }
+
+    interface Op {
+
+        void emit(BytecodeCreator bytecode, Scope scope);
+
+    }
+
+    static final class Text implements Op {
+
+        final String value;
+
+        Text(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void emit(BytecodeCreator bytecode, Scope scope) {
+            for (int start = 0; start < value.length(); start += MAX_TEXT_LENGTH) {
+                bytecode.invokeVirtualMethod(STRING_BUILDER_APPEND, scope.output,
+                        bytecode.load(value.substring(start, Math.min(value.length(), start + MAX_TEXT_LENGTH))));
+            }
+        }
+
+    }
+
+    static final class Value implements Op {
+
+        final Path path;
+        final int expressionIndex;
+
+        Value(Path path, int expressionIndex) {
+            this.path = path;
+            this.expressionIndex = expressionIndex;
+        }
+
+        @Override
+        public void emit(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle value = resolve(path, bytecode, scope);
+            // A null value is not rendered
+            BytecodeCreator notNull = bytecode.ifNull(value).falseBranch();
+            if (path.mayBeAsync) {
+                returnIfAsync(value, notNull);
+            }
+            BranchResult noResultMappers = notNull.ifTrue(scope.noResultMappers);
+            BytecodeCreator toString = noResultMappers.trueBranch();
+            toString.invokeVirtualMethod(STRING_BUILDER_APPEND, scope.output,
+                    toString.invokeVirtualMethod(OBJECT_TO_STRING, value));
+            BytecodeCreator mapResult = noResultMappers.falseBranch();
+            mapResult.invokeVirtualMethod(STRING_BUILDER_APPEND, scope.output,
+                    mapResult.invokeInterfaceMethod(ENGINE_MAP_RESULT, scope.engine, value,
+                            mapResult.invokeInterfaceMethod(LIST_GET, scope.expressions,
+                                    mapResult.load(expressionIndex))));
+        }
+
+    }
+
+    static final class LoopOp implements Op {
+
+        final Path iterable;
+        final Loop loop;
+        final List<Op> body;
+        final List<Op> elseBody;
+
+        LoopOp(Path iterable, Loop loop, List<Op> body, List<Op> elseBody) {
+            this.iterable = iterable;
+            this.loop = loop;
+            this.body = body;
+            this.elseBody = elseBody;
+        }
+
+        @Override
+        public void emit(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle value = resolve(iterable, bytecode, scope);
+            // A null iterable results in an error that is reported as usual
+            bytecode.ifNull(value).trueBranch().returnValue(bytecode.loadNull());
+            ResultHandle iterator = bytecode.invokeInterfaceMethod(ITERABLE_ITERATOR,
+                    bytecode.checkCast(value, Iterable.class));
+            AssignableResultHandle index = bytecode.createVariable(int.class);
+            bytecode.assign(index, bytecode.load(0));
+            WhileLoop whileLoop = bytecode.whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+            BytecodeCreator block = whileLoop.block();
+            scope.elements.put(loop, block.invokeInterfaceMethod(ITERATOR_NEXT, iterator));
+            scope.hasNexts.put(loop, block.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator));
+            scope.indexes.put(loop, index);
+            emitAll(body, block, scope);
+            block.assign(index, block.increment(index));
+            if (elseBody != null) {
+                BytecodeCreator empty = bytecode.ifIntegerEqual(index, bytecode.load(0)).trueBranch();
+                emitAll(elseBody, empty, scope);
+            }
+        }
+
+    }
+
+    static final class IfOp implements Op {
+
+        final Path condition;
+        final List<Op> body;
+        final List<Op> elseBody;
+
+        IfOp(Path condition, List<Op> body, List<Op> elseBody) {
+            this.condition = condition;
+            this.body = body;
+            this.elseBody = elseBody;
+        }
+
+        @Override
+        public void emit(BytecodeCreator bytecode, Scope scope) {
+            ResultHandle value = resolve(condition, bytecode, scope);
+            if (condition.mayBeAsync) {
+                returnIfAsync(value, bytecode.ifNull(value).falseBranch());
+            }
+            BranchResult isFalsy = bytecode.ifTrue(bytecode.invokeStaticMethod(IS_FALSY, value));
+            if (elseBody != null) {
+                emitAll(elseBody, isFalsy.trueBranch(), scope);
+            }
+            emitAll(body, isFalsy.falseBranch(), scope);
+        }
+
+    }
+
+    static final class UnsupportedTemplateException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTemplateException(String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -63,25 +64,32 @@ import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.util.InputsFingerprint;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.dev.console.DevConsoleManager;
 import io.quarkus.devconsole.spi.DevConsoleRouteBuildItem;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.panache.common.deployment.PanacheEntityClassesBuildItem;
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.CheckedTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
@@ -123,6 +131,7 @@ import io.quarkus.qute.runtime.extensions.MapTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.NumberTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
+import io.quarkus.runtime.LaunchMode;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.json.DecodeException;
@@ -137,6 +146,9 @@ public class QuteProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(QuteProcessor.class);
 
+    // Only loaded if the cache extension is present
+    private static final String QUTE_CACHE = "io.quarkus.qute.runtime.cache.QuteCache";
+
     private static final String CHECKED_TEMPLATE_REQUIRE_TYPE_SAFE = "requireTypeSafeExpressions";
     private static final String CHECKED_TEMPLATE_BASE_PATH = "basePath";
 
@@ -212,6 +224,16 @@ public class QuteProcessor {
                 .build();
     }
 
+    @BuildStep
+    void cacheSection(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (capabilities.isPresent(Capability.CACHE)) {
+            // The cache name is collected from the combined index
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(QUTE_CACHE));
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().setUnremovable().addBeanClasses(QUTE_CACHE).build());
+        }
+    }
+
     @BuildStep
     List<CheckedTemplateBuildItem> collectCheckedTemplates(BeanArchiveIndexBuildItem index,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
@@ -339,6 +361,35 @@ public class QuteProcessor {
 
     @BuildStep
     TemplatesAnalysisBuildItem analyzeTemplates(List<TemplatePathBuildItem> templatePaths,
+            TemplateFilePathsBuildItem filePaths, List<CheckedTemplateBuildItem> checkedTemplates,
+            List<MessageBundleMethodBuildItem> messageBundleMethods, QuteConfig config, LiveReloadBuildItem liveReload,
+            LaunchModeBuildItem launchMode) {
+        if (launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+            // There is no live reload, the results could never be reused
+            return new TemplatesAnalysisBuildItem(
+                    analyzeTemplates(templatePaths, filePaths, checkedTemplates, messageBundleMethods, config));
+        }
+        // The analysis only depends on the content of the templates and the parameters they declare,
+        // it does not need to be done again on a live reload if none of them changed
+        InputsFingerprint inputs = new InputsFingerprint().add(config.suffixes);
+        templatePaths.stream().sorted(Comparator.comparing(TemplatePathBuildItem::getPath))
+                .forEach(path -> inputs.add(path.getPath()).addFile(path.getFullPath()));
+        checkedTemplates.stream().sorted(Comparator.comparing(checkedTemplate -> checkedTemplate.templateId))
+                .forEach(checkedTemplate -> inputs.add(checkedTemplate.templateId).add(checkedTemplate.bindings));
+        // the template id is null if a message template is not validated
+        messageBundleMethods.stream()
+                .sorted(Comparator.comparing(MessageBundleMethodBuildItem::getBundleName)
+                        .thenComparing(MessageBundleMethodBuildItem::getKey))
+                .forEach(method -> inputs.add(method.getTemplateId()).add(method.getTemplate())
+                        .add(method.getMethod().declaringClass().name()).add(method.getMethod()));
+        String fingerprint = inputs.compute();
+        List<TemplateAnalysis> analysis = liveReload.computeIfUnchanged(TemplatesAnalysisBuildItem.class.getName(),
+                fingerprint,
+                () -> analyzeTemplates(templatePaths, filePaths, checkedTemplates, messageBundleMethods, config));
+        return new TemplatesAnalysisBuildItem(analysis, fingerprint);
+    }
+
+    private List<TemplateAnalysis> analyzeTemplates(List<TemplatePathBuildItem> templatePaths,
             TemplateFilePathsBuildItem filePaths, List<CheckedTemplateBuildItem> checkedTemplates,
             List<MessageBundleMethodBuildItem> messageBundleMethods, QuteConfig config) {
         long start = System.currentTimeMillis();
@@ -347,6 +398,11 @@ public class QuteProcessor {
         // A dummy engine instance is used to parse and validate all templates during the build
         // The real engine instance is created at startup
         EngineBuilder builder = Engine.builder().addDefaultSectionHelpers();
+        // The cache section is always available at runtime, see EngineProducer - the key is an expression that must be
+        // analyzed like the others, the cache the section is backed by at runtime does not matter here
+        builder.addSectionHelper(new CacheSectionHelper.Factory());
+        // Standalone lines are removed by default at runtime, the compiled templates are generated from the same nodes
+        builder.removeStandaloneLines(true);
 
         // Register user tags
         for (TemplatePathBuildItem path : templatePaths) {
@@ -458,7 +514,8 @@ public class QuteProcessor {
         for (TemplatePathBuildItem path : templatePaths) {
             Template template = dummyEngine.getTemplate(path.getPath());
             if (template != null) {
-                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(), path.getPath()));
+                analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(),
+                        template.getNodes(), path.getPath()));
             }
         }
 
@@ -466,17 +523,74 @@ public class QuteProcessor {
         for (MessageBundleMethodBuildItem messageBundleMethod : messageBundleMethods) {
             Template template = dummyEngine.parse(messageBundleMethod.getTemplate(), null, messageBundleMethod.getTemplateId());
             analysis.add(new TemplateAnalysis(messageBundleMethod.getTemplateId(), template.getGeneratedId(),
-                    template.getExpressions(),
+                    template.getExpressions(), template.getNodes(),
                     messageBundleMethod.getMethod().declaringClass().name() + "#" + messageBundleMethod.getMethod().name()
                             + "()"));
         }
 
         LOGGER.debugf("Finished analysis of %s templates in %s ms", analysis.size(), System.currentTimeMillis() - start);
-        return new TemplatesAnalysisBuildItem(analysis);
+        return analysis;
     }
 
     @BuildStep
     void validateExpressions(TemplatesAnalysisBuildItem templatesAnalysis,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<TypeCheckExcludeBuildItem> excludes,
+            BuildProducer<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<ImplicitValueResolverBuildItem> implicitClasses,
+            BuildProducer<TemplateExpressionMatchesBuildItem> expressionMatches,
+            BeanDiscoveryFinishedBuildItem beanDiscovery,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            QuteConfig config,
+            LiveReloadBuildItem liveReload) {
+
+        ExpressionsValidation validation;
+        if (templatesAnalysis.getFingerprint() == null) {
+            validation = new ExpressionsValidation();
+            validateExpressions(templatesAnalysis, beanArchiveIndex, templateExtensionMethods, excludes,
+                    validation.incorrectExpressions::add, validation.implicitClasses::add,
+                    validation.expressionMatches::add, beanDiscovery, checkedTemplates, config);
+        } else {
+            // The validation only depends on the analysis and on the structure of the classes,
+            // a live reload that only changed method bodies gives the same results
+            // (the fingerprint is only known in dev mode)
+            InputsFingerprint inputs = new InputsFingerprint().add(templatesAnalysis.getFingerprint())
+                    .add(config.suffixes).add(config.typeCheckExcludes)
+                    .addIndex(beanArchiveIndex.getIndex());
+            // the excludes are predicates, the ones registered by extensions are identified by their class
+            excludes.stream().map(exclude -> exclude.getPredicate().getClass().getName()).sorted().forEach(inputs::add);
+            templateExtensionMethods.stream()
+                    .map(m -> m.getMethod().declaringClass().name() + "#" + m.getMethod() + ":" + m.getMatchName() + ":"
+                            + m.getMatchRegex() + ":" + m.getMatchType() + ":" + m.getPriority() + ":" + m.getNamespace())
+                    .sorted().forEach(inputs::add);
+            beanDiscovery.beanStream().withName().stream()
+                    .sorted(Comparator.comparing(BeanInfo::getName))
+                    .forEach(bean -> {
+                        inputs.add(bean.getName()).add(bean.getTypes());
+                        if (bean.getImplClazz() != null) {
+                            inputs.addClass(bean.getImplClazz());
+                        }
+                    });
+            checkedTemplates.stream()
+                    .sorted(Comparator.comparing(checkedTemplate -> checkedTemplate.templateId))
+                    .forEach(checkedTemplate -> inputs.add(checkedTemplate.templateId)
+                            .add(checkedTemplate.requireTypeSafeExpressions).add(checkedTemplate.bindings)
+                            .add(checkedTemplate.method.declaringClass().name()).add(checkedTemplate.method));
+            validation = liveReload.computeIfUnchanged(ExpressionsValidation.class.getName(), inputs.compute(), () -> {
+                ExpressionsValidation result = new ExpressionsValidation();
+                validateExpressions(templatesAnalysis, beanArchiveIndex, templateExtensionMethods, excludes,
+                        result.incorrectExpressions::add, result.implicitClasses::add, result.expressionMatches::add,
+                        beanDiscovery, checkedTemplates, config);
+                return result;
+            });
+        }
+        validation.incorrectExpressions.forEach(incorrectExpressions::produce);
+        validation.implicitClasses.forEach(implicitClasses::produce);
+        validation.expressionMatches.forEach(expressionMatches::produce);
+    }
+
+    private void validateExpressions(TemplatesAnalysisBuildItem templatesAnalysis,
             BeanArchiveIndexBuildItem beanArchiveIndex,
             List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
             List<TypeCheckExcludeBuildItem> excludes,
@@ -558,6 +672,16 @@ public class QuteProcessor {
         }
     }
 
+    /**
+     * The items produced by the validation of expressions.
+     */
+    static final class ExpressionsValidation {
+
+        final List<IncorrectExpressionBuildItem> incorrectExpressions = new ArrayList<>();
+        final List<ImplicitValueResolverBuildItem> implicitClasses = new ArrayList<>();
+        final List<TemplateExpressionMatchesBuildItem> expressionMatches = new ArrayList<>();
+    }
+
     static String buildIgnorePattern(Iterable<String> names) {
         // ^(?!\\Qbar\\P|\\Qfoo\\P).*$
         StringBuilder ignorePattern = new StringBuilder("^(?!");
@@ -1062,6 +1186,66 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex, TemplatesAnalysisBuildItem templatesAnalysis,
+            List<ImplicitValueResolverBuildItem> implicitClasses,
+            List<PanacheEntityClassesBuildItem> panacheEntityClasses,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.compileTypeSafeTemplates) {
+            return;
+        }
+        IndexView index = beanArchiveIndex.getIndex();
+
+        // Only the members of classes with an implicit value resolver are accessed directly
+        // The members of classes annotated with @TemplateData may be ignored and the getters of entities may be forced
+        Set<DotName> excluded = new HashSet<>();
+        for (AnnotationInstance templateData : index.getAnnotations(ValueResolverGenerator.TEMPLATE_DATA)) {
+            addTemplateDataTarget(templateData, excluded);
+        }
+        for (AnnotationInstance containerInstance : index.getAnnotations(ValueResolverGenerator.TEMPLATE_DATA_CONTAINER)) {
+            for (AnnotationInstance templateData : containerInstance.value().asNestedArray()) {
+                addTemplateDataTarget(templateData, excluded);
+            }
+        }
+        for (PanacheEntityClassesBuildItem panacheEntities : panacheEntityClasses) {
+            for (String entityClass : panacheEntities.getEntityClasses()) {
+                excluded.add(DotName.createSimple(entityClass));
+            }
+        }
+        Set<DotName> resolved = new HashSet<>();
+        for (ImplicitValueResolverBuildItem implicit : implicitClasses) {
+            if (!excluded.contains(implicit.getClazz().name())) {
+                resolved.add(implicit.getClazz().name());
+            }
+        }
+
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), resolved::contains);
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null || analysis.path.startsWith(TemplatePathBuildItem.TAGS)) {
+                // Message bundle templates and user tags are always interpreted
+                continue;
+            }
+            String className = generator.generate(analysis);
+            if (className != null) {
+                LOGGER.debugf("Template %s compiled to %s", analysis.path, className);
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, className));
+            }
+        }
+    }
+
+    private static void addTemplateDataTarget(AnnotationInstance templateData, Set<DotName> targets) {
+        AnnotationValue targetValue = templateData.value("target");
+        if (targetValue == null || targetValue.asClass().name().equals(ValueResolverGenerator.TEMPLATE_DATA)) {
+            targets.add(templateData.target().asClass().name());
+        } else {
+            targets.add(targetValue.asClass().name());
+        }
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchivesBuildItem,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedPaths,
@@ -1208,7 +1392,8 @@ public class QuteProcessor {
     @Record(value = STATIC_INIT)
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
-            Optional<TemplateVariantsBuildItem> templateVariants) {
+            Optional<TemplateVariantsBuildItem> templateVariants, List<CompiledTemplateBuildItem> compiledTemplates,
+            QuteConfig config) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1228,10 +1413,26 @@ public class QuteProcessor {
             variants = Collections.emptyMap();
         }
 
+        // A template can be obtained by its path and by its path without a suffix, e.g. ItemResource/items
+        Map<String, String> compiled = new HashMap<>();
+        for (CompiledTemplateBuildItem compiledTemplate : compiledTemplates) {
+            compiled.put(compiledTemplate.getTemplatePath(), compiledTemplate.getClassName());
+        }
+        for (String suffix : config.suffixes) {
+            for (CompiledTemplateBuildItem compiledTemplate : compiledTemplates) {
+                String path = compiledTemplate.getTemplatePath();
+                if (path.endsWith("." + suffix)) {
+                    // The first suffix wins, i.e. the template located at runtime
+                    compiled.putIfAbsent(path.substring(0, path.length() - (suffix.length() + 1)),
+                            compiledTemplate.getClassName());
+                }
+            }
+        }
+
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        tags, variants, compiled))
                 .done());
     }
 
@@ -1326,7 +1527,7 @@ public class QuteProcessor {
         return map;
     }
 
-    private static Type resolveType(AnnotationTarget member, Match match, IndexView index,
+    static Type resolveType(AnnotationTarget member, Match match, IndexView index,
             TemplateExtensionMethodBuildItem extensionMethod) {
         Type matchType;
         if (member.kind() == Kind.FIELD) {
@@ -1705,7 +1906,7 @@ public class QuteProcessor {
      * @param index
      * @return the property or null
      */
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, IndexView index) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, IndexView index) {
         Set<DotName> interfaceNames = new HashSet<>();
         while (clazz != null) {
             interfaceNames.addAll(clazz.interfaceNames());
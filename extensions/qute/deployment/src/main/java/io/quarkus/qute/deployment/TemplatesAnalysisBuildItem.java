@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.TemplateNode;
 
 /**
  * Represents the result of analysis of all templates.
@@ -12,15 +13,28 @@ import io.quarkus.qute.Expression;
 public final class TemplatesAnalysisBuildItem extends SimpleBuildItem {
 
     private final List<TemplateAnalysis> analysis;
+    private final String fingerprint;
 
     public TemplatesAnalysisBuildItem(List<TemplateAnalysis> analysis) {
+        this(analysis, null);
+    }
+
+    TemplatesAnalysisBuildItem(List<TemplateAnalysis> analysis, String fingerprint) {
         this.analysis = analysis;
+        this.fingerprint = fingerprint;
     }
 
     public List<TemplateAnalysis> getAnalysis() {
         return analysis;
     }
 
+    /**
+     * @return the fingerprint of the inputs of the analysis, or {@code null} if not known
+     */
+    String getFingerprint() {
+        return fingerprint;
+    }
+
     /**
      * Analysis of a particular template found in the given path.
      */
@@ -34,13 +48,18 @@ public final class TemplatesAnalysisBuildItem extends SimpleBuildItem {
 
         public final List<Expression> expressions;
 
+        // The top-level nodes of the parsed template
+        public final List<TemplateNode> nodes;
+
         // File path, e.g. hello.html or ItemResource/items.html
         public final String path;
 
-        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions, String path) {
+        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions, List<TemplateNode> nodes,
+                String path) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
+            this.nodes = nodes;
             this.path = path;
         }
 
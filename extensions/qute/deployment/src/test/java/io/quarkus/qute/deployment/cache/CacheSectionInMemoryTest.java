@@ -0,0 +1,43 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.cache.QuteCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheSectionInMemoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(
+                            "{#cache key=id}{counter.incrementAndGet}{/cache}"),
+                            "templates/foo.html"))
+            // the same as if the cache extension was not present
+            .overrideConfigKey("quarkus.arc.exclude-types", QuteCache.class.getName());
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testCachedSection() {
+        assertEquals(0, Arc.container().beanManager().getBeans(QuteCache.class).size());
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1", foo.data("counter", counter).data("id", 1).render());
+        assertEquals("1", foo.data("counter", counter).data("id", 1).render());
+        assertEquals("2", foo.data("counter", counter).data("id", 2).render());
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.cache.QuteCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheSectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(
+                            "{#cache key=id}{counter.incrementAndGet}{/cache}"),
+                            "templates/foo.html"));
+
+    @Inject
+    Template foo;
+
+    @Inject
+    QuteCache quteCache;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testCachedSection() {
+        assertTrue(cacheManager.getCacheNames().contains(QuteCache.NAME));
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1", foo.data("counter", counter).data("id", 1).render());
+        assertEquals("1", foo.data("counter", counter).data("id", 1).render());
+        assertEquals("2", foo.data("counter", counter).data("id", 2).render());
+        quteCache.invalidateAll();
+        assertEquals("3", foo.data("counter", counter).data("id", 1).render());
+    }
+
+}
@@ -0,0 +1,124 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Variant;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Compares the rendering of a compiled type-safe template with the rendering of the same template by the section helpers
+ * and value resolvers.
+ * <p>
+ * Run with {@code mvn test -Dtest=CompiledTemplateBenchmarkTest -Dqute.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "qute.benchmark", matches = "true")
+public class CompiledTemplateBenchmarkTest {
+
+    static final String ITEMS = "<ul>\n"
+            + "{#for item in items}\n"
+            + "<li class=\"{indexParity}\">{item.name}: {item.price}{#if item.active} (active){/if}</li>\n"
+            + "{/for}\n"
+            + "</ul>";
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int ROUNDS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset(ITEMS), "templates/CompiledTemplateBenchmarkTest/items.html")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-type-safe-templates=true"),
+                            "application.properties"));
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testItems() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item("item" + i, i, i % 3 == 0));
+        }
+        Template interpreted = engine.parse(ITEMS, Variant.forContentType(Variant.TEXT_HTML));
+        compare(() -> Templates.items(items).render(), () -> interpreted.data("items", items).render());
+    }
+
+    private static void compare(Supplier<String> compiled, Supplier<String> interpreted) {
+        assertEquals(interpreted.get(), compiled.get());
+        for (int round = 0; round < ROUNDS; round++) {
+            long compiledTime = measure(compiled);
+            long interpretedTime = measure(interpreted);
+            System.out.printf("Round %s: compiled %s ns/op, interpreted %s ns/op%n", round, compiledTime, interpretedTime);
+        }
+    }
+
+    private static long measure(Supplier<String> renderer) {
+        int length = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            length += renderer.get().length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            length += renderer.get().length();
+        }
+        long time = (System.nanoTime() - start) / ITERATIONS;
+        if (length == 0) {
+            // make sure the output is used
+            throw new IllegalStateException();
+        }
+        return time;
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final int price;
+        private final boolean active;
+
+        public Item(String name, int price, boolean active) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Variant;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    static final String ITEMS = "{#for item in items}\n"
+            + "{count}. {item.name}{#if item.active} (active){#else} (inactive){/if}: {item.price}{#if hasNext},{/if}\n"
+            + "{/for}\n"
+            + "{#each others}\n"
+            + "{it.name}\n"
+            + "{#else}\n"
+            + "No {title}\n"
+            + "{/each}";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset(ITEMS), "templates/CompiledTemplateTest/items.html")
+                    .addAsResource(new StringAsset("{#for item in items}{item.name}={item.extra};{/for}"),
+                            "templates/CompiledTemplateTest/extra.html")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-type-safe-templates=true"),
+                            "application.properties"));
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testCompiledTemplate() {
+        List<Item> items = Arrays.asList(new Item("<alpha>", 10, true, null), new Item("bravo", 20, false, null),
+                new Item(null, 30, true, null));
+        Item.compiled = false;
+        String output = Templates.items(items, Collections.emptyList(), "<items>").render();
+        assertTrue(Item.compiled);
+        assertEquals("1. &lt;alpha&gt; (active): 10,\n"
+                + "2. bravo (inactive): 20,\n"
+                + "3.  (active): 30\n"
+                + "No &lt;items&gt;\n", output);
+        // The output is the same if the template is interpreted
+        Item.compiled = false;
+        assertEquals(output, engine.parse(ITEMS, Variant.forContentType(Variant.TEXT_HTML)).data("items", items)
+                .data("others", Collections.emptyList()).data("title", "<items>").render());
+        assertFalse(Item.compiled);
+    }
+
+    @Test
+    public void testFallback() {
+        Item.compiled = false;
+        assertEquals("alpha=foo;", Templates.extra(Collections.singletonList(new Item("alpha", 1, true, "foo"))).render());
+        assertTrue(Item.compiled);
+        // An asynchronous value cannot be rendered by the compiled template
+        assertEquals("alpha=bar;", Templates.extra(Collections.singletonList(new Item("alpha", 1, true,
+                CompletableFuture.completedFuture("bar")))).render());
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(List<Item> items, List<Item> others, String title);
+
+        static native TemplateInstance extra(List<Item> items);
+
+    }
+
+    public static class Item {
+
+        // Set if a getter is called from a compiled template
+        static volatile boolean compiled;
+
+        private final String name;
+        private final int price;
+        private final boolean active;
+        private final Object extra;
+
+        public Item(String name, int price, boolean active, Object extra) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+            this.extra = extra;
+        }
+
+        public String getName() {
+            for (StackTraceElement element : new Throwable().getStackTrace()) {
+                if (element.getClassName().endsWith("_CompiledTemplate")) {
+                    compiled = true;
+                }
+            }
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Object getExtra() {
+            return extra;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusDevModeTest;
+import io.quarkus.vertx.web.Route;
+import io.restassured.RestAssured;
+
+public class ValidationDevModeTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest testConfig = new QuarkusDevModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class, Movie.class, MovieExtensions.class)
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.typesafe.Movie movie}{movie.mainCharacters}"),
+                            "templates/movie.html"));
+
+    @Test
+    public void testValidationAfterReload() {
+        assertEquals("[Jaws]", RestAssured.get("movie").then().statusCode(200).extract().body().asString());
+
+        // only a method body changed, the results of the validation are reused
+        testConfig.modifySourceFile(ValidationDevModeTest.class, s -> s.replace("\"Jaws\"", "\"Alien\""));
+        assertEquals("[Alien]", RestAssured.get("movie").then().statusCode(200).extract().body().asString());
+
+        // the template changed, the expressions are validated again
+        testConfig.modifyResourceFile("templates/movie.html", s -> s.replace("movie.mainCharacters", "movie.characters"));
+        RestAssured.get("movie").then().statusCode(500);
+
+        testConfig.modifyResourceFile("templates/movie.html", s -> s.replace("movie.characters", "movie.mainCharacters"));
+        assertEquals("[Alien]", RestAssured.get("movie").then().statusCode(200).extract().body().asString());
+    }
+
+    @Singleton
+    public static class Routes {
+
+        @Inject
+        Template movie;
+
+        @Route(produces = "text/plain")
+        String movie() {
+            return movie.data("movie", new Movie("Jaws")).render();
+        }
+
+    }
+
+}
@@ -6,7 +6,10 @@ import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -19,6 +22,8 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.HtmlEscaper;
@@ -65,6 +70,9 @@ public class EngineProducer {
 
         EngineBuilder builder = Engine.builder()
                 .addDefaultSectionHelpers();
+        // The results of cache sections are kept in memory, unless the cache extension is present and QuteCache replaces
+        // the factory with one backed by the application data cache
+        builder.addSectionHelper(new CacheSectionHelper.Factory());
 
         // We don't register the map resolver because of param declaration validation
         // See DefaultTemplateExtensions
@@ -147,6 +155,13 @@ public class EngineProducer {
             LOGGER.debugf("Registered UserTagSectionHelper for %s [%s]", tagName, tagTemplateId);
             builder.addSectionHelper(new UserTagSectionHelper.Factory(tagName, tagTemplateId));
         }
+        // Add compiled templates; a template is registered for its path and for its path without a suffix
+        Map<String, CompiledTemplate> compiledTemplates = new HashMap<>();
+        for (Entry<String, String> entry : context.getCompiledTemplates().entrySet()) {
+            builder.addCompiledTemplate(entry.getKey(),
+                    compiledTemplates.computeIfAbsent(entry.getValue(), this::createCompiledTemplate));
+            LOGGER.debugf("Added compiled template for %s: %s", entry.getKey(), entry.getValue());
+        }
         // Add locator
         builder.addLocator(this::locate);
         engine = builder.build();
@@ -186,6 +201,20 @@ public class EngineProducer {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     /**
      * @param path
      * @return the optional reader
@@ -44,4 +44,18 @@ public class QuteConfig {
     @ConfigItem
     public Optional<List<String>> typeCheckExcludes;
 
+    /**
+     * If set to {@code true} then type-safe templates are compiled into dedicated classes during the build. A compiled
+     * template calls the getters directly and does not use the value resolvers.
+     * <p>
+     * Only the templates that consist of text, expressions with properties, loops and simple conditions are compiled. If an
+     * expression resolves to {@code null} or to an asynchronous result then the template is rendered as usual and some
+     * getters may be called twice. Note that custom value resolvers are not used for the members of classes that are
+     * accessed directly.
+     * <p>
+     * This feature is experimental.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileTypeSafeTemplates;
+
 }
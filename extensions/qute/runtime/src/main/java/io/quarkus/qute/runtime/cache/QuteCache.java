@@ -0,0 +1,61 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ResultNode;
+
+/**
+ * Stores the results of the {@code cache} sections in the application data cache named {@value #NAME}.
+ * <p>
+ * The cache can be configured like any other cache, e.g. {@code quarkus.cache.caffeine."qute-cache".maximum-size=1000},
+ * and invalidated with {@link #invalidateAll()} or via the {@link io.quarkus.cache.CacheManager}.
+ */
+@Singleton
+public class QuteCache implements CacheSectionHelper.Cache {
+
+    public static final String NAME = "qute-cache";
+
+    private final AbstractCache cache;
+
+    public QuteCache(@CacheName(NAME) Cache cache) {
+        this.cache = (AbstractCache) cache;
+    }
+
+    void registerSectionHelper(@Observes EngineBuilder builder) {
+        builder.addSectionHelper(new CacheSectionHelper.Factory(this));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+        return cache.get(key, k -> loader.apply(key)).thenCompose(value -> {
+            return ((CompletionStage<ResultNode>) value).whenComplete((r, t) -> {
+                if (t != null) {
+                    // Never cache a failure
+                    cache.invalidate(key);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @CacheInvalidateAll(cacheName = NAME)
+    public void invalidateAll() {
+        // The results are removed by the interceptor
+    }
+
+}
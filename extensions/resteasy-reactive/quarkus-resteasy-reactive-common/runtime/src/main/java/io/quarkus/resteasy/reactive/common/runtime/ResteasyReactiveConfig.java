@@ -45,6 +45,15 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "true")
     public boolean buildTimeConditionAware;
 
+    /**
+     * If set to true, the request contexts of the requests that are fully processed on an IO thread are reset and
+     * reused for the next requests processed by the same IO thread instead of being allocated for each request.
+     * <p>
+     * This only applies to non-blocking endpoints, and is ignored in dev mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean poolRequestContexts;
+
     /**
      * If set to true, access to all JAX-RS resources will be denied by default
      *
@@ -1,14 +1,25 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Collections;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.ResteasyReactiveQuteConfig;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateInstanceStreamingWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -22,6 +33,19 @@ public class ResteasyReactiveQuteProcessor {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    void registerStreamingWriter(ResteasyReactiveQuteConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (!config.streaming.enabled) {
+            return;
+        }
+        // make the writer a bean so that it can be instantiated with the config
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(TemplateInstanceStreamingWriter.class));
+        writers.produce(new MessageBodyWriterBuildItem(TemplateInstanceStreamingWriter.class.getName(),
+                TemplateInstance.class.getName(), Collections.singletonList(MediaType.WILDCARD), RuntimeType.SERVER, true,
+                Priorities.USER));
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(new ReflectiveHierarchyIgnoreWarningBuildItem.DotNameExclusion(
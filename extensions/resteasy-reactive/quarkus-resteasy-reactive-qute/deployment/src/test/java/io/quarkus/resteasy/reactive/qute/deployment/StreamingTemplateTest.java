@@ -0,0 +1,120 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloResource.class, Templates.class, StreamingResource.class)
+                    .addAsResource("templates/toplevel.txt")
+                    .addAsResource("templates/HelloResource/hello.txt")
+                    .addAsResource("templates/HelloResource/typedTemplate.txt")
+                    .addAsResource("templates/HelloResource/typedTemplate.html")
+                    .addAsResource("templates/HelloResource/typedTemplatePrimitives.txt")
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("{#for i in total}{i}:{name};{/for}"), "templates/items.txt")
+                    .addAsResource(new StringAsset("{#for i in total}{i};{/for}{failure}"), "templates/failing.txt")
+                    .addAsResource(new StringAsset("quarkus.resteasy-reactive.qute.streaming.enabled=true\n"
+                            + "quarkus.resteasy-reactive.qute.streaming.chunk-size=64"), "application.properties"));
+
+    @TestHTTPResource("streaming/failing")
+    URL failingUrl;
+
+    @Test
+    public void testStreaming() {
+        String expected = IntStream.rangeClosed(1, 1000).mapToObj(i -> i + ":foo;").collect(Collectors.joining());
+        when().get("/streaming?name=foo").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Type", Matchers.startsWith("text/plain"))
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testFailureAfterFirstChunk() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) failingUrl.openConnection();
+        connection.setRequestProperty("Accept", "text/plain");
+        connection.setReadTimeout(5000);
+        // the first top-level node is written before the last one fails
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            IOException e = assertThrows(IOException.class, () -> {
+                byte[] buffer = new byte[1024];
+                while (in.read(buffer) != -1) {
+                    // consume the truncated body
+                }
+            });
+            // the response is reset, the client does not wait for the rest of the body
+            assertFalse(e instanceof SocketTimeoutException, e.toString());
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    public void testNonStreamingResultsUnchanged() {
+        when().get("/hello?name=Joe").then().body(Matchers.is("Hello Joe!"));
+        RestAssured.given().accept(ContentType.HTML).get("/hello/native/typed-template?name=Joe").then()
+                .header("Content-Type", Matchers.startsWith("text/html"))
+                .body(Matchers.is("<html>Salut Joe!</html>"));
+        when().get("/hello/native/toplevel?name=Joe").then().body(Matchers.is("Salut Joe!"));
+    }
+
+    @Path("streaming")
+    public static class StreamingResource {
+
+        @Inject
+        Template items;
+
+        @Inject
+        Template failing;
+
+        @GET
+        public TemplateInstance get(@QueryParam("name") String name) {
+            return items.data("total", 1000).data("name", name);
+        }
+
+        @GET
+        @Path("failing")
+        public TemplateInstance failing() {
+            CompletableFuture<Object> failure = new CompletableFuture<>();
+            failure.completeExceptionally(new IllegalStateException("Rendering failed"));
+            return failing.data("total", 1000).data("failure", failure);
+        }
+
+    }
+
+}
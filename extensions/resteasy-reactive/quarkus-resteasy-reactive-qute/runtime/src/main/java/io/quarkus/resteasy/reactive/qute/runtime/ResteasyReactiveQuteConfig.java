@@ -0,0 +1,38 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED, name = "resteasy-reactive.qute")
+public class ResteasyReactiveQuteConfig {
+
+    /**
+     * Streaming of the rendered templates.
+     */
+    @ConfigItem
+    public StreamingConfig streaming;
+
+    @ConfigGroup
+    public static class StreamingConfig {
+
+        /**
+         * If set to {@code true} the output of a {@code TemplateInstance} returned from a resource method is written to
+         * the HTTP response in chunks, i.e. the rendered output is not buffered as a single string.
+         * <p>
+         * The response is sent with the chunked transfer encoding. The writes respect the backpressure of the connection.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The amount of rendered output that is buffered before a chunk is written to the response.
+         */
+        @ConfigItem(defaultValue = "8k")
+        public MemorySize chunkSize;
+
+    }
+
+}
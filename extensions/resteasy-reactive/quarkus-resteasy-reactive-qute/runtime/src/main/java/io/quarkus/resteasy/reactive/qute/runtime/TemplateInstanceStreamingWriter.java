@@ -0,0 +1,178 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes the rendered output of a {@link TemplateInstance} directly to the HTTP response.
+ * <p>
+ * The output is written in chunks of the configured size. The output of a top-level node of the template is written once
+ * the node and all the preceding nodes are resolved. The parts of the output are only built when requested, and the next
+ * part is not requested until the write queue of the response is drained. If the rendering fails after the first chunk
+ * was written, the response is reset.
+ */
+public class TemplateInstanceStreamingWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    private static final Logger LOG = Logger.getLogger(TemplateInstanceStreamingWriter.class);
+
+    private final int chunkSize;
+
+    @Inject
+    public TemplateInstanceStreamingWriter(ResteasyReactiveQuteConfig config) {
+        this.chunkSize = (int) config.streaming.chunkSize.asLongValue();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // writer interceptors are used - the output must be rendered first
+        entityStream.write(instance.render().getBytes(getCharset(mediaType)));
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ctx.suspend();
+        ServerHttpResponse response = context.serverResponse();
+        response.setChunked(true);
+        instance.createMulti()
+                .subscribe(new ChunkSubscriber(ctx, response, getCharset(context.getResponseMediaType()), chunkSize));
+    }
+
+    static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    static class ChunkSubscriber implements Subscriber<String> {
+
+        private final ResteasyReactiveRequestContext ctx;
+        private final ServerHttpResponse response;
+        private final Charset charset;
+        private final int chunkSize;
+        private final StringBuilder buffer;
+        private Subscription subscription;
+        private boolean drainRequested;
+
+        ChunkSubscriber(ResteasyReactiveRequestContext ctx, ServerHttpResponse response, Charset charset, int chunkSize) {
+            this.ctx = ctx;
+            this.response = response;
+            this.charset = charset;
+            this.chunkSize = chunkSize;
+            this.buffer = new StringBuilder(chunkSize);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            response.addCloseHandler(s::cancel);
+            // registered before the first write so that no drain can be missed
+            response.addDrainHandler(this::requestAfterDrain);
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(String item) {
+            buffer.append(item);
+            if (buffer.length() < chunkSize) {
+                subscription.request(1);
+                return;
+            }
+            try {
+                response.write(flush());
+            } catch (Exception e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            if (response.isWriteQueueFull()) {
+                synchronized (this) {
+                    drainRequested = true;
+                }
+                // the queue may have been drained before the flag was set
+                if (!response.isWriteQueueFull()) {
+                    requestAfterDrain();
+                }
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        private void requestAfterDrain() {
+            // the drain handler and the check above may both see the drained queue
+            synchronized (this) {
+                if (!drainRequested) {
+                    return;
+                }
+                drainRequested = false;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (response.headWritten()) {
+                // the status code and part of the body were already sent - log the failure and reset the response
+                // (i.e. reset the HTTP/2 stream or close the HTTP/1.x connection) so that the client does not take the
+                // truncated output for a complete one
+                LOG.error("Unable to render the template", t);
+                ctx.serverRequest().unwrap(HttpServerResponse.class).reset();
+                ctx.close();
+            } else {
+                ctx.resume(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            response.end(flush());
+            ctx.resume();
+        }
+
+        private byte[] flush() {
+            byte[] bytes = buffer.toString().getBytes(charset);
+            buffer.setLength(0);
+            return bytes;
+        }
+
+    }
+
+}
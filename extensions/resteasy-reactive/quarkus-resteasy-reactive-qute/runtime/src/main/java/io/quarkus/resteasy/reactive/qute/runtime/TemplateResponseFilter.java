@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
+import javax.inject.Inject;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.MediaType;
 
@@ -16,6 +17,13 @@ import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseFilter {
 
+    private final boolean streaming;
+
+    @Inject
+    public TemplateResponseFilter(ResteasyReactiveQuteConfig config) {
+        this.streaming = config.streaming.enabled;
+    }
+
     @SuppressWarnings("unchecked")
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
@@ -54,6 +62,14 @@ public class TemplateResponseFilter {
             mediaType = responseContext.getMediaType();
         }
 
+        if (streaming) {
+            // the output is rendered and written by TemplateInstanceStreamingWriter
+            if (mediaType != null) {
+                responseContext.setEntity(instance, null, mediaType);
+            }
+            return null;
+        }
+
         return instance.createUni().chain(r -> {
             if (mediaType != null) {
                 responseContext.setEntity(r, null, mediaType);
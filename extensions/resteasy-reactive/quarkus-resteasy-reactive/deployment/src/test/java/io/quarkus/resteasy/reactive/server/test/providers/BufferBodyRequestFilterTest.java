@@ -0,0 +1,142 @@
+package io.quarkus.resteasy.reactive.server.test.providers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.ws.rs.NameBinding;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.buffer.Buffer;
+
+public class BufferBodyRequestFilterTest {
+
+    private static final byte[] BODY = new byte[100_000];
+
+    static {
+        Arrays.fill(BODY, (byte) 'a');
+        BODY[BODY.length - 1] = 'z';
+    }
+
+    @TestHTTPResource
+    URI uri;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(FilteredResource.class,
+                    NonBlockingAbort.class, NonBlockingAbortFilter.class, BlockingAbort.class, BlockingAbortFilter.class));
+
+    @Test
+    public void testBodyRead() {
+        for (String path : new String[] { "non-blocking-filter", "blocking-filter" }) {
+            RestAssured.given().body(BODY).post("/filtered/" + path)
+                    .then().statusCode(200).body(equalTo("100000-z"));
+        }
+    }
+
+    @Test
+    public void testAbortBeforeBodyRead() throws Exception {
+        // only a part of the body is sent, the response can only be received if the body is not read before the filters
+        for (String path : new String[] { "non-blocking-filter", "blocking-filter" }) {
+            try (Socket socket = new Socket(uri.getHost(), uri.getPort())) {
+                socket.setSoTimeout(5000);
+                OutputStream out = socket.getOutputStream();
+                out.write(("POST /filtered/" + path + " HTTP/1.1\r\n"
+                        + "Host: " + uri.getHost() + "\r\n"
+                        + "Abort: true\r\n"
+                        + "Content-Length: " + BODY.length + "\r\n"
+                        + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(BODY, 0, 1000);
+                out.flush();
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                assertEquals("HTTP/1.1 401 Unauthorized", in.readLine(), path);
+            }
+        }
+    }
+
+    @Path("filtered")
+    public static class FilteredResource {
+
+        @Blocking
+        @NonBlockingAbort
+        @POST
+        @Path("non-blocking-filter")
+        public String nonBlockingFilter(Buffer body) {
+            return body.length() + "-" + (char) body.getByte(body.length() - 1);
+        }
+
+        @Blocking
+        @BlockingAbort
+        @POST
+        @Path("blocking-filter")
+        public String blockingFilter(Buffer body) {
+            return body.length() + "-" + (char) body.getByte(body.length() - 1);
+        }
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface NonBlockingAbort {
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface BlockingAbort {
+    }
+
+    @Provider
+    @NonBlocking
+    @NonBlockingAbort
+    public static class NonBlockingAbortFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            abort(requestContext);
+        }
+    }
+
+    @Provider
+    @BlockingAbort
+    public static class BlockingAbortFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            abort(requestContext);
+        }
+    }
+
+    static void abort(ContainerRequestContext requestContext) {
+        if (requestContext.getHeaderString("Abort") != null) {
+            requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED).build());
+        }
+    }
+}
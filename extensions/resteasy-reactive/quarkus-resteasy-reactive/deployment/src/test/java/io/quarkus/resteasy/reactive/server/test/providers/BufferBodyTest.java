@@ -0,0 +1,219 @@
+package io.quarkus.resteasy.reactive.server.test.providers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+
+public class BufferBodyTest {
+
+    // larger than the input buffer, so that the body is received in several chunks
+    private static final byte[] BODY = new byte[100_000];
+
+    static {
+        Arrays.fill(BODY, (byte) 'a');
+        BODY[BODY.length - 1] = 'z';
+    }
+
+    @TestHTTPResource
+    URI uri;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(BufferResource.class,
+                    MultiStringReader.class))
+            .overrideConfigKey("quarkus.http.limits.max-body-size", "200K");
+
+    @Test
+    public void testInMemoryBodies() {
+        // the whole body is buffered so non-blocking methods are not moved off the IO thread
+        for (String path : new String[] { "byte-array", "byte-buffer", "buffer", "byte-buf" }) {
+            RestAssured.given().body(BODY).post("/buffers/" + path)
+                    .then().statusCode(200).body(equalTo("100000-z-true"));
+        }
+        RestAssured.given().body(BODY).post("/buffers/blocking-buffer")
+                .then().statusCode(200).body(equalTo("100000-z-false"));
+    }
+
+    @Test
+    public void testMulti() {
+        RestAssured.given().body(BODY).post("/buffers/multi")
+                .then().statusCode(200).body(equalTo("100000-z"));
+        RestAssured.given().body(BODY).post("/buffers/blocking-multi")
+                .then().statusCode(200).body(equalTo("100000-z"));
+        // only Multi<Buffer> bodies are streamed, the others are read by their reader as usual
+        RestAssured.given().body(BODY).post("/buffers/multi-string")
+                .then().statusCode(200).body(equalTo("100000-z"));
+    }
+
+    @Test
+    public void testMultiNotSubscribed() throws Exception {
+        // the requests are sent over the same connection, which must not be left paused by the unread body
+        Vertx vertx = Vertx.vertx();
+        try {
+            HttpClient client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(1).setKeepAlive(true));
+            for (int i = 0; i < 3; i++) {
+                CompletableFuture<String> body = new CompletableFuture<>();
+                client.request(HttpMethod.POST, uri.getPort(), uri.getHost(), "/buffers/ignored-multi")
+                        .compose(request -> request.send(Buffer.buffer(BODY)))
+                        .compose(response -> response.body())
+                        .onSuccess(b -> body.complete(b.toString()))
+                        .onFailure(body::completeExceptionally);
+                assertEquals("ignored", body.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void testBodyTooLarge() throws Exception {
+        // no content length, the limit is enforced while the body is buffered
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<Integer> status = new CompletableFuture<>();
+            vertx.createHttpClient().request(HttpMethod.POST, uri.getPort(), uri.getHost(), "/buffers/byte-buffer")
+                    .onFailure(status::completeExceptionally)
+                    .onSuccess(request -> {
+                        request.setChunked(true);
+                        request.response().onSuccess(response -> status.complete(response.statusCode()))
+                                .onFailure(status::completeExceptionally);
+                        for (int i = 0; i < 3; i++) {
+                            request.write(Buffer.buffer(BODY));
+                        }
+                        request.end();
+                    });
+            assertEquals(413, status.get(10, TimeUnit.SECONDS));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Path("buffers")
+    public static class BufferResource {
+
+        @NonBlocking
+        @POST
+        @Path("byte-array")
+        public String byteArray(byte[] body) {
+            return describe(body.length, body[body.length - 1]);
+        }
+
+        @NonBlocking
+        @POST
+        @Path("byte-buffer")
+        public String byteBuffer(ByteBuffer body) {
+            return describe(body.remaining(), body.get(body.limit() - 1));
+        }
+
+        @NonBlocking
+        @POST
+        @Path("buffer")
+        public String buffer(Buffer body) {
+            return describe(body.length(), body.getByte(body.length() - 1));
+        }
+
+        @NonBlocking
+        @POST
+        @Path("byte-buf")
+        public String byteBuf(ByteBuf body) {
+            return describe(body.readableBytes(), body.getByte(body.writerIndex() - 1));
+        }
+
+        @POST
+        @Path("blocking-buffer")
+        public String blockingBuffer(Buffer body) {
+            return describe(body.length(), body.getByte(body.length() - 1));
+        }
+
+        @POST
+        @Path("multi")
+        public Uni<String> multi(Multi<Buffer> body) {
+            return collect(body);
+        }
+
+        @Blocking
+        @POST
+        @Path("blocking-multi")
+        public String blockingMulti(Multi<Buffer> body) {
+            return collect(body).await().indefinitely();
+        }
+
+        @NonBlocking
+        @POST
+        @Path("ignored-multi")
+        public String ignoredMulti(Multi<Buffer> body) {
+            return "ignored";
+        }
+
+        @POST
+        @Path("multi-string")
+        public Uni<String> multiString(Multi<String> body) {
+            return body.toUni().map(b -> b.length() + "-" + b.charAt(b.length() - 1));
+        }
+
+        private static Uni<String> collect(Multi<Buffer> body) {
+            return body.collect().in(Buffer::buffer, Buffer::appendBuffer)
+                    .map(b -> b.length() + "-" + (char) b.getByte(b.length() - 1));
+        }
+
+        private static String describe(int length, byte last) {
+            return length + "-" + (char) last + "-" + Context.isOnEventLoopThread();
+        }
+    }
+
+    @Provider
+    public static class MultiStringReader implements MessageBodyReader<Multi<String>> {
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return genericType instanceof ParameterizedType
+                    && ((ParameterizedType) genericType).getActualTypeArguments()[0] == String.class;
+        }
+
+        @Override
+        public Multi<String> readFrom(Class<Multi<String>> type, Type genericType, Annotation[] annotations,
+                MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+                throws IOException, WebApplicationException {
+            return Multi.createFrom().item(new String(entityStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class PooledRequestContextTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PooledResource.class, Counter.class, PropertyFilter.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.pool-request-contexts", "true");
+
+    @Test
+    public void testReuse() {
+        Set<String> contexts = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            contexts.add(get(i, null));
+        }
+        // the contexts of the requests that completed on the IO thread are reused
+        assertTrue(contexts.size() < 20, "The request contexts were not reused: " + contexts);
+    }
+
+    @Test
+    public void testNoStateLeak() {
+        for (int i = 0; i < 20; i++) {
+            get(i, "value");
+            get(i, null);
+            // requests that do not complete on the IO thread and failed requests must not alter the next ones
+            RestAssured.get("/pooled/async").then().statusCode(200).body(equalTo("async"));
+            RestAssured.get("/pooled/blocking").then().statusCode(200).body(equalTo("blocking"));
+            RestAssured.get("/pooled/fail").then().statusCode(400);
+        }
+    }
+
+    private String get(int i, String header) {
+        RequestSpecification request = RestAssured.given().queryParam("name", "n" + i);
+        if (header != null) {
+            request.header("X-Test", header);
+        }
+        Response response = request.get("/pooled/" + i)
+                .then().statusCode(200).extract().response();
+        assertEquals(header == null ? "null" : header, response.header("X-Property"));
+        String[] parts = response.asString().split(":");
+        assertEquals("/pooled/" + i, parts[0]);
+        assertEquals("n" + i, parts[1]);
+        assertEquals(String.valueOf(i), parts[2]);
+        assertEquals("1", parts[3]);
+        return parts[4];
+    }
+
+    @Path("pooled")
+    public static class PooledResource {
+
+        @Inject
+        Counter counter;
+
+        @Inject
+        UriInfo uriInfo;
+
+        @NonBlocking
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") String id, @QueryParam("name") String name,
+                @Context ServerRequestContext context) {
+            return uriInfo.getPath() + ":" + name + ":" + id + ":" + counter.increment() + ":"
+                    + System.identityHashCode(context);
+        }
+
+        @GET
+        @Path("async")
+        public Uni<String> async() {
+            return Uni.createFrom().item("async").emitOn(Infrastructure.getDefaultExecutor());
+        }
+
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            return "blocking";
+        }
+
+        @NonBlocking
+        @GET
+        @Path("fail")
+        public String fail() {
+            throw new BadRequestException();
+        }
+    }
+
+    @RequestScoped
+    public static class Counter {
+
+        int count;
+
+        int increment() {
+            return ++count;
+        }
+    }
+
+    @Provider
+    public static class PropertyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            String header = requestContext.getHeaderString("X-Test");
+            if (header != null) {
+                requestContext.setProperty("test", header);
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().putSingle("X-Property", String.valueOf(requestContext.getProperty("test")));
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.util.RuntimeResourceVisitor;
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
 import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextPool;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
@@ -73,7 +74,7 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder imp
             ShutdownContext shutdownContext, HttpBuildTimeConfig vertxConfig,
             RequestContextFactory contextFactory,
             BeanFactory<ResteasyReactiveInitialiser> initClassFactory,
-            LaunchMode launchMode) {
+            LaunchMode launchMode, boolean poolRequestContexts) {
 
         CurrentRequestManager
                 .setCurrentRequestInstance(new QuarkusCurrentRequest(beanContainer.instance(CurrentVertxRequest.class)));
@@ -95,17 +96,34 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder imp
                 .get();
         ClassLoader tccl = Thread.currentThread().getContextClassLoader();
         if (contextFactory == null) {
+            // the pooled contexts would keep the previous application alive after a dev mode restart
+            VertxRequestContextPool pool = poolRequestContexts && launchMode != LaunchMode.DEVELOPMENT
+                    ? new VertxRequestContextPool()
+                    : null;
             contextFactory = new RequestContextFactory() {
                 @Override
                 public ResteasyReactiveRequestContext createContext(Deployment deployment,
                         ProvidersImpl providers, Object context, ThreadSetupAction requestContext,
                         ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+                    if (pool != null) {
+                        ResteasyReactiveRequestContext pooled = pool.get((RoutingContext) context, handlerChain,
+                                abortHandlerChain);
+                        if (pooled != null) {
+                            return pooled;
+                        }
+                    }
                     return new QuarkusResteasyReactiveRequestContext(deployment, providers, (RoutingContext) context,
                             requestContext,
                             handlerChain,
                             abortHandlerChain, launchMode == LaunchMode.DEVELOPMENT ? tccl : null, currentIdentityAssociation);
                 }
 
+                @Override
+                public void recycle(ResteasyReactiveRequestContext context) {
+                    if (pool != null) {
+                        pool.release(context);
+                    }
+                }
             };
         }
 
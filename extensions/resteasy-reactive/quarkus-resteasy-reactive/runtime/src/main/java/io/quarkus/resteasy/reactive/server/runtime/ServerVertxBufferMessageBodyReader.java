@@ -0,0 +1,46 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Reads the entity into a {@link Buffer} that wraps the buffers received from the network, without copying them.
+ */
+@Provider
+public class ServerVertxBufferMessageBodyReader implements ServerMessageBodyReader<Buffer> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public Buffer readFrom(Class<Buffer> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        return Buffer.buffer(StreamUtil.readByteBuf(context.getInputStream()));
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public Buffer readFrom(Class<Buffer> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        return Buffer.buffer(StreamUtil.readByteBuf(entityStream));
+    }
+}
@@ -0,0 +1,158 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Streams the entity as a {@code Multi<Buffer>}: the chunks are emitted as they are received from the network and the
+ * request is only read when the subscriber requests more items.
+ */
+@Provider
+public class ServerVertxBufferMultiMessageBodyReader implements ServerMessageBodyReader<Multi<Buffer>> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod, MediaType mediaType) {
+        return isBufferMulti(genericType);
+    }
+
+    @Override
+    public Multi<Buffer> readFrom(Class<Multi<Buffer>> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) throws WebApplicationException, IOException {
+        RoutingContext routingContext = ((ResteasyReactiveRequestContext) context).unwrap(RoutingContext.class);
+        if (routingContext == null) {
+            return Multi.createFrom().item(Buffer.buffer(MessageReaderUtil.readBytes(context.getInputStream())));
+        }
+        if (routingContext.getBody() != null) {
+            // the body was already read by the Vert.x body handler
+            return Multi.createFrom().item(routingContext.getBody());
+        }
+        HttpServerRequest request = routingContext.request();
+        // the request stays paused until the Multi is subscribed, the data is then fetched on demand
+        request.pause();
+        RequestPublisher publisher = new RequestPublisher(request);
+        ((ResteasyReactiveRequestContext) context).registerCompletionCallback(publisher);
+        return Multi.createFrom().publisher(publisher);
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isBufferMulti(genericType);
+    }
+
+    @Override
+    public Multi<Buffer> readFrom(Class<Multi<Buffer>> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+            throws IOException, WebApplicationException {
+        return Multi.createFrom().item(Buffer.buffer(MessageReaderUtil.readBytes(entityStream)));
+    }
+
+    private static final class RequestPublisher implements Publisher<Buffer>, CompletionCallback {
+
+        private final HttpServerRequest request;
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        RequestPublisher(HttpServerRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Buffer> subscriber) {
+            if (!subscribed.compareAndSet(false, true)) {
+                Subscriptions.fail(subscriber, new IllegalStateException("The request body can only be consumed once"));
+                return;
+            }
+            request.handler(new Handler<Buffer>() {
+                @Override
+                public void handle(Buffer buffer) {
+                    subscriber.onNext(buffer);
+                }
+            });
+            request.exceptionHandler(new Handler<Throwable>() {
+                @Override
+                public void handle(Throwable t) {
+                    subscriber.onError(t);
+                }
+            });
+            request.endHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void v) {
+                    subscriber.onComplete();
+                }
+            });
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        cancel();
+                        subscriber.onError(Subscriptions.getInvalidRequestException());
+                        return;
+                    }
+                    request.fetch(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                    request.pause();
+                    request.handler(null);
+                    request.exceptionHandler(null);
+                    request.endHandler(null);
+                }
+            });
+            if (HttpHeaderValues.CONTINUE.contentEqualsIgnoreCase(request.getHeader(HttpHeaderNames.EXPECT))) {
+                request.response().writeContinue();
+            }
+        }
+
+        @Override
+        public void onComplete(Throwable throwable) {
+            if ((subscribed.compareAndSet(false, true) || cancelled) && !request.isEnded()) {
+                // the rest of the body is not consumed, discard it so that the connection is not left paused
+                request.handler(new Handler<Buffer>() {
+                    @Override
+                    public void handle(Buffer buffer) {
+                        // ignore
+                    }
+                });
+                request.resume();
+            }
+        }
+    }
+
+    private static boolean isBufferMulti(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            return arguments.length == 1 && arguments[0] == Buffer.class;
+        }
+        return false;
+    }
+}
@@ -1,10 +1,18 @@
 package io.quarkus.resteasy.reactive.server.runtime;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.common.util.ByteBuffersInputStream;
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 public final class StreamUtil {
 
     private StreamUtil() {
@@ -14,6 +22,21 @@ public final class StreamUtil {
         if (stream instanceof ByteArrayInputStream) {
             return (((ByteArrayInputStream) stream).available() == 0);
         }
+        if (stream instanceof ByteBuffersInputStream) {
+            return (((ByteBuffersInputStream) stream).available() == 0);
+        }
         return stream instanceof EmptyInputStream;
     }
+
+    /**
+     * Reads the stream into a {@link ByteBuf}. If the entity was buffered in memory, the returned {@link ByteBuf}
+     * wraps the buffers received from the network instead of copying them.
+     */
+    public static ByteBuf readByteBuf(InputStream stream) throws IOException {
+        if (stream instanceof ByteBuffersInputStream) {
+            List<ByteBuffer> buffers = ((ByteBuffersInputStream) stream).readBuffers();
+            return Unpooled.wrappedBuffer(buffers.toArray(new ByteBuffer[0]));
+        }
+        return Unpooled.wrappedBuffer(MessageReaderUtil.readBytes(stream));
+    }
 }
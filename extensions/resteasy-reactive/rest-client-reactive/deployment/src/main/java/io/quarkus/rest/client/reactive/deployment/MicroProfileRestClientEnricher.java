@@ -4,6 +4,7 @@ import static io.quarkus.arc.processor.DotNames.STRING;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAM;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAMS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_CLIENT_HEADERS;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.SINGLE_FLIGHT;
 import static org.jboss.resteasy.reactive.common.processor.HashUtil.sha1;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
@@ -33,6 +34,8 @@ import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -134,6 +137,7 @@ class MicroProfileRestClientEnricher implements JaxrsClientReactiveEnricher {
             int methodIndex, int subMethodIndex) {
         addJavaMethodToContext(subClassCreator, subClinit, subMethodCreator, subInterfaceClass, subMethod,
                 invocationBuilder, subMethodIndex);
+        addSingleFlight(subMethodCreator, subInterfaceClass, subMethod, invocationBuilder);
 
         Map<String, HeaderData> headerFillersByName = new HashMap<>();
         collectHeaderFillers(rootInterfaceClass, rootMethod, headerFillersByName);
@@ -152,6 +156,7 @@ class MicroProfileRestClientEnricher implements JaxrsClientReactiveEnricher {
 
         addJavaMethodToContext(classCreator, clinit, methodCreator, interfaceClass, method, invocationBuilder,
                 methodIndex);
+        addSingleFlight(methodCreator, interfaceClass, method, invocationBuilder);
 
         // header filler
 
@@ -164,6 +169,27 @@ class MicroProfileRestClientEnricher implements JaxrsClientReactiveEnricher {
                 interfaceClass + "$$" + method.name() + "$$" + methodIndex, headerFillersByName);
     }
 
+    private void addSingleFlight(MethodCreator methodCreator, ClassInfo interfaceClass, MethodInfo method,
+            AssignableResultHandle invocationBuilder) {
+        AnnotationInstance singleFlight = method.annotation(SINGLE_FLIGHT);
+        if (singleFlight == null) {
+            return;
+        }
+        if (!method.hasAnnotation(ResteasyReactiveDotNames.GET)) {
+            throw new RestClientDefinitionException("Method " + interfaceClass.name() + "#" + method.name()
+                    + " is annotated with @SingleFlight but only GET methods can share requests");
+        }
+        AnnotationValue headersValue = singleFlight.value("headers");
+        String[] headers = headersValue == null ? new String[0] : headersValue.asStringArray();
+        ResultHandle headersArray = methodCreator.newArray(String.class, headers.length);
+        for (int i = 0; i < headers.length; i++) {
+            methodCreator.writeArrayValue(headersArray, i, methodCreator.load(headers[i]));
+        }
+        methodCreator.assign(invocationBuilder,
+                methodCreator.invokeInterfaceMethod(INVOCATION_BUILDER_PROPERTY_METHOD, invocationBuilder,
+                        methodCreator.load(QuarkusRestClientProperties.SINGLE_FLIGHT_HEADERS), headersArray));
+    }
+
     private void createAndReturnHeaderFiller(ClassCreator classCreator, MethodCreator constructor,
             MethodCreator methodCreator, MethodInfo method,
             AssignableResultHandle invocationBuilder, IndexView index,
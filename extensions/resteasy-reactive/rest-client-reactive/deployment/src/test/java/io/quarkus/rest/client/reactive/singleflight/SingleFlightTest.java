@@ -0,0 +1,121 @@
+package io.quarkus.rest.client.reactive.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.rest.client.reactive.SingleFlight;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class SingleFlightTest {
+
+    private static final int CALLS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Client.class, Resource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    Client client;
+
+    @BeforeEach
+    void setUp() {
+        Resource.HITS.set(0);
+        client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+    }
+
+    @Test
+    void shouldShareConcurrentIdenticalRequests() throws Exception {
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            results.add(client.shared("en"));
+        }
+        for (CompletionStage<String> result : results) {
+            assertThat(result.toCompletableFuture().get(10, TimeUnit.SECONDS)).isEqualTo("en-1");
+        }
+        assertThat(Resource.HITS.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotShareRequestsWithDifferentKeyHeaders() throws Exception {
+        CompletionStage<String> english = client.shared("en");
+        CompletionStage<String> french = client.shared("fr");
+        assertThat(english.toCompletableFuture().get(10, TimeUnit.SECONDS)).startsWith("en-");
+        assertThat(french.toCompletableFuture().get(10, TimeUnit.SECONDS)).startsWith("fr-");
+        assertThat(Resource.HITS.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotShareRequestsWithDifferentCredentials() throws Exception {
+        CompletionStage<String> alice = client.authenticated("en", "Basic YWxpY2U6YWxpY2U=");
+        CompletionStage<String> bob = client.authenticated("en", "Basic Ym9iOmJvYg==");
+        assertThat(alice.toCompletableFuture().get(10, TimeUnit.SECONDS)).isNotEqualTo(
+                bob.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertThat(Resource.HITS.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotShareRequestsWithoutAnnotation() throws Exception {
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            results.add(client.notShared("en"));
+        }
+        for (CompletionStage<String> result : results) {
+            result.toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        assertThat(Resource.HITS.get()).isEqualTo(CALLS);
+    }
+
+    @Path("/single-flight")
+    @Produces(MediaType.TEXT_PLAIN)
+    public interface Client {
+        @GET
+        @SingleFlight(headers = "Accept-Language")
+        CompletionStage<String> shared(@HeaderParam("Accept-Language") String language);
+
+        @GET
+        @SingleFlight(headers = "Accept-Language")
+        CompletionStage<String> authenticated(@HeaderParam("Accept-Language") String language,
+                @HeaderParam("Authorization") String authorization);
+
+        @GET
+        CompletionStage<String> notShared(@HeaderParam("Accept-Language") String language);
+    }
+
+    @Path("/single-flight")
+    public static class Resource {
+
+        static final AtomicInteger HITS = new AtomicInteger();
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get(@HeaderParam("Accept-Language") String language) throws InterruptedException {
+            int hit = HITS.incrementAndGet();
+            // give the concurrent client calls time to pile up
+            Thread.sleep(500L);
+            return language + "-" + hit;
+        }
+    }
+}
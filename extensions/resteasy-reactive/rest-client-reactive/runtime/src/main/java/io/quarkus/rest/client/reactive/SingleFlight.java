@@ -0,0 +1,27 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables single-flight execution for a {@code GET} method of a REST Client interface.
+ * <p>
+ * Concurrent invocations that resolve to the same URI and carry the same values for the selected {@link #headers()} share
+ * a single outbound HTTP request and all of them receive its response. Once the shared request completes, the next
+ * invocation goes to the server again; no response is cached.
+ * <p>
+ * Only the response status, headers and body are shared, each invocation still deserializes its own entity.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SingleFlight {
+
+    /**
+     * Names of the request headers that, in addition to the URI, must match for invocations to share a request.
+     * The {@code Authorization}, {@code Cookie} and {@code Accept} headers always have to match, other headers that
+     * influence the response, such as {@code Accept-Language}, should be listed here.
+     */
+    String[] headers() default {};
+}
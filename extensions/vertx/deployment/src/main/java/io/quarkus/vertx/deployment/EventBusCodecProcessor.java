@@ -2,6 +2,7 @@ package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.COMPLETION_STAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
 import static io.quarkus.vertx.deployment.VertxConstants.LOCAL_EVENT_BUS_CODEC;
 import static io.quarkus.vertx.deployment.VertxConstants.MESSAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.MUTINY_MESSAGE;
@@ -53,7 +54,8 @@ public class EventBusCodecProcessor {
 
             MethodInfo method = typeTarget.asMethod();
             Type codecTargetFromReturnType = extractPayloadTypeFromReturn(method);
-            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
+            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method,
+                    EventBusConsumer.isBatch(consumeEventAnnotationInstance));
 
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
@@ -141,12 +143,19 @@ public class EventBusCodecProcessor {
         return null;
     }
 
-    private static Type extractPayloadTypeFromParameter(MethodInfo method) {
+    private static Type extractPayloadTypeFromParameter(MethodInfo method, boolean batch) {
         List<Type> parameters = method.parameters();
         if (parameters.isEmpty()) {
             return null;
         }
         Type param = method.parameters().get(0);
+        if (batch && param.name().equals(LIST)) {
+            // A batch consumer accepts a list of payloads or messages
+            if (param.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            param = param.asParameterizedType().arguments().get(0);
+        }
         if (param.kind() == Type.Kind.CLASS) {
             return param;
         } else if (param.kind() == Type.Kind.PARAMETERIZED_TYPE) {
@@ -7,6 +7,7 @@ import static io.quarkus.vertx.deployment.VertxConstants.UNI;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -32,6 +33,7 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.vertx.runtime.EventConsumerBatchInvoker;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.mutiny.Uni;
@@ -41,8 +43,6 @@ class EventBusConsumer {
 
     private static final String INVOKER_SUFFIX = "_VertxInvoker";
 
-    private static final MethodDescriptor INVOKER_CONSTRUCTOR = MethodDescriptor
-            .ofConstructor(EventConsumerInvoker.class);
     private static final MethodDescriptor ARC_CONTAINER = MethodDescriptor
             .ofMethod(Arc.class, "container", ArcContainer.class);
     private static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
@@ -69,6 +69,10 @@ class EventBusConsumer {
     protected static final MethodDescriptor THROWABLE_TO_STRING = MethodDescriptor
             .ofMethod(Throwable.class, "toString", String.class);
     protected static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
+    private static final MethodDescriptor INVOKE_BEAN_BATCH = MethodDescriptor.ofMethod(EventConsumerBatchInvoker.class,
+            "invokeBean", void.class, List.class);
+    private static final MethodDescriptor BODIES = MethodDescriptor.ofMethod(EventConsumerBatchInvoker.class, "bodies",
+            List.class, List.class);
 
     static String generateInvoker(BeanInfo bean, MethodInfo method,
             AnnotationInstance consumeEvent,
@@ -96,7 +100,7 @@ class EventBusConsumer {
         blocking = method.hasAnnotation(BLOCKING) || (blockingValue != null && blockingValue.asBoolean());
 
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .superClass(EventConsumerInvoker.class).build();
+                .superClass(isBatch(consumeEvent) ? EventConsumerBatchInvoker.class : EventConsumerInvoker.class).build();
 
         // Initialized state
         FieldCreator beanField = invokerCreator.getFieldCreator("bean", InjectableBean.class)
@@ -117,7 +121,13 @@ class EventBusConsumer {
         }
 
         implementConstructor(bean, invokerCreator, beanField, containerField);
-        implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(), containerField.getFieldDescriptor());
+        if (isBatch(consumeEvent)) {
+            implementInvokeBatch(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        } else {
+            implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        }
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
@@ -127,7 +137,7 @@ class EventBusConsumer {
             FieldCreator containerField) {
         MethodCreator constructor = invokerCreator.getMethodCreator("<init>", void.class);
         // Invoke super()
-        constructor.invokeSpecialMethod(INVOKER_CONSTRUCTOR, constructor.getThis());
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(invokerCreator.getSuperClass()), constructor.getThis());
 
         ResultHandle containerHandle = constructor
                 .invokeStaticMethod(ARC_CONTAINER);
@@ -202,6 +212,48 @@ class EventBusConsumer {
         invoke.returnValue(result);
     }
 
+    static boolean isBatch(AnnotationInstance consumeEvent) {
+        AnnotationValue batchSizeValue = consumeEvent.value("batchSize");
+        return batchSizeValue != null && batchSizeValue.asInt() > 1;
+    }
+
+    private static void implementInvokeBatch(BeanInfo bean, MethodInfo method, ClassCreator invokerCreator,
+            FieldDescriptor beanField,
+            FieldDescriptor containerField) {
+
+        // void invokeBean(List<Message> messages)
+        MethodCreator invoke = invokerCreator.getMethodCreator(INVOKE_BEAN_BATCH)
+                .addException(Exception.class);
+
+        ResultHandle containerHandle = invoke.readInstanceField(containerField, invoke.getThis());
+        ResultHandle beanHandle = invoke.readInstanceField(beanField, invoke.getThis());
+        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invoke
+                .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        ResultHandle messagesHandle = invoke.getMethodParam(0);
+
+        Type paramType = method.parameters().get(0);
+        ResultHandle argHandle;
+        if (paramType.kind() == Type.Kind.PARAMETERIZED_TYPE
+                && paramType.asParameterizedType().arguments().get(0).name().equals(MESSAGE)) {
+            // List<io.vertx.core.eventbus.Message>
+            argHandle = messagesHandle;
+        } else {
+            // List of payloads
+            argHandle = invoke.invokeStaticMethod(BODIES, messagesHandle);
+        }
+        invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, argHandle);
+
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+        invoke.returnValue(null);
+    }
+
     private EventBusConsumer() {
         // Avoid direct instantiation.
     }
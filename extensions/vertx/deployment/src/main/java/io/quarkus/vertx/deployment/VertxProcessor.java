@@ -1,12 +1,15 @@
 package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
+import static io.quarkus.vertx.deployment.VertxConstants.MUTINY_MESSAGE;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -118,6 +121,26 @@ class VertxProcessor {
                                 "Event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s",
                                 params, method, bean));
                     }
+                    if (EventBusConsumer.isBatch(consumeEvent)) {
+                        if (!params.get(0).name().equals(LIST) || method.returnType().kind() != Type.Kind.VOID) {
+                            throw new IllegalStateException(String.format(
+                                    "Event consumer business method that consumes messages in batches must accept a java.util.List and return void [method: %s, bean:%s]",
+                                    method, bean));
+                        }
+                        Type param = params.get(0);
+                        if (param.kind() == Type.Kind.PARAMETERIZED_TYPE
+                                && param.asParameterizedType().arguments().get(0).name().equals(MUTINY_MESSAGE)) {
+                            throw new IllegalStateException(String.format(
+                                    "Event consumer business method that consumes messages in batches must not accept a list of io.vertx.mutiny.core.eventbus.Message [method: %s, bean:%s]",
+                                    method, bean));
+                        }
+                        AnnotationValue batchTimeout = consumeEvent.value("batchTimeout");
+                        if (batchTimeout != null && batchTimeout.asLong() <= 0) {
+                            throw new IllegalStateException(String.format(
+                                    "Event consumer business method that consumes messages in batches must declare a batch timeout greater than zero: %s [method: %s, bean:%s]",
+                                    batchTimeout.asLong(), method, bean));
+                        }
+                    }
                     messageConsumerBusinessMethods
                             .produce(new EventConsumerBusinessMethodItem(bean, method, consumeEvent));
                     LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
@@ -0,0 +1,82 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+
+public class MessageConsumerBatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(BatchConsumers.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testBatchOfPayloads() throws InterruptedException {
+        BatchConsumers.latch = new CountDownLatch(2);
+        for (int i = 0; i < 6; i++) {
+            eventBus.send("batch", "m" + i);
+        }
+        assertTrue(BatchConsumers.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(2, BatchConsumers.BATCHES.size());
+        assertEquals(List.of("m0", "m1", "m2"), BatchConsumers.BATCHES.get(0));
+        assertEquals(List.of("m3", "m4", "m5"), BatchConsumers.BATCHES.get(1));
+    }
+
+    @Test
+    public void testBlockingBatchOfMessagesWithTimeout() throws InterruptedException {
+        BatchConsumers.blockingLatch = new CountDownLatch(1);
+        // The batch is not full - it's delivered when the timeout expires
+        eventBus.send("blocking-batch", "foo");
+        eventBus.send("blocking-batch", "bar");
+        assertTrue(BatchConsumers.blockingLatch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("foo", "bar"), BatchConsumers.BLOCKING_BATCHES.get(0));
+        assertTrue(BatchConsumers.blockingThread.contains("executor-thread"), BatchConsumers.blockingThread);
+    }
+
+    @ApplicationScoped
+    static class BatchConsumers {
+
+        static final List<List<String>> BATCHES = new CopyOnWriteArrayList<>();
+        static final List<List<String>> BLOCKING_BATCHES = new CopyOnWriteArrayList<>();
+
+        static volatile CountDownLatch latch;
+        static volatile CountDownLatch blockingLatch;
+        static volatile String blockingThread;
+
+        @ConsumeEvent(value = "batch", batchSize = 3, batchTimeout = 10000)
+        void consume(List<String> payloads) {
+            BATCHES.add(payloads);
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "blocking-batch", batchSize = 10, batchTimeout = 50, blocking = true)
+        void consumeBlocking(List<Message<String>> messages) {
+            BLOCKING_BATCHES.add(messages.stream().map(Message::body).collect(Collectors.toList()));
+            blockingThread = Thread.currentThread().getName();
+            blockingLatch.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+
+public class MessageConsumerBatchTimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(NoTimeoutConsumer.class))
+            .assertException(t -> {
+                assertEquals(IllegalStateException.class, t.getClass());
+                assertTrue(t.getMessage().contains("batch timeout greater than zero"), t.getMessage());
+            });
+
+    @Test
+    public void testDeploymentFailed() {
+        // This method should not be invoked
+    }
+
+    @ApplicationScoped
+    static class NoTimeoutConsumer {
+
+        // an incomplete batch would never be delivered
+        @ConsumeEvent(value = "batch", batchSize = 3, batchTimeout = 0)
+        void consume(List<String> payloads) {
+        }
+
+    }
+
+}
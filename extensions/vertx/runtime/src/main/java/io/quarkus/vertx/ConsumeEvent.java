@@ -99,6 +99,26 @@ public @interface ConsumeEvent {
      */
     boolean ordered() default false;
 
+    /**
+     * If set to a value greater than one, the messages are delivered in batches. The method must accept a {@link java.util.List}
+     * of payloads or a {@link java.util.List} of {@link io.vertx.core.eventbus.Message}s and must return {@code void}. The
+     * replies of the messages are not set automatically.
+     * <p>
+     * A batch is delivered when it contains the given number of messages or when the {@link #batchTimeout()} expires,
+     * whichever comes first. If the consumer is blocking then each batch is delivered in a single worker thread task.
+     *
+     * @return the maximum number of messages in a batch
+     */
+    int batchSize() default 0;
+
+    /**
+     * The timeout is only used if {@link #batchSize()} is greater than one, in which case it must be greater than zero, so that
+     * an incomplete batch is delivered eventually.
+     *
+     * @return the maximum time in milliseconds a batch is collected before it's delivered
+     */
+    long batchTimeout() default 100;
+
     /**
      * 
      * @return {@code null} if it should use a default MessageCodec
@@ -0,0 +1,94 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Collects the messages received by a consumer and delivers them in batches.
+ * <p>
+ * All the methods are called on the event loop context of the consumer, so the state is not guarded.
+ */
+class EventConsumerBatchHandler implements Handler<Message<Object>> {
+
+    private final Context context;
+    private final EventConsumerBatchInvoker invoker;
+    private final int batchSize;
+    private final long batchTimeout;
+
+    private List<Message<Object>> messages;
+    private long timerId;
+
+    EventConsumerBatchHandler(Context context, EventConsumerBatchInvoker invoker, ConsumeEvent consumeEvent) {
+        this.context = context;
+        this.invoker = invoker;
+        this.batchSize = consumeEvent.batchSize();
+        this.batchTimeout = consumeEvent.batchTimeout();
+        this.timerId = -1;
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (messages == null) {
+            messages = new ArrayList<>(batchSize);
+            timerId = context.owner().setTimer(batchTimeout, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    timerId = -1;
+                    flush();
+                }
+            });
+        }
+        messages.add(message);
+        if (messages.size() >= batchSize) {
+            if (timerId != -1) {
+                context.owner().cancelTimer(timerId);
+                timerId = -1;
+            }
+            flush();
+        }
+    }
+
+    private void flush() {
+        List<Message<Object>> batch = messages;
+        messages = null;
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        if (invoker.isBlocking()) {
+            context.executeBlocking(new Handler<Promise<Object>>() {
+                @Override
+                public void handle(Promise<Object> event) {
+                    invoke(batch);
+                    event.complete();
+                }
+            }, invoker.isOrdered(), null);
+        } else {
+            invoke(batch);
+        }
+    }
+
+    private void invoke(List<Message<Object>> batch) {
+        try {
+            invoker.invoke(batch);
+        } catch (Exception e) {
+            boolean replied = false;
+            for (Message<Object> message : batch) {
+                if (message.replyAddress() != null) {
+                    message.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                    replied = true;
+                }
+            }
+            if (!replied) {
+                // No reply handler
+                throw VertxRecorder.wrapIfNecessary(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Invokes a business method annotated with {@link ConsumeEvent} that consumes messages in batches.
+ */
+public abstract class EventConsumerBatchInvoker extends EventConsumerInvoker {
+
+    /**
+     * Invokes the business method with a batch of messages. The request context is active during the invocation.
+     *
+     * @param messages
+     * @throws Exception
+     */
+    public void invoke(List<Message<Object>> messages) throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            invokeBean(messages);
+        } else {
+            requestContext.activate();
+            try {
+                invokeBean(messages);
+            } finally {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    @Override
+    protected final Object invokeBean(Message<Object> message) throws Exception {
+        // A single message is delivered as a batch of one
+        invokeBean(Collections.singletonList(message));
+        return null;
+    }
+
+    protected abstract void invokeBean(List<Message<Object>> messages) throws Exception;
+
+    /**
+     *
+     * @param messages
+     * @return the list of message bodies
+     */
+    public static List<Object> bodies(List<Message<Object>> messages) {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        return bodies;
+    }
+
+}
@@ -92,6 +92,22 @@ public class VertxRecorder {
                             consumer = eventBus.consumer(address);
                         }
 
+                        if (invoker instanceof EventConsumerBatchInvoker) {
+                            consumer.handler(new EventConsumerBatchHandler(context, (EventConsumerBatchInvoker) invoker,
+                                    entry.getValue()));
+                            consumer.completionHandler(new Handler<AsyncResult<Void>>() {
+                                @Override
+                                public void handle(AsyncResult<Void> ar) {
+                                    latch.countDown();
+                                    if (ar.failed()) {
+                                        registrationFailures.add(ar.cause());
+                                    }
+                                }
+                            });
+                            messageConsumers.add(consumer);
+                            return;
+                        }
+
                         consumer.handler(new Handler<Message<Object>>() {
                             @Override
                             public void handle(Message<Object> m) {
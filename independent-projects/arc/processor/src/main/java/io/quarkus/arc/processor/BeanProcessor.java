@@ -66,6 +66,7 @@ public class BeanProcessor {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final boolean reuseInvocationContext;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
     // Note that we do create annotation literals for all annotations for an injection point that resolves to a @Dependent bean that injects the InjectionPoint metadata
@@ -82,6 +83,7 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.reuseInvocationContext = builder.reuseInvocationContext;
 
         // Initialize all build processors
         buildContext = new BuildContextImpl();
@@ -164,7 +166,7 @@ public class BeanProcessor {
                 privateMembers, generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, reflectionRegistration, existingClasses);
+                generateSources, reflectionRegistration, existingClasses, reuseInvocationContext);
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, reflectionRegistration, existingClasses, observerToGeneratedName,
                 injectionPointAnnotationsPredicate, allowMocking);
@@ -287,6 +289,7 @@ public class BeanProcessor {
         boolean generateSources;
         boolean jtaCapabilities;
         boolean transformUnproxyableClasses;
+        boolean reuseInvocationContext;
         boolean allowMocking;
 
         AlternativePriorities alternativePriorities;
@@ -317,6 +320,7 @@ public class BeanProcessor {
             generateSources = false;
             jtaCapabilities = false;
             transformUnproxyableClasses = false;
+            reuseInvocationContext = false;
             allowMocking = false;
 
             excludeTypes = new ArrayList<>();
@@ -491,6 +495,19 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set to true a single invocation context is used for all around invoke interceptors in a chain. The interceptors
+         * must not proceed after they returned, i.e. the asynchronous continuation of the chain is not supported. The methods
+         * returning an asynchronous type, such as {@code CompletionStage}, are not affected.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setReuseInvocationContext(boolean value) {
+            this.reuseInvocationContext = value;
+            return this;
+        }
+
         /**
          * If set to true the will generate source files of all generated classes for debug purposes. The generated source is
          * not actually a source file but a textual representation of generated code.
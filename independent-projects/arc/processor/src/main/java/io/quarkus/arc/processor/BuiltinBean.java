@@ -18,13 +18,18 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
 
 /**
  *
@@ -55,11 +60,26 @@ enum BuiltinBean {
             default:
                 throw new IllegalStateException("Unsupported target info: " + ctx.targetInfo);
         }
-        ResultHandle instanceProvider = ctx.constructor.newInstance(
-                MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class),
-                parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
-                ctx.constructor.load(ctx.injectionPoint.getPosition()));
+        List<String> matchingBeanIdentifiers = getMatchingBeanIdentifiers(ctx.beanDeployment, ctx.injectionPoint);
+        ResultHandle instanceProvider;
+        if (matchingBeanIdentifiers != null) {
+            // new InstanceProvider(type, qualifiers, bean, annotations, javaMember, position, new String[] { "bean1", "bean2" })
+            ResultHandle identifiersHandle = ctx.constructor.newArray(String.class, matchingBeanIdentifiers.size());
+            for (ListIterator<String> it = matchingBeanIdentifiers.listIterator(); it.hasNext();) {
+                ctx.constructor.writeArrayValue(identifiersHandle, it.nextIndex(), ctx.constructor.load(it.next()));
+            }
+            instanceProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
+                            InjectableBean.class, Set.class, Member.class, int.class, String[].class),
+                    parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
+                    ctx.constructor.load(ctx.injectionPoint.getPosition()), identifiersHandle);
+        } else {
+            instanceProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
+                            InjectableBean.class, Set.class, Member.class, int.class),
+                    parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
+                    ctx.constructor.load(ctx.injectionPoint.getPosition()));
+        }
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
@@ -278,6 +298,34 @@ enum BuiltinBean {
 
     }
 
+    /**
+     * The type-safe resolution for a programmatic lookup injection point is performed during build so that only the ambiguity
+     * needs to be resolved at runtime.
+     *
+     * @return the sorted list of identifiers of the matching beans, or {@code null} if the beans should be resolved at runtime
+     */
+    static List<String> getMatchingBeanIdentifiers(BeanDeployment beanDeployment, InjectionPointInfo injectionPoint) {
+        Type requiredType = injectionPoint.getRequiredType();
+        if ((requiredType.kind() != Kind.CLASS && requiredType.kind() != Kind.PARAMETERIZED_TYPE)
+                || Types.containsTypeVariable(requiredType)
+                || DotNames.OBJECT.equals(requiredType.name())) {
+            // Type variables are resolved at runtime and Instance<Object> matches too many beans
+            return null;
+        }
+        Set<BeanInfo> matching = beanDeployment.getBeanResolver().resolveBeans(requiredType,
+                injectionPoint.getRequiredQualifiers().toArray(new AnnotationInstance[0]));
+        if (matching.isEmpty()) {
+            // Keep the runtime resolution so that the removed beans are detected
+            return null;
+        }
+        List<String> identifiers = new ArrayList<>(matching.size());
+        for (BeanInfo bean : matching) {
+            identifiers.add(bean.getIdentifier());
+        }
+        identifiers.sort(null);
+        return identifiers;
+    }
+
     private static boolean isCdiAndRawTypeMatches(InjectionPointInfo injectionPoint, DotName... rawTypeDotNames) {
         if (injectionPoint.getKind() != InjectionPointKind.CDI) {
             return false;
@@ -182,6 +182,12 @@ public final class MethodDescriptors {
             Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
             Set.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_REUSING_CONTEXT = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performAroundInvokeReusingContext",
+            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
+            Set.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "aroundConstruct",
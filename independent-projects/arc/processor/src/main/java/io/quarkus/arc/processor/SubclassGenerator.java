@@ -62,6 +62,11 @@ public class SubclassGenerator extends AbstractGenerator {
     private static final DotName JAVA_LANG_THROWABLE = DotNames.create(Throwable.class.getName());
     private static final DotName JAVA_LANG_EXCEPTION = DotNames.create(Exception.class.getName());
     private static final DotName JAVA_LANG_RUNTIME_EXCEPTION = DotNames.create(RuntimeException.class.getName());
+    // the interceptors of methods returning these types may proceed once they returned
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotNames.create("java.util.concurrent.CompletionStage"),
+            DotNames.create("java.util.concurrent.CompletableFuture"), DotNames.create("java.util.concurrent.Future"),
+            DotNames.create("java.util.concurrent.Flow$Publisher"), DotNames.create("org.reactivestreams.Publisher"),
+            DotNames.create("io.smallrye.mutiny.Uni"), DotNames.create("io.smallrye.mutiny.Multi"));
 
     static final String SUBCLASS_SUFFIX = "_Subclass";
     static final String DESTROY_METHOD_NAME = "arc$destroy";
@@ -78,6 +83,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private final Predicate<DotName> applicationClassPredicate;
     private final ReflectionRegistration reflectionRegistration;
     private final Set<String> existingClasses;
+    private final boolean reuseInvocationContext;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         String packageName = DotNames.internalPackageNameWithTrailingSlash(providerTypeName);
@@ -88,12 +94,13 @@ public class SubclassGenerator extends AbstractGenerator {
 
     public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
-            Set<String> existingClasses) {
+            Set<String> existingClasses, boolean reuseInvocationContext) {
         super(generateSources);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.reflectionRegistration = reflectionRegistration;
         this.existingClasses = existingClasses;
+        this.reuseInvocationContext = reuseInvocationContext;
     }
 
     Collection<Resource> generate(BeanInfo bean, String beanClassName) {
@@ -767,7 +774,9 @@ public class SubclassGenerator extends AbstractGenerator {
         }
         // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+        ResultHandle ret = tryCatch.invokeStaticMethod(reuseInvocationContext && !ASYNC_TYPES.contains(method.returnType().name())
+                ? MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_REUSING_CONTEXT
+                : MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
                 tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
@@ -0,0 +1,55 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Custom options of the asynchronous event notification.
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * The key of the option that defines the {@link NotificationMode}.
+     */
+    public static final String MODE = "arc.async.notification.mode";
+
+    private ArcNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options used to notify the asynchronous observer methods in parallel
+     */
+    public static NotificationOptions withParallelMode() {
+        return NotificationOptions.of(MODE, NotificationMode.PARALLEL);
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options used to notify the asynchronous observer methods in parallel using the given executor
+     */
+    public static NotificationOptions withParallelMode(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(MODE, NotificationMode.PARALLEL).build();
+    }
+
+    public enum NotificationMode {
+
+        /**
+         * The asynchronous observer methods are notified one after another, in the order of their priorities. This is the
+         * default mode.
+         */
+        SERIAL,
+
+        /**
+         * Each asynchronous observer method is notified in a separate task submitted to the executor. The order of
+         * notifications is not guaranteed.
+         */
+        PARALLEL
+
+    }
+
+}
@@ -93,7 +93,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
-        return new ContextInstanceHandleImpl(bean, bean.create(creationalContext), creationalContext);
+        return new ContextInstanceHandleImpl(bean, BeanCreationProfiler.create(bean, creationalContext), creationalContext);
     }
 
 }
@@ -761,6 +761,24 @@ public class ArcContainerImpl implements ArcContainer {
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * The matching beans were identified during build. Only the ambiguity is resolved at runtime.
+     *
+     * @param beanIdentifiers
+     * @return the set of resolved beans, or {@code null} if any of the beans is not found
+     */
+    Set<InjectableBean<?>> getResolvedBeans(String[] beanIdentifiers) {
+        List<InjectableBean<?>> matching = new ArrayList<>(beanIdentifiers.length);
+        for (String beanIdentifier : beanIdentifiers) {
+            InjectableBean<?> bean = beansById.getValue(beanIdentifier);
+            if (bean == null) {
+                return null;
+            }
+            matching.add(bean);
+        }
+        return resolve(matching);
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
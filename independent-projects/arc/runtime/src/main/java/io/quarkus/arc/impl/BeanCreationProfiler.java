@@ -0,0 +1,154 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.InjectableBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.enterprise.context.spi.CreationalContext;
+
+/**
+ * Records the creation of contextual instances of beans that live in a shared context, i.e. {@code @ApplicationScoped} and
+ * {@code @Singleton} beans.
+ * <p>
+ * The profiler is not active by default. Once {@link #start() started}, the time needed to create an instance and the chain
+ * of beans that triggered the creation are recorded until the profiler is {@link #stop() stopped}.
+ */
+public final class BeanCreationProfiler {
+
+    private static volatile BeanCreationProfiler current;
+
+    /**
+     * Starts a new profiling session. The data of the previous session are discarded.
+     */
+    public static void start() {
+        current = new BeanCreationProfiler();
+    }
+
+    /**
+     * Stops the current profiling session.
+     *
+     * @return the creations recorded since the profiler was started, in the order they finished
+     */
+    public static List<BeanCreation> stop() {
+        BeanCreationProfiler profiler = current;
+        current = null;
+        return profiler != null ? profiler.getCreations() : Collections.emptyList();
+    }
+
+    public static boolean isStarted() {
+        return current != null;
+    }
+
+    static <T> T create(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        BeanCreationProfiler profiler = current;
+        if (profiler == null) {
+            return bean.create(creationalContext);
+        }
+        return profiler.record(bean, creationalContext);
+    }
+
+    private final List<BeanCreation> creations;
+    private final ThreadLocal<Frame> frames;
+
+    private BeanCreationProfiler() {
+        this.creations = new ArrayList<>();
+        this.frames = new ThreadLocal<>();
+    }
+
+    private <T> T record(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        Frame parent = frames.get();
+        Frame frame = new Frame(bean, parent);
+        frames.set(frame);
+        long start = System.nanoTime();
+        try {
+            T instance = bean.create(creationalContext);
+            long duration = System.nanoTime() - start;
+            synchronized (creations) {
+                creations.add(new BeanCreation(bean, parent != null ? parent.chain() : Collections.emptyList(), duration,
+                        duration - frame.nested));
+            }
+            return instance;
+        } finally {
+            if (parent != null) {
+                parent.nested += System.nanoTime() - start;
+                frames.set(parent);
+            } else {
+                frames.remove();
+            }
+        }
+    }
+
+    private List<BeanCreation> getCreations() {
+        synchronized (creations) {
+            return new ArrayList<>(creations);
+        }
+    }
+
+    public static final class BeanCreation {
+
+        private final InjectableBean<?> bean;
+        private final List<InjectableBean<?>> chain;
+        private final long duration;
+        private final long selfDuration;
+
+        BeanCreation(InjectableBean<?> bean, List<InjectableBean<?>> chain, long duration, long selfDuration) {
+            this.bean = bean;
+            this.chain = chain;
+            this.duration = duration;
+            this.selfDuration = selfDuration;
+        }
+
+        public InjectableBean<?> getBean() {
+            return bean;
+        }
+
+        /**
+         *
+         * @return the beans whose creation triggered the creation of this bean, starting with the outermost one
+         */
+        public List<InjectableBean<?>> getChain() {
+            return chain;
+        }
+
+        /**
+         *
+         * @return the time in nanoseconds, including the creation of the beans created in the meantime
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         *
+         * @return the time in nanoseconds, excluding the creation of the beans created in the meantime
+         */
+        public long getSelfDuration() {
+            return selfDuration;
+        }
+
+    }
+
+    private static final class Frame {
+
+        final InjectableBean<?> bean;
+        final Frame parent;
+        long nested;
+
+        Frame(InjectableBean<?> bean, Frame parent) {
+            this.bean = bean;
+            this.parent = parent;
+        }
+
+        List<InjectableBean<?>> chain() {
+            List<InjectableBean<?>> chain = new ArrayList<>();
+            Frame frame = this;
+            while (frame != null) {
+                chain.add(0, frame.bean);
+                frame = frame.parent;
+            }
+            return chain;
+        }
+
+    }
+
+}
@@ -3,6 +3,8 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -91,6 +93,10 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (isParallelMode(options)) {
+            return fireAsyncParallel(event, notifier, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -105,6 +111,38 @@ class EventImpl<T> implements Event<T> {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private <U extends T> CompletionStage<U> fireAsyncParallel(U event, Notifier<U> notifier, Executor executor) {
+        List<ObserverMethod<? super U>> asyncObserverMethods = notifier.asyncObserverMethods;
+        if (asyncObserverMethods.isEmpty()) {
+            return AsyncEventDeliveryStage.completed(event, executor);
+        }
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                Collections.synchronizedList(new ArrayList<>()));
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[asyncObserverMethods.size()];
+        for (int i = 0; i < notifications.length; i++) {
+            List<ObserverMethod<? super U>> observerMethod = Collections.singletonList(asyncObserverMethods.get(i));
+            notifications[i] = CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    notifier.notifyObservers(event, exceptionHandler, observerMethod, null);
+                }
+            }, executor);
+        }
+        CompletableFuture<U> completableFuture = CompletableFuture.allOf(notifications).thenApply(ignored -> {
+            handleExceptions(exceptionHandler);
+            return event;
+        });
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
+
+    private static boolean isParallelMode(NotificationOptions options) {
+        Object mode = options.get(ArcNotificationOptions.MODE);
+        if (mode == null) {
+            return false;
+        }
+        return mode == NotificationMode.PARALLEL || NotificationMode.PARALLEL.toString().equalsIgnoreCase(mode.toString());
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -216,6 +254,9 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // The observer methods are sorted by priority - the sublists preserve the order
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -228,6 +269,15 @@ class EventImpl<T> implements Event<T> {
                 boolean activateRequestContext) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            this.syncObserverMethods = new ArrayList<>();
+            this.asyncObserverMethods = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    asyncObserverMethods.add(observerMethod);
+                } else {
+                    syncObserverMethods.add(observerMethod);
+                }
+            }
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
@@ -239,10 +289,11 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            List<ObserverMethod<? super T>> notified = async ? asyncObserverMethods : syncObserverMethods;
+            if (!notified.isEmpty()) {
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
+                // Only used to filter out the tx observers
+                Predicate<ObserverMethod<? super T>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -268,41 +319,46 @@ class EventImpl<T> implements Event<T> {
                         try {
                             registry.registerInterposedSynchronization(sync);
                             // registration succeeded, notify all non-tx observers synchronously
-                            predicate = predicate.and(this::isNotTxObserver);
+                            predicate = this::isNotTxObserver;
                         } catch (Exception e) {
                             if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                                 // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                predicate = predicate.and(this::isNotAfterSuccess);
+                                predicate = this::isNotAfterSuccess;
                             }
                         }
                     }
                 }
 
                 // Non-tx observers notifications
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
-                    }
+                notifyObservers(event, exceptionHandler, notified, predicate);
+            }
+        }
+
+        void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                List<ObserverMethod<? super T>> notified, Predicate<ObserverMethod<? super T>> predicate) {
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    doNotifyObservers(event, exceptionHandler, notified, predicate);
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    try {
+                        requestContext.activate();
+                        doNotifyObservers(event, exceptionHandler, notified, predicate);
+                    } finally {
+                        requestContext.terminate();
+                    }
                 }
+            } else {
+                doNotifyObservers(event, exceptionHandler, notified, predicate);
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+        private void doNotifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                List<ObserverMethod<? super T>> notified, Predicate<ObserverMethod<? super T>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<? super T> observerMethod : notified) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable e) {
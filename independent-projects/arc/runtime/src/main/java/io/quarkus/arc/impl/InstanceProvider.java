@@ -21,26 +21,59 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    private final String[] matchingBeanIdentifiers;
+
+    private volatile Set<InjectableBean<?>> resolvedBeans;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, null);
+    }
+
+    /**
+     *
+     * @param type
+     * @param qualifiers
+     * @param targetBean
+     * @param annotations
+     * @param javaMember
+     * @param position
+     * @param matchingBeanIdentifiers the identifiers of the beans that match the required type and qualifiers, found during
+     *        build; may be {@code null}
+     */
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, String[] matchingBeanIdentifiers) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.matchingBeanIdentifiers = matchingBeanIdentifiers;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
-        InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
-                CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+        InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, InstanceImpl.getRequiredType(requiredType),
+                qualifiers, CreationalContextImpl.unwrap(creationalContext), annotations, javaMember, position,
+                getResolvedBeans());
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    private Set<InjectableBean<?>> getResolvedBeans() {
+        if (matchingBeanIdentifiers == null) {
+            return null;
+        }
+        Set<InjectableBean<?>> beans = resolvedBeans;
+        if (beans == null) {
+            // No type-safe resolution is needed - the ambiguity is resolved once and the result is reused
+            beans = ArcContainerImpl.instance().getResolvedBeans(matchingBeanIdentifiers);
+            resolvedBeans = beans;
+        }
+        return beans;
+    }
+
 }
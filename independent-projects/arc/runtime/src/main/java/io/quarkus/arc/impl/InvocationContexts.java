@@ -32,6 +32,27 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     * Unlike {@link #performAroundInvoke(Object, Method, Function, Object[], List, Set)} a single invocation context is used
+     * for all interceptors in the chain. The interceptors must not proceed asynchronously.
+     *
+     * @param target
+     * @param method
+     * @param aroundInvokeForward
+     * @param args
+     * @param chain
+     * @param interceptorBindings
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvokeReusingContext(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return ReusableAroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                interceptorBindings);
+    }
+
     /**
      *
      * @param target
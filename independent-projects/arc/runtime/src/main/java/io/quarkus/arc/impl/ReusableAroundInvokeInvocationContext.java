@@ -0,0 +1,77 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Special type of InvocationContext for AroundInvoke interceptors.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext} a single instance is used for all interceptors in the chain. The position of the
+ * next interceptor is moved forward when {@link #proceed()} is called and restored when it returns, so that an interceptor
+ * may proceed multiple times, e.g. to retry an invocation. However, an interceptor must not proceed once it returned, i.e.
+ * the "asynchronous continuation" of an interceptor chain execution is not supported. Therefore, this context is only used for
+ * methods that do not return an asynchronous type, and {@link #proceed()} fails once the chain returned.
+ */
+class ReusableAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private static final int COMPLETED = -1;
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    private int position;
+
+    ReusableAroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
+            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, method, null, parameters, null, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    static Object perform(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        ReusableAroundInvokeInvocationContext ctx = new ReusableAroundInvokeInvocationContext(target, method, parameters,
+                interceptorBindings, chain, aroundInvokeForward);
+        ctx.position = 1;
+        try {
+            return chain.get(0).invoke(ctx);
+        } finally {
+            ctx.position = COMPLETED;
+        }
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        if (current == COMPLETED) {
+            throw new IllegalStateException(
+                    "The interceptor chain of " + method + " already returned - proceed() must be called before the interceptor returns");
+        }
+        try {
+            if (current < chain.size()) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                return chain.get(current).invoke(this);
+            } else {
+                // Invoke the target method
+                return aroundInvokeForward.apply(this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            position = current;
+        }
+    }
+
+}
@@ -82,6 +82,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
+        private boolean reuseInvocationContext;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -186,6 +187,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder reuseInvocationContext(boolean value) {
+            this.reuseInvocationContext = value;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -216,6 +222,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
     private final List<Predicate<BeanInfo>> exclusions;
 
     private final AlternativePriorities alternativePriorities;
+    private final boolean reuseInvocationContext;
 
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
@@ -236,6 +243,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
+        this.reuseInvocationContext = false;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -257,6 +265,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
+        this.reuseInvocationContext = builder.reuseInvocationContext;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -402,6 +411,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 builder.addRemovalExclusion(exclusion);
             }
             builder.setAlternativePriorities(alternativePriorities);
+            builder.setReuseInvocationContext(reuseInvocationContext);
 
             BeanProcessor beanProcessor = builder.build();
 
@@ -0,0 +1,78 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.BeanCreationProfiler;
+import io.quarkus.arc.impl.BeanCreationProfiler.BeanCreation;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BeanCreationProfilerTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class);
+
+    @Test
+    public void testCreationsRecorded() {
+        BeanCreationProfiler.start();
+        try {
+            assertTrue(BeanCreationProfiler.isStarted());
+            assertEquals("bravo", Arc.container().instance(Alpha.class).get().ping());
+        } finally {
+            List<BeanCreation> creations = BeanCreationProfiler.stop();
+            assertFalse(BeanCreationProfiler.isStarted());
+            // Bravo is created first because it's injected in Alpha
+            assertEquals(2, creations.size());
+            BeanCreation bravo = creations.get(0);
+            assertEquals(Bravo.class, bravo.getBean().getBeanClass());
+            assertEquals(1, bravo.getChain().size());
+            assertEquals(Alpha.class, bravo.getChain().get(0).getBeanClass());
+            BeanCreation alpha = creations.get(1);
+            assertEquals(Alpha.class, alpha.getBean().getBeanClass());
+            assertTrue(alpha.getChain().isEmpty());
+            assertTrue(alpha.getDuration() >= bravo.getDuration());
+            assertTrue(alpha.getSelfDuration() <= alpha.getDuration() - bravo.getDuration());
+        }
+        // Not recorded once stopped
+        Arc.container().instance(Alpha.class).get().ping();
+        assertTrue(BeanCreationProfiler.stop().isEmpty());
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        @Inject
+        Bravo bravo;
+
+        String ping() {
+            return bravo.getName();
+        }
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+        private String name;
+
+        @PostConstruct
+        void init() {
+            name = "bravo";
+        }
+
+        String getName() {
+            return name;
+        }
+
+    }
+
+}
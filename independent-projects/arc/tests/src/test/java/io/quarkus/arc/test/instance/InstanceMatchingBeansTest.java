@@ -0,0 +1,117 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.AlternativePriority;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class InstanceMatchingBeansTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, Client.class, DefaultService.class,
+            FooService.class, BarService.class, AlternativeService.class);
+
+    @Test
+    public void testResolution() {
+        Client client = Arc.container().instance(Client.class).get();
+        // The default bean is not used if another bean matches
+        assertEquals("foo", client.service.get().ping());
+        assertFalse(client.service.isAmbiguous());
+        // The alternative with the highest priority wins
+        assertTrue(client.qualified.isResolvable());
+        assertEquals("alternative", client.qualified.get().ping());
+        // Narrowing the selection at runtime
+        assertEquals("bar", client.all.select(BarService.class).get().ping());
+        assertEquals("alternative", client.all.select(new AnnotationLiteral<MyQualifier>() {
+        }).get().ping());
+        List<String> all = StreamSupport.stream(client.all.spliterator(), false).map(Service::ping).sorted()
+                .collect(Collectors.toList());
+        // The ambiguity is resolved in the same way as for the runtime resolution
+        assertEquals(List.of("alternative"), all);
+        // Another client reuses the beans resolved by the provider
+        assertEquals("foo", Arc.container().instance(Client.class).get().service.get().ping());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Dependent
+    static class Client {
+
+        @Inject
+        Instance<Service> service;
+
+        @MyQualifier
+        @Inject
+        Instance<Service> qualified;
+
+        @Any
+        @Inject
+        Instance<Service> all;
+
+    }
+
+    @DefaultBean
+    @Singleton
+    static class DefaultService implements Service {
+
+        @Override
+        public String ping() {
+            return "default";
+        }
+
+    }
+
+    @Singleton
+    static class FooService implements Service {
+
+        @Override
+        public String ping() {
+            return "foo";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class BarService implements Service {
+
+        @Override
+        public String ping() {
+            return "bar";
+        }
+
+    }
+
+    @AlternativePriority(1)
+    @MyQualifier
+    @Singleton
+    static class AlternativeService implements Service {
+
+        @Override
+        public String ping() {
+            return "alternative";
+        }
+
+    }
+
+}
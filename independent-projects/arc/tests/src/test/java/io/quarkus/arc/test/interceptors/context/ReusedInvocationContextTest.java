@@ -0,0 +1,192 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ReusedInvocationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Simple.class, SimpleBean.class, AlphaInterceptor.class, RetryInterceptor.class,
+                    BravoInterceptor.class, Deferred.class, AsyncBean.class, DeferringInterceptor.class,
+                    CharlieInterceptor.class)
+            .reuseInvocationContext(true)
+            .build();
+
+    @Test
+    public void testChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:bravo:HELLO:true", bean.foo("hello"));
+        assertEquals(2, RetryInterceptor.ATTEMPTS.get());
+        // the context is shared by all interceptors in the chain
+        assertSame(BravoInterceptor.CONTEXT, AlphaInterceptor.CONTEXT);
+    }
+
+    @Test
+    public void testException() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> bean.foo("fail"));
+        assertEquals("fail", e.getMessage());
+        // subsequent invocations are not affected
+        assertEquals("alpha:bravo:OK:true", bean.foo("ok"));
+    }
+
+    @Test
+    public void testProceedAfterReturn() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:bravo:HELLO:true", bean.foo("hello"));
+        // the chain is not invoked again from its start
+        assertThrows(IllegalStateException.class, () -> AlphaInterceptor.CONTEXT.proceed());
+    }
+
+    @Test
+    public void testAsynchronousContinuation() throws InterruptedException, ExecutionException, TimeoutException {
+        AsyncBean bean = Arc.container().instance(AsyncBean.class).get();
+        // the methods returning an asynchronous type do not reuse the context
+        assertEquals("charlie:HELLO", bean.foo("hello").toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals("charlie:HI", bean.foo("hi").toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        String foo(String value) {
+            if (value.equals("fail")) {
+                throw new IllegalStateException(value);
+            }
+            if (invocations.incrementAndGet() % 2 == 1) {
+                // the first attempt always fails
+                throw new IllegalArgumentException();
+            }
+            return value.toUpperCase();
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static volatile InvocationContext CONTEXT;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXT = ctx;
+            Object ret = "alpha:" + ctx.proceed();
+            return ret + ":" + ctx.getContextData().get("bravo");
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class RetryInterceptor {
+
+        static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ATTEMPTS.set(1);
+            try {
+                return ctx.proceed();
+            } catch (IllegalArgumentException e) {
+                // proceed again - the rest of the chain is invoked once more
+                ATTEMPTS.incrementAndGet();
+                return ctx.proceed();
+            }
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static volatile InvocationContext CONTEXT;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXT = ctx;
+            ctx.getContextData().put("bravo", true);
+            return "bravo:" + ctx.proceed();
+        }
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    public @interface Deferred {
+
+    }
+
+    @Deferred
+    @Singleton
+    static class AsyncBean {
+
+        CompletionStage<String> foo(String value) {
+            return CompletableFuture.completedFuture(value.toUpperCase());
+        }
+
+    }
+
+    @Deferred
+    @Priority(1)
+    @Interceptor
+    public static class DeferringInterceptor {
+
+        @SuppressWarnings("unchecked")
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            // proceed once this interceptor returned
+            return CompletableFuture.runAsync(() -> {
+            }, CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS)).thenCompose(ignored -> {
+                try {
+                    return (CompletionStage<Object>) ctx.proceed();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+    }
+
+    @Deferred
+    @Priority(2)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @SuppressWarnings("unchecked")
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ((CompletionStage<Object>) ctx.proceed()).thenApply(value -> "charlie:" + value);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Priority;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observer.class);
+
+    @Test
+    public void testParallelNotification() throws InterruptedException, ExecutionException, TimeoutException {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        Observer.reset(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // both observers wait for each other - the notification would time out if they were notified one after another
+            assertEquals("ping",
+                    producer.event.fireAsync(new Ping("ping"), ArcNotificationOptions.withParallelMode(executor))
+                            .toCompletableFuture().get(10, TimeUnit.SECONDS).value);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, Observer.EVENTS.size());
+        assertTrue(Observer.EVENTS.containsAll(Set.of("async1::ping", "async2::ping")));
+        // sync observers are not notified
+        assertEquals(0, observer.syncNotifications);
+    }
+
+    @Test
+    public void testParallelNotificationFailure() throws InterruptedException, TimeoutException {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer.reset(0);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> producer.event.fireAsync(new Ping("fail"), NotificationOptions.of(ArcNotificationOptions.MODE, "parallel"))
+                        .toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CompletionException);
+        // all observers are notified, the exceptions are collected
+        assertEquals(2, e.getCause().getSuppressed().length);
+        assertEquals(2, Observer.EVENTS.size());
+    }
+
+    static class Ping {
+
+        final String value;
+
+        Ping(String value) {
+            this.value = value;
+        }
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+        static volatile CountDownLatch LATCH;
+
+        int syncNotifications;
+
+        static void reset(int parties) {
+            EVENTS.clear();
+            LATCH = new CountDownLatch(parties);
+        }
+
+        void observe(@Observes Ping ping) {
+            syncNotifications++;
+        }
+
+        void observeAsync1(@ObservesAsync @Priority(1) Ping ping) throws InterruptedException {
+            notify("async1", ping);
+        }
+
+        void observeAsync2(@ObservesAsync @Priority(2) Ping ping) throws InterruptedException {
+            notify("async2", ping);
+        }
+
+        private void notify(String id, Ping ping) throws InterruptedException {
+            EVENTS.add(id + "::" + ping.value);
+            if (ping.value.equals("fail")) {
+                throw new IllegalStateException(id);
+            }
+            LATCH.countDown();
+            if (!LATCH.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Not notified in parallel");
+            }
+        }
+
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+}
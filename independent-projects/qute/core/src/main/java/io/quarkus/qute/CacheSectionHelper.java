@@ -0,0 +1,239 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
+import io.quarkus.qute.TemplateNode.Origin;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Caches the rendered output of the main block.
+ * <p>
+ * The cache key consists of the location of the section and the value of the optional {@code key} parameter. The
+ * optional {@code ttl} parameter defines how long a cached result can be used, e.g. {@code 10s}, {@code 5m} or
+ * {@code PT1H}.
+ *
+ * <pre>
+ * {#cache key=product.id ttl=10m}
+ *   {product.name}
+ * {/cache}
+ * </pre>
+ */
+public class CacheSectionHelper implements SectionHelper {
+
+    private static final String CACHE = "cache";
+    private static final String KEY = "key";
+    private static final String TTL = "ttl";
+
+    private final Cache cache;
+    private final String sectionKey;
+    private final Expression key;
+    private final long ttl;
+
+    CacheSectionHelper(SectionInitContext context, Cache cache) {
+        this.cache = cache;
+        Origin origin = context.getBlocks().get(0).origin;
+        this.sectionKey = origin.getTemplateGeneratedId() + ":" + origin.getLine() + ":" + origin.getLineCharacterStart();
+        this.key = context.hasParameter(KEY) ? context.getExpression(KEY) : null;
+        this.ttl = context.hasParameter(TTL) ? parseDuration(context.getParameter(TTL)).toMillis() : 0;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        if (key == null) {
+            return getValue(sectionKey, context);
+        }
+        return context.resolutionContext().evaluate(key)
+                .thenCompose(k -> getValue(sectionKey + ":" + k, context));
+    }
+
+    private CompletionStage<ResultNode> getValue(String cacheKey, SectionResolutionContext context) {
+        return cache.getValue(cacheKey, k -> context.execute().thenApply(this::toCachedResult)).thenCompose(r -> {
+            if (r instanceof CachedResult && ((CachedResult) r).isExpired()) {
+                cache.invalidate(cacheKey);
+                return cache.getValue(cacheKey, k -> context.execute().thenApply(this::toCachedResult));
+            }
+            return CompletedStage.of(r);
+        });
+    }
+
+    private ResultNode toCachedResult(ResultNode node) {
+        StringBuilder builder = new StringBuilder();
+        node.process(builder::append);
+        return new CachedResult(builder.toString(), ttl > 0 ? System.currentTimeMillis() + ttl : 0);
+    }
+
+    static Duration parseDuration(String value) {
+        value = value.trim();
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        char unit = value.charAt(value.length() - 1);
+        if (Character.isDigit(unit)) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (unit) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            case 'h':
+                return Duration.ofHours(amount);
+            case 'd':
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Invalid duration: " + value);
+        }
+    }
+
+    /**
+     * Stores the rendered output of the sections.
+     * <p>
+     * An implementation must not cache a failed result.
+     */
+    public interface Cache {
+
+        /**
+         *
+         * @param key
+         * @param loader
+         * @return the cached result, or the result of the loader if no result is cached for the given key
+         */
+        CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader);
+
+        /**
+         *
+         * @param key
+         */
+        void invalidate(String key);
+
+    }
+
+    /**
+     * A simple in-memory cache that keeps the most recently used results.
+     */
+    public static class DefaultCache implements Cache {
+
+        public static final int DEFAULT_MAX_SIZE = 1000;
+
+        private final Map<String, CompletionStage<ResultNode>> results;
+
+        public DefaultCache() {
+            this(DEFAULT_MAX_SIZE);
+        }
+
+        public DefaultCache(int maxSize) {
+            this.results = new LinkedHashMap<String, CompletionStage<ResultNode>>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletionStage<ResultNode>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+            CompletionStage<ResultNode> result;
+            synchronized (results) {
+                result = results.get(key);
+            }
+            if (result != null) {
+                return result;
+            }
+            // The block is rendered outside the lock - concurrent renderings of the same section are not prevented
+            return loader.apply(key).thenApply(r -> {
+                synchronized (results) {
+                    results.put(key, CompletedStage.of(r));
+                }
+                return r;
+            });
+        }
+
+        @Override
+        public void invalidate(String key) {
+            synchronized (results) {
+                results.remove(key);
+            }
+        }
+
+    }
+
+    static final class CachedResult implements ResultNode {
+
+        private final String value;
+        private final long expiration;
+
+        CachedResult(String value, long expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+
+        boolean isExpired() {
+            return expiration > 0 && System.currentTimeMillis() > expiration;
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            resultConsumer.accept(value);
+        }
+
+    }
+
+    public static class Factory implements SectionHelperFactory<CacheSectionHelper> {
+
+        private final Cache cache;
+
+        public Factory() {
+            this(new DefaultCache());
+        }
+
+        public Factory(Cache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of(CACHE);
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder().addParameter(new Parameter(KEY, null, true))
+                    .addParameter(new Parameter(TTL, null, true)).build();
+        }
+
+        @Override
+        public CacheSectionHelper initialize(SectionInitContext context) {
+            return new CacheSectionHelper(context, cache);
+        }
+
+        @Override
+        public Scope initializeBlock(Scope previousScope, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME)) {
+                String key = block.getParameters().get(KEY);
+                if (key != null) {
+                    block.addExpression(KEY, key);
+                }
+                String ttl = block.getParameters().get(TTL);
+                if (ttl != null) {
+                    // Fail fast if the value is not valid
+                    parseDuration(ttl);
+                }
+            }
+            return previousScope;
+        }
+
+    }
+
+}
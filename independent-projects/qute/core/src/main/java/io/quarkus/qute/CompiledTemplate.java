@@ -0,0 +1,84 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * A template compiled into a dedicated class, e.g. a type-safe template compiled during the build.
+ * <p>
+ * A compiled template renders the output synchronously and does not use the section helpers and value resolvers. If it
+ * cannot render the given data, e.g. because a part of an expression resolves to {@code null}, the template is rendered
+ * as usual.
+ * <p>
+ * A compiled template is only used for a template with the same id and the same {@link #signature(List) signature}.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the signature of the template this class was compiled from
+     * @see #signature(List)
+     */
+    String getSignature();
+
+    /**
+     *
+     * @param data
+     * @param engine
+     * @param expressions The expressions of the template, in the order of {@link Template#getExpressions()}
+     * @return the output or {@code null} if the data cannot be rendered by this class
+     */
+    String render(Object data, Engine engine, List<Expression> expressions);
+
+    /**
+     * The signature is derived from the text, the expressions and the sections of a parsed template.
+     *
+     * @param nodes
+     * @return the signature of the given template nodes
+     * @see Template#getNodes()
+     */
+    static String signature(List<TemplateNode> nodes) {
+        StringBuilder builder = new StringBuilder();
+        appendNodes(builder, nodes);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendNodes(StringBuilder builder, List<TemplateNode> nodes) {
+        for (TemplateNode node : nodes) {
+            if (node instanceof TextNode) {
+                String value = ((TextNode) node).getValue();
+                builder.append('t').append(value.length()).append(':').append(value);
+            } else if (node instanceof ExpressionNode) {
+                String value = ((ExpressionNode) node).getExpression().toOriginalString();
+                builder.append('e').append(value.length()).append(':').append(value);
+            } else if (node instanceof SectionNode) {
+                SectionNode section = (SectionNode) node;
+                builder.append('s').append(section.getName()).append('(');
+                for (SectionBlock block : section.getBlocks()) {
+                    builder.append('b').append(block.label).append('(');
+                    for (Entry<String, String> param : block.parameters.entrySet()) {
+                        builder.append('p').append(param.getKey().length()).append(':').append(param.getKey())
+                                .append(param.getValue().length()).append(':').append(param.getValue());
+                    }
+                    builder.append(')');
+                    appendNodes(builder, block.getNodes());
+                }
+                builder.append(')');
+            } else {
+                builder.append('n').append(node.getClass().getName());
+            }
+        }
+    }
+
+}
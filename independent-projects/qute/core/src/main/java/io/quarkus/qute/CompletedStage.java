@@ -46,6 +46,10 @@ public final class CompletedStage<T> implements CompletionStage<T>, Supplier<T>
         return result;
     }
 
+    boolean isFailure() {
+        return exception != null;
+    }
+
     @Override
     public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
         Objects.requireNonNull(fn);
@@ -20,6 +20,7 @@ public final class EngineBuilder {
     final List<ResultMapper> resultMappers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, CompiledTemplate> compiledTemplates;
     boolean removeStandaloneLines;
     boolean strictRendering;
 
@@ -30,6 +31,7 @@ public final class EngineBuilder {
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.strictRendering = true;
     }
 
@@ -134,6 +136,20 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id, unless the signature of the parsed template
+     * does not match.
+     * 
+     * @param id
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String id, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(id, compiledTemplate);
+        return this;
+    }
+
     public EngineBuilder computeSectionHelper(Function<String, SectionHelperFactory<?>> func) {
         this.sectionHelperFunc = func;
         return this;
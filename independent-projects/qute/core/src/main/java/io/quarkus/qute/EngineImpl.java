@@ -33,6 +33,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
 
     EngineImpl(EngineBuilder builder) {
@@ -46,6 +47,7 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        this.compiledTemplates = Collections.unmodifiableMap(new HashMap<>(builder.compiledTemplates));
         this.removeStandaloneLines = builder.removeStandaloneLines;
     }
 
@@ -126,6 +128,26 @@ class EngineImpl implements Engine {
         templates.keySet().removeIf(test);
     }
 
+    /**
+     * 
+     * @param id
+     * @param nodes
+     * @return the compiled template for the given id if the signature matches, {@code null} otherwise
+     */
+    CompiledTemplate getCompiledTemplate(String id, List<TemplateNode> nodes) {
+        CompiledTemplate compiledTemplate = compiledTemplates.get(id);
+        if (compiledTemplate == null) {
+            return null;
+        }
+        if (!compiledTemplate.getSignature().equals(CompiledTemplate.signature(nodes))) {
+            // E.g. the template was modified or parsed with a different configuration
+            LOGGER.debugf("Compiled template %s ignored for %s: the signature does not match",
+                    compiledTemplate.getClass().getName(), id);
+            return null;
+        }
+        return compiledTemplate;
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
@@ -103,20 +103,32 @@ class EvaluatorImpl implements Evaluator {
         });
     }
 
+    @SuppressWarnings("unchecked")
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext, final Expression expression) {
         Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, null, true, expression, true);
-        } else {
+        while (parts.hasNext()) {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression));
+            CompletionStage<Object> result = resolve(new EvalContextImpl(tryParent, ref, part, resolutionContext), null,
+                    true, expression, false);
+            if (result instanceof CompletedStage) {
+                // Continue with the next part in the loop and avoid the continuation if the result is available
+                CompletedStage<Object> completed = (CompletedStage<Object>) result;
+                if (completed.isFailure()) {
+                    return completed;
+                }
+                ref = completed.get();
+            } else {
+                return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression));
+            }
+            tryParent = false;
+            part = parts.next();
         }
+        // The last part - no need to compose
+        return resolve(new EvalContextImpl(tryParent, ref, part, resolutionContext), null, true, expression, true);
     }
 
+    @SuppressWarnings("unchecked")
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
             boolean tryCachedResolver, final Expression expression, boolean isLastPart) {
 
@@ -124,7 +136,16 @@ class EvaluatorImpl implements Evaluator {
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (result instanceof CompletedStage && !((CompletedStage<Object>) result).isFailure()) {
+                    // Very often the cached resolver returns a completed stage
+                    Object r = ((CompletedStage<Object>) result).get();
+                    if (Results.isNotFound(r)) {
+                        return resolve(evalContext, null, false, expression, isLastPart);
+                    }
+                    return r instanceof CompletionStage || r instanceof Uni ? toCompletionStage(r) : result;
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart);
                     } else {
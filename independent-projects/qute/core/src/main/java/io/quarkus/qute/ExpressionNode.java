@@ -8,7 +8,7 @@ import java.util.function.Function;
 /**
  * This node holds a single expression such as {@code foo.bar}.
  */
-class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
+public class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
 
     final ExpressionImpl expression;
     private final Engine engine;
@@ -49,6 +49,10 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
         return engine;
     }
 
+    public Expression getExpression() {
+        return expression;
+    }
+
     public List<Expression> getExpressions() {
         return Collections.singletonList(expression);
     }
@@ -21,4 +21,8 @@ public class MultiResultNode implements ResultNode {
         }
     }
 
+    Supplier<ResultNode>[] getResults() {
+        return results;
+    }
+
 }
@@ -159,12 +159,12 @@ class Parser implements Function<String, Expression>, ParserHelper {
             if (!root.helperName.equals(ROOT_HELPER_NAME)) {
                 throw parserError("unterminated section [" + root.helperName + "] detected");
             }
-            TemplateImpl template = new TemplateImpl(engine, root.build(), generatedId, variant);
+            SectionNode rootNode = root.build();
 
             Set<TemplateNode> nodesToRemove;
             if (engine.removeStandaloneLines) {
                 nodesToRemove = new HashSet<>();
-                List<List<TemplateNode>> lines = readLines(template.root);
+                List<List<TemplateNode>> lines = readLines(rootNode);
                 for (List<TemplateNode> line : lines) {
                     if (isStandalone(line)) {
                         for (TemplateNode node : line) {
@@ -178,7 +178,9 @@ class Parser implements Function<String, Expression>, ParserHelper {
             } else {
                 nodesToRemove = Collections.emptySet();
             }
-            template.root.optimizeNodes(nodesToRemove);
+            rootNode.optimizeNodes(nodesToRemove);
+            TemplateImpl template = new TemplateImpl(engine, rootNode, generatedId, variant,
+                    engine.getCompiledTemplate(templateId, rootNode.blocks.get(0).nodes));
 
             LOGGER.tracef("Parsing finished in %s ms", System.currentTimeMillis() - start);
             return template;
@@ -53,6 +53,14 @@ public final class SectionBlock {
         return nodes.isEmpty();
     }
 
+    /**
+     * 
+     * @return the section content
+     */
+    public List<TemplateNode> getNodes() {
+        return nodes;
+    }
+
     List<Expression> getExpressions() {
         List<Expression> expressions = new ArrayList<>();
         expressions.addAll(this.expressions.values());
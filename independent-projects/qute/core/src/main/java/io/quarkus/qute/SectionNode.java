@@ -10,7 +10,7 @@ import java.util.function.Function;
 /**
  * Section node.
  */
-class SectionNode implements TemplateNode {
+public class SectionNode implements TemplateNode {
 
     static Builder builder(String helperName, Origin origin, Function<String, Expression> expressionFun,
             Function<String, TemplateException> errorFun) {
@@ -38,6 +38,26 @@ class SectionNode implements TemplateNode {
         return origin;
     }
 
+    /**
+     * 
+     * @return the name of the section, e.g. {@code for}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * @return the blocks of the section, the main block is always first
+     */
+    public List<SectionBlock> getBlocks() {
+        return blocks;
+    }
+
+    public SectionHelper getHelper() {
+        return helper;
+    }
+
     void optimizeNodes(Set<TemplateNode> nodes) {
         for (SectionBlock block : blocks) {
             block.optimizeNodes(nodes);
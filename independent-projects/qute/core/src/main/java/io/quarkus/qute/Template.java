@@ -119,6 +119,14 @@ public interface Template {
      */
     List<Expression> getExpressions();
 
+    /**
+     *
+     * @return an immutable list of the top-level nodes of the template
+     */
+    default List<TemplateNode> getNodes() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * The id is unique for the engine instance.
      * 
@@ -2,7 +2,13 @@ package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -10,6 +16,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class TemplateImpl implements Template {
 
@@ -17,12 +24,18 @@ class TemplateImpl implements Template {
     private final EngineImpl engine;
     private final Optional<Variant> variant;
     final SectionNode root;
+    private final CompiledTemplate compiledTemplate;
+    private final List<Expression> expressions;
 
-    TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant) {
+    TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant,
+            CompiledTemplate compiledTemplate) {
         this.engine = engine;
         this.root = root;
         this.generatedId = generatedId;
         this.variant = variant;
+        this.compiledTemplate = compiledTemplate;
+        // The compiled template needs the expressions for each rendering
+        this.expressions = compiledTemplate != null ? ImmutableList.copyOf(root.getExpressions()) : null;
     }
 
     @Override
@@ -35,6 +48,11 @@ class TemplateImpl implements Template {
         return root.getExpressions();
     }
 
+    @Override
+    public List<TemplateNode> getNodes() {
+        return root.blocks.get(0).nodes;
+    }
+
     @Override
     public String getGeneratedId() {
         return generatedId;
@@ -69,14 +87,20 @@ class TemplateImpl implements Template {
 
         @Override
         public Multi<String> createMulti() {
-            return Multi.createFrom().emitter(emitter -> consume(emitter::emit)
-                    .whenComplete((r, f) -> {
-                        if (f == null) {
-                            emitter.complete();
-                        } else {
-                            emitter.fail(f);
-                        }
-                    }));
+            return Multi.createFrom().deferred(() -> {
+                // The top-level nodes are resolved concurrently but the output of a node is emitted as soon as the node
+                // and all the preceding nodes are resolved
+                ResolutionContext rootContext = createRootContext(data());
+                List<TemplateNode> nodes = root.blocks.get(0).nodes;
+                List<Multi<String>> results = new ArrayList<>(nodes.size());
+                for (TemplateNode node : nodes) {
+                    CompletionStage<ResultNode> result = node.resolve(rootContext);
+                    // The output is only built when requested by the subscriber
+                    results.add(Uni.createFrom().completionStage(result)
+                            .onItem().transformToMulti(r -> Multi.createFrom().iterable(() -> new ResultIterator(r))));
+                }
+                return Multi.createBy().concatenating().streams(results);
+            });
         }
 
         @Override
@@ -96,12 +120,20 @@ class TemplateImpl implements Template {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiledTemplate != null) {
+                // The compiled template returns null if the data must be rendered as usual
+                try {
+                    String output = compiledTemplate.render(data, engine, expressions);
+                    if (output != null) {
+                        consumer.accept(output);
+                        return CompletedStage.VOID;
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
             CompletableFuture<Void> result = new CompletableFuture<>();
-            ResolutionContext rootContext = new ResolutionContextImpl(data,
-                    engine.getEvaluator(), null, this);
-            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
-            // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolve(data).whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -117,6 +149,65 @@ class TemplateImpl implements Template {
             return result;
         }
 
+        private CompletionStage<ResultNode> resolve(Object data) {
+            // Async resolution
+            return root.resolve(createRootContext(data));
+        }
+
+        private ResolutionContext createRootContext(Object data) {
+            ResolutionContext rootContext = new ResolutionContextImpl(data,
+                    engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            return rootContext;
+        }
+
+    }
+
+    /**
+     * Walks the result tree on demand, i.e. a part of the output is only built when it is requested.
+     */
+    static class ResultIterator implements Iterator<String> {
+
+        private final Deque<Iterator<Supplier<ResultNode>>> nodes = new ArrayDeque<>();
+        private final Deque<String> parts = new ArrayDeque<>();
+
+        ResultIterator(ResultNode root) {
+            push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (parts.isEmpty()) {
+                Iterator<Supplier<ResultNode>> current = nodes.peek();
+                if (current == null) {
+                    return false;
+                }
+                if (current.hasNext()) {
+                    push(current.next().get());
+                } else {
+                    nodes.pop();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return parts.poll();
+        }
+
+        private void push(ResultNode node) {
+            if (node instanceof MultiResultNode) {
+                nodes.push(Arrays.asList(((MultiResultNode) node).getResults()).iterator());
+            } else {
+                // Leaf nodes only produce a few parts
+                node.process(parts::add);
+            }
+        }
+
     }
 
     static class DataNamespaceResolver implements NamespaceResolver {
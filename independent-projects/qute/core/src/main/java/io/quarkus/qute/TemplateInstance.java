@@ -79,7 +79,10 @@ public interface TemplateInstance {
      * Create a new {@link Multi} that can be used to consume chunks of the rendered template. In particular, each item
      * represents a part of the rendered template.
      * <p>
-     * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template.
+     * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template. The
+     * output of a top-level node of the template is emitted as soon as the node and all the preceding nodes are resolved,
+     * i.e. a section is only emitted once it is fully resolved. The parts of the output are only built when requested by
+     * the subscriber.
      * 
      * @return a new Multi
      * @see Multi#subscribe()
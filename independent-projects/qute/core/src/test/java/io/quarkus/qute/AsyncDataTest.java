@@ -21,6 +21,16 @@ public class AsyncDataTest {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testAsyncPartsInTheMiddle() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                .applyToName("tokens").resolveSync(ec -> ((Client) ec.getBase()).getTokens()).build()).build();
+        // the parts resolved synchronously and the parts resolved asynchronously are mixed
+        assertEquals("3", engine.parse("{client.tokens.size}").data("client", new Client()).render());
+        assertEquals("3", engine.parse("{client.tokens.size}").data("client", CompletedStage.of(new Client())).render());
+        assertEquals("false", engine.parse("{client.tokens.isEmpty}").data("client", new Client()).render());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -0,0 +1,95 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CacheSectionTest {
+
+    @Test
+    public void testCachedBlock() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(AtomicInteger.class).resolveSync(ec -> {
+                    AtomicInteger base = (AtomicInteger) ec.getBase();
+                    return ec.getName().equals("get") ? base.get() : base.incrementAndGet();
+                }).build())
+                .build();
+        Template template = engine.parse("{#cache}{counter.incrementAndGet}{/cache}:{counter.get}");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1:1", template.data("counter", counter).render());
+        // the block is not rendered again
+        assertEquals("1:1", template.data("counter", counter).render());
+    }
+
+    @Test
+    public void testKey() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class)
+                        .resolveSync(ec -> ec.getName().equals("id") ? ((Item) ec.getBase()).id : ((Item) ec.getBase()).name)
+                        .build())
+                .build();
+        Template template = engine.parse("{#cache key=item.id}{item.name}{/cache}");
+        assertEquals("foo", template.data("item", new Item(1, "foo")).render());
+        assertEquals("foo", template.data("item", new Item(1, "bar")).render());
+        assertEquals("baz", template.data("item", new Item(2, "baz")).render());
+        // a different section never shares the cached results
+        assertEquals("bar", engine.parse("{#cache item.id}{item.name}{/cache}").data("item", new Item(1, "bar")).render());
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Template template = engine.parse("{#cache ttl=50ms}{val}{/cache}");
+        assertEquals("1", template.data("val", 1).render());
+        assertEquals("1", template.data("val", 2).render());
+        Thread.sleep(100);
+        assertEquals("3", template.data("val", 3).render());
+    }
+
+    @Test
+    public void testCustomCache() {
+        AtomicInteger invalidations = new AtomicInteger();
+        CacheSectionHelper.DefaultCache cache = new CacheSectionHelper.DefaultCache(1) {
+            @Override
+            public void invalidate(String key) {
+                invalidations.incrementAndGet();
+                super.invalidate(key);
+            }
+        };
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory(cache)).build();
+        Template template = engine.parse("{#cache key=id ttl=PT1H}{val}{/cache}");
+        assertEquals("a", template.data("id", 1).data("val", "a").render());
+        assertEquals("a", template.data("id", 1).data("val", "b").render());
+        // the max size is 1 - the first result is evicted
+        assertEquals("c", template.data("id", 2).data("val", "c").render());
+        assertEquals("d", template.data("id", 1).data("val", "d").render());
+        assertEquals(0, invalidations.get());
+    }
+
+    @Test
+    public void testParseDuration() {
+        assertEquals(Duration.ofSeconds(10), CacheSectionHelper.parseDuration("10"));
+        assertEquals(Duration.ofSeconds(10), CacheSectionHelper.parseDuration("10s"));
+        assertEquals(Duration.ofMillis(10), CacheSectionHelper.parseDuration("10ms"));
+        assertEquals(Duration.ofMinutes(2), CacheSectionHelper.parseDuration("2m"));
+        assertEquals(Duration.ofHours(1), CacheSectionHelper.parseDuration("PT1H"));
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        assertThrows(IllegalArgumentException.class, () -> engine.parse("{#cache ttl=10x}{val}{/cache}"));
+    }
+
+    static class Item {
+
+        final Integer id;
+        final String name;
+
+        Item(Integer id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+    }
+
+}
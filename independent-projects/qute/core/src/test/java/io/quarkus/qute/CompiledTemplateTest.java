@@ -0,0 +1,71 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    static final String CONTENT = "Hello {name}!";
+
+    @Test
+    public void testCompiledTemplate() {
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledTemplate("hello", new HelloTemplate(signature(CONTENT))).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+        assertEquals("Hello compiled Foo!", hello.data("name", "Foo").render());
+        // the compiled template cannot render the data
+        assertEquals("Hello Bar!", hello.data("name", "Bar").render());
+        // a template with a different id is not compiled
+        assertEquals("Hello Foo!", engine.parse(CONTENT, null, "hi").data("name", "Foo").render());
+    }
+
+    @Test
+    public void testSignatureMismatch() {
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledTemplate("hello", new HelloTemplate(signature(CONTENT))).build();
+        assertEquals("Hello Foo?", engine.parse("Hello {name}?", null, "hello").data("name", "Foo").render());
+    }
+
+    @Test
+    public void testFailure() {
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledTemplate("hello", new HelloTemplate(signature(CONTENT))).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+        assertEquals("Baz!", assertThrows(IllegalStateException.class, () -> hello.data("name", "Baz").render()).getMessage());
+    }
+
+    static String signature(String content) {
+        return CompiledTemplate.signature(Engine.builder().addDefaults().build().parse(content).getNodes());
+    }
+
+    static class HelloTemplate implements CompiledTemplate {
+
+        private final String signature;
+
+        HelloTemplate(String signature) {
+            this.signature = signature;
+        }
+
+        @Override
+        public String getSignature() {
+            return signature;
+        }
+
+        @Override
+        public String render(Object data, Engine engine, List<Expression> expressions) {
+            Object name = ((Map<?, ?>) data).get("name");
+            if (name.equals("Bar")) {
+                return null;
+            } else if (name.equals("Baz")) {
+                throw new IllegalStateException("Baz!");
+            }
+            return "Hello compiled " + name + "!";
+        }
+
+    }
+
+}
@@ -1,17 +1,21 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class MutinyTest {
@@ -28,6 +32,52 @@ public class MutinyTest {
         assertMulti(multi.select().first(), "foo");
     }
 
+    @Test
+    public void testCreateMultiDemand() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#each}{it}{/}");
+        AtomicInteger rendered = new AtomicInteger();
+        List<Object> data = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String value = "item" + i;
+            data.add(new Object() {
+                @Override
+                public String toString() {
+                    rendered.incrementAndGet();
+                    return value;
+                }
+            });
+        }
+        AssertSubscriber<String> subscriber = template.data(data).createMulti()
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems("item0");
+        // the next parts are not built until requested, except for the look-ahead needed to detect the end
+        assertTrue(rendered.get() < data.size(), "Built parts: " + rendered.get());
+        subscriber.request(2).assertItems("item0", "item1", "item2").assertCompleted();
+        assertEquals(3, rendered.get());
+    }
+
+    @Test
+    public void testCreateMultiEmitsResolvedNodes() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#each items}{it}{/each} and {last}");
+        CompletableFuture<String> last = new CompletableFuture<>();
+        AssertSubscriber<String> subscriber = template.data("items", Arrays.asList("foo", "bar"), "last", last)
+                .createMulti()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        // the output of the resolved nodes is emitted before the last node is resolved
+        subscriber.assertItems("foo", "bar", " and ").assertNotTerminated();
+        last.complete("baz");
+        subscriber.assertItems("foo", "bar", " and ", "baz").assertCompleted();
+
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        subscriber = template.data("items", Arrays.asList("foo", "bar"), "last", failing)
+                .createMulti()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        failing.completeExceptionally(new IllegalStateException("foo"));
+        subscriber.assertItems("foo", "bar", " and ").assertFailedWith(IllegalStateException.class, "foo");
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
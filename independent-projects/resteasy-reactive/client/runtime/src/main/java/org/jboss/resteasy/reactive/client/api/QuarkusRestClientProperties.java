@@ -12,4 +12,12 @@ public class QuarkusRestClientProperties {
      * See {@link io.netty.handler.codec.http.multipart.HttpPostRequestEncoder.EncoderMode}, RFC1738 by default
      */
     public static final String MULTIPART_ENCODER_MODE = "io.quarkus.rest.client.multipart-post-encoder-mode";
+
+    /**
+     * Names of the request headers that, together with the HTTP method and the URI, identify concurrent requests that
+     * can share a single outbound call. The value is a {@code String[]}, the {@code Authorization}, {@code Cookie} and
+     * {@code Accept} headers are always taken into account.
+     * Only honored for requests without an entity whose response body is fully read.
+     */
+    public static final String SINGLE_FLIGHT_HEADERS = "io.quarkus.rest.client.single-flight-headers";
 }
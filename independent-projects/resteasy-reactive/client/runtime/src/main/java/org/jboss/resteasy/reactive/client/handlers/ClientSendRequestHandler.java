@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.client.handlers;
 
 import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
@@ -20,6 +21,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.HttpHeaders;
@@ -32,7 +35,18 @@ import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
 import org.jboss.resteasy.reactive.common.core.Serialisers;
 
 public class ClientSendRequestHandler implements ClientRestHandler {
+    /**
+     * Headers that carry the identity of the caller or select the representation of the response, they are always
+     * part of the single-flight key so that callers never get a response meant for another caller
+     */
+    private static final String[] SINGLE_FLIGHT_KEY_HEADERS = { HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE,
+            HttpHeaders.ACCEPT };
+
     private final boolean followRedirects;
+    /**
+     * Single-flight requests currently on the wire, keyed by {@link #singleFlightKey(RestClientRequestContext)}
+     */
+    private final ConcurrentMap<String, Future<SharedResponse>> inFlight = new ConcurrentHashMap<>();
 
     public ClientSendRequestHandler(boolean followRedirects) {
         this.followRedirects = followRedirects;
@@ -44,6 +58,11 @@ public class ClientSendRequestHandler implements ClientRestHandler {
             return;
         }
         requestContext.suspend();
+        String singleFlightKey = singleFlightKey(requestContext);
+        if (singleFlightKey != null) {
+            handleSingleFlight(requestContext, singleFlightKey);
+            return;
+        }
         Future<HttpClientRequest> future = createRequest(requestContext);
         // DNS failures happen before we send the request
         future.onFailure(new Handler<Throwable>() {
@@ -154,6 +173,112 @@ public class ClientSendRequestHandler implements ClientRestHandler {
         });
     }
 
+    /**
+     * Computes the key identifying identical requests, or returns {@code null} if the request
+     * is not eligible for single-flight execution
+     */
+    private String singleFlightKey(RestClientRequestContext state) {
+        Object headerNames = state.getClientFilterProperties().get(QuarkusRestClientProperties.SINGLE_FLIGHT_HEADERS);
+        if (!(headerNames instanceof String[])
+                || !HttpMethod.GET.name().equals(state.getHttpMethod())
+                || state.getEntity() != null
+                || !state.isRegisterBodyHandler()) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(state.getUri().toString());
+        MultivaluedMap<String, String> headerMap = state.getRequestHeaders().asMap();
+        for (String headerName : SINGLE_FLIGHT_KEY_HEADERS) {
+            appendHeader(key, headerMap, headerName);
+        }
+        for (String headerName : (String[]) headerNames) {
+            appendHeader(key, headerMap, headerName);
+        }
+        return key.toString();
+    }
+
+    private static void appendHeader(StringBuilder key, MultivaluedMap<String, String> headerMap, String headerName) {
+        key.append('\n').append(headerName).append(':');
+        List<String> values = headerMap.get(headerName);
+        if (values != null) {
+            key.append(values);
+        }
+    }
+
+    /**
+     * Joins the in-flight request with the same key if there is one, otherwise sends the request and lets
+     * later identical requests share its response until it completes.
+     */
+    private void handleSingleFlight(RestClientRequestContext requestContext, String key) {
+        Promise<SharedResponse> promise = Promise.promise();
+        Future<SharedResponse> shared = inFlight.putIfAbsent(key, promise.future());
+        if (shared == null) {
+            shared = promise.future();
+            sendShared(requestContext, key, promise);
+        }
+        shared.onComplete(new Handler<AsyncResult<SharedResponse>>() {
+            @Override
+            public void handle(AsyncResult<SharedResponse> result) {
+                if (result.failed()) {
+                    Throwable failure = result.cause();
+                    if (failure instanceof IOException) {
+                        requestContext.resume(new ProcessingException(failure));
+                    } else {
+                        requestContext.resume(failure);
+                    }
+                    return;
+                }
+                try {
+                    SharedResponse response = result.result();
+                    requestContext.initialiseResponse(response.response);
+                    if (response.body.length() > 0) {
+                        // every caller reads its own copy of the body so that the shared buffer is never modified
+                        requestContext.setResponseEntityStream(new ByteArrayInputStream(response.body.getBytes()));
+                    } else {
+                        requestContext.setResponseEntityStream(null);
+                    }
+                    requestContext.resume();
+                } catch (Throwable t) {
+                    requestContext.resume(t);
+                }
+            }
+        });
+    }
+
+    private void sendShared(RestClientRequestContext requestContext, String key, Promise<SharedResponse> promise) {
+        // the entry is removed before completion so that requests arriving afterwards go to the wire again
+        Handler<Throwable> failureHandler = new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable failure) {
+                inFlight.remove(key, promise.future());
+                promise.tryFail(failure);
+            }
+        };
+        createRequest(requestContext).onFailure(failureHandler).onSuccess(new Handler<HttpClientRequest>() {
+            @Override
+            public void handle(HttpClientRequest httpClientRequest) {
+                try {
+                    setRequestHeadersAndPrepareBody(httpClientRequest, requestContext);
+                } catch (Throwable t) {
+                    failureHandler.handle(t);
+                    return;
+                }
+                httpClientRequest.send().onFailure(failureHandler).onSuccess(new Handler<HttpClientResponse>() {
+                    @Override
+                    public void handle(HttpClientResponse clientResponse) {
+                        clientResponse.exceptionHandler(failureHandler);
+                        clientResponse.bodyHandler(new Handler<Buffer>() {
+                            @Override
+                            public void handle(Buffer buffer) {
+                                inFlight.remove(key, promise.future());
+                                promise.tryComplete(new SharedResponse(clientResponse, buffer));
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
+
     public Future<HttpClientRequest> createRequest(RestClientRequestContext state) {
         HttpClient httpClient = state.getHttpClient();
         URI uri = state.getUri();
@@ -236,4 +361,14 @@ public class ClientSendRequestHandler implements ClientRestHandler {
             }
         }
     }
+
+    private static class SharedResponse {
+        final HttpClientResponse response;
+        final Buffer body;
+
+        SharedResponse(HttpClientResponse response, Buffer body) {
+            this.response = response;
+            this.body = body;
+        }
+    }
 }
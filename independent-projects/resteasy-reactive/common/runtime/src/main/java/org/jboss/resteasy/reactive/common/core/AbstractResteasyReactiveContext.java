@@ -25,6 +25,7 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
     private boolean suspended = false;
     private volatile boolean requestScopeActivated = false;
     private volatile boolean running = false;
+    private boolean asyncProcessing = false; // set once the processing continues after the initial run() returned
     private volatile Executor executor; // ephemerally set by handlers to signal that we resume, it needs to be on this executor
     private volatile Executor lastExecutor; // contains the last executor which was provided during resume - needed to submit there if suspended again
     private Map<String, Object> properties;
@@ -181,6 +182,7 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
                     requestScopeDeactivated();
                     currentRequestScope.deactivate();
                 }
+                asyncProcessing = true;
                 beginAsyncProcessing();
             }
             synchronized (this) {
@@ -197,6 +199,35 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
 
     }
 
+    /**
+     * @return <code>true</code> if the processing did not complete during the first invocation of {@link #run()}
+     */
+    public boolean isAsyncProcessing() {
+        return asyncProcessing;
+    }
+
+    /**
+     * Clears the state of the processed request so that this context can be reused for another request.
+     * <p>
+     * Must only be called once the processing completed and nothing can reference this context anymore.
+     */
+    protected void reset() {
+        handlers = null;
+        abortHandlerChain = null;
+        position = 0;
+        throwable = null;
+        suspended = false;
+        requestScopeActivated = false;
+        running = false;
+        asyncProcessing = false;
+        executor = null;
+        lastExecutor = null;
+        properties = null;
+        currentRequestScope = null;
+        completionCallbacks = null;
+        connectionCallbacks = null;
+    }
+
     protected void requestScopeDeactivated() {
 
     }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import javax.ws.rs.core.MediaType;
+import org.jboss.resteasy.reactive.common.util.ByteBuffersInputStream;
 
 public class MessageReaderUtil {
 
@@ -22,6 +23,10 @@ public class MessageReaderUtil {
     }
 
     public static byte[] readBytes(InputStream entityStream) throws IOException {
+        if (entityStream instanceof ByteBuffersInputStream) {
+            // the whole entity is already in memory so we can copy it in one go
+            return entityStream.readAllBytes();
+        }
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         byte[] buf = new byte[1024]; //TODO: fix, needs a pure vert.x async read model
         int r;
@@ -6,12 +6,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import javax.ws.rs.core.NoContentException;
+import org.jboss.resteasy.reactive.common.util.ByteBuffersInputStream;
 
 public abstract class PrimitiveBodyHandler {
 
     public String readFrom(InputStream entityStream, boolean allowEmpty) throws IOException {
         byte[] bytes;
-        if (entityStream instanceof ByteArrayInputStream) {
+        if (entityStream instanceof ByteArrayInputStream || entityStream instanceof ByteBuffersInputStream) {
             bytes = new byte[entityStream.available()];
             entityStream.read(bytes);
         } else {
@@ -0,0 +1,124 @@
+package org.jboss.resteasy.reactive.common.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} backed by the buffers that were received from the network.
+ * <p>
+ * Readers that need the whole entity in memory can use {@link #readBuffers()} or {@link #readAllBytes()} to avoid the
+ * intermediate copies a generic stream would require.
+ */
+public class ByteBuffersInputStream extends InputStream {
+
+    private final List<ByteBuffer> buffers;
+    private int index;
+    private long remaining;
+
+    public ByteBuffersInputStream(List<ByteBuffer> buffers) {
+        this.buffers = buffers;
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        this.remaining = remaining;
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer current = current();
+        if (current == null) {
+            return -1;
+        }
+        remaining--;
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        while (read < len) {
+            ByteBuffer current = current();
+            if (current == null) {
+                break;
+            }
+            int count = Math.min(len - read, current.remaining());
+            current.get(b, off + read, count);
+            read += count;
+        }
+        remaining -= read;
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = 0;
+        while (skipped < n) {
+            ByteBuffer current = current();
+            if (current == null) {
+                break;
+            }
+            int count = (int) Math.min(n - skipped, current.remaining());
+            current.position(current.position() + count);
+            skipped += count;
+        }
+        remaining -= skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads the remaining data with a single copy into an array of the exact size.
+     */
+    @Override
+    public byte[] readAllBytes() {
+        if (remaining > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Entity too large to be read into a byte array: " + remaining);
+        }
+        byte[] result = new byte[(int) remaining];
+        if (result.length > 0) {
+            read(result, 0, result.length);
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the remaining data without copying it.
+     *
+     * @return the buffers holding the remaining data, each one positioned at the first unread byte
+     */
+    public List<ByteBuffer> readBuffers() {
+        List<ByteBuffer> result = new ArrayList<>(buffers.size() - index);
+        for (; index < buffers.size(); index++) {
+            ByteBuffer buffer = buffers.get(index);
+            if (buffer.hasRemaining()) {
+                result.add(buffer.slice());
+                buffer.position(buffer.limit());
+            }
+        }
+        remaining = 0;
+        return result;
+    }
+
+    private ByteBuffer current() {
+        while (index < buffers.size()) {
+            ByteBuffer buffer = buffers.get(index);
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+}
@@ -17,4 +17,12 @@ public interface RequestContextFactory {
         return false;
     }
 
+    /**
+     * Called with the contexts that are {@link ResteasyReactiveRequestContext#isReusable() reusable} once the
+     * processing of their request completed, on the thread that created them. Factories can pool these contexts and
+     * return them from {@link #createContext} for subsequent requests.
+     */
+    default void recycle(ResteasyReactiveRequestContext context) {
+    }
+
 }
@@ -366,6 +366,59 @@ public abstract class ResteasyReactiveRequestContext
         super.close();
     }
 
+    /**
+     * @return <code>true</code> if the request was fully processed by the first invocation of {@link #run()} and
+     *         nothing created during the processing can still reference this context, in which case the context can be
+     *         reset and reused for another request
+     */
+    public boolean isReusable() {
+        return !isAsyncProcessing() && asyncResponse == null && sseEventSink == null && outputStream == null
+                && underlyingOutputStream == null;
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        parameters = EMPTY_ARRAY;
+        target = null;
+        previousResource = null;
+        pathParamValues = null;
+        uriInfo = null;
+        endpointInstance = null;
+        result = null;
+        response = null;
+        httpHeaders = null;
+        requestEntity = null;
+        request = null;
+        entityWriter = null;
+        containerRequestContext = null;
+        containerResponseContext = null;
+        method = null;
+        originalMethod = null;
+        path = null;
+        absoluteUri = null;
+        scheme = null;
+        authority = null;
+        remaining = null;
+        responseContentType = null;
+        consumesMediaType = null;
+        methodAnnotations = null;
+        additionalAnnotations = null;
+        allAnnotations = null;
+        genericReturnType = null;
+        inputStream = null;
+        matchedURIs = null;
+        asyncResponse = null;
+        sseEventSink = null;
+        pathSegments = null;
+        readerInterceptors = null;
+        writerInterceptors = null;
+        securityContext = null;
+        outputStream = null;
+        underlyingOutputStream = null;
+        formData = null;
+    }
+
     public LazyResponse getResponse() {
         return response;
     }
@@ -645,7 +698,7 @@ public abstract class ResteasyReactiveRequestContext
 
     @Override
     protected void restarted(boolean keepTarget) {
-        parameters = new Object[0];
+        parameters = EMPTY_ARRAY;
         if (!keepTarget) {
             target = null;
         }
@@ -8,6 +8,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -93,6 +94,18 @@ public class RuntimeResourceDeployment {
 
     private static final Logger log = Logger.getLogger(RuntimeResourceDeployment.class);
 
+    /**
+     * Body types that are read into memory as a whole, in which case it's cheaper to buffer the body on the IO thread
+     * than to switch to blocking IO
+     */
+    private static final Set<String> IN_MEMORY_BODY_TYPES = Set.of(byte[].class.getName(), ByteBuffer.class.getName(),
+            "io.vertx.core.buffer.Buffer", "io.netty.buffer.ByteBuf");
+
+    /**
+     * The signature of a {@code Multi<Buffer>} body, which is streamed from the request by its reader
+     */
+    private static final String BUFFER_MULTI_SIGNATURE = "Lio/smallrye/mutiny/Multi<Lio/vertx/core/buffer/Buffer;>;";
+
     private final DeploymentInfo info;
     private final ServerSerialisers serialisers;
     private final ResteasyReactiveConfig quarkusRestConfig;
@@ -185,6 +198,9 @@ public class RuntimeResourceDeployment {
                     "Endpoints that return an AsyncFile cannot have any WriterInterceptor set");
         }
 
+        // the request filters that run before and after the blocking handler
+        int nonBlockingRequestFilters = 0;
+        int blockingRequestFilters = 0;
         //spec doesn't seem to test this, but RESTEasy does not run request filters for both root and sub resources (which makes sense)
         //so only only run request filters for methods that are leaf resources - i.e. have a HTTP method annotation so we ensure only one will run
         if (method.getHttpMethod() != null) {
@@ -198,8 +214,10 @@ public class RuntimeResourceDeployment {
                         // the non-blocking handlers are added in the order we have already determined, but they need to
                         // be added before the blocking handler
                         handlers.add(initialIndex + i, handler);
+                        nonBlockingRequestFilters++;
                     } else {
                         handlers.add(handler);
+                        blockingRequestFilters++;
                     }
                 }
             } else {
@@ -224,9 +242,18 @@ public class RuntimeResourceDeployment {
         if (method.isFormParamRequired() || method.isMultipart()) {
             // read the body as multipart in one go
             handlers.add(new FormBodyHandler(bodyParameter != null, executorSupplier));
-        } else if (bodyParameter != null) {
+        } else if (bodyParameter != null && !BUFFER_MULTI_SIGNATURE.equals(bodyParameter.signature)) {
+            // a Multi<Buffer> body is streamed by its reader so there is nothing to read upfront
             if (!defaultBlocking) {
-                if (method.isBlocking()) {
+                boolean inMemoryBody = IN_MEMORY_BODY_TYPES.contains(bodyParameter.declaredType);
+                if (method.isBlocking() && inMemoryBody && blockingRequestFilters == 0) {
+                    // buffer the body on the IO thread before switching to a worker thread, this avoids the copies
+                    // required by blocking IO
+                    // this is only done if all the request filters run before, so that the body is not read if one of
+                    // them aborts the request
+                    handlers.add(blockingHandlerIndex.get() + nonBlockingRequestFilters,
+                            new InputHandler(quarkusRestConfig.getInputBufferSize(), true, executorSupplier));
+                } else if (method.isBlocking()) {
                     Supplier<ServerRestHandler> blockingInputHandlerSupplier = customServerRestHandlers
                             .getBlockingInputHandlerSupplier();
                     if (blockingInputHandlerSupplier != null) {
@@ -238,7 +265,7 @@ public class RuntimeResourceDeployment {
                     }
                 } else if (!method.isBlocking()) {
                     // allow the body to be read by chunks
-                    handlers.add(new InputHandler(quarkusRestConfig.getInputBufferSize(), executorSupplier));
+                    handlers.add(new InputHandler(quarkusRestConfig.getInputBufferSize(), inMemoryBody, executorSupplier));
                 }
             }
         }
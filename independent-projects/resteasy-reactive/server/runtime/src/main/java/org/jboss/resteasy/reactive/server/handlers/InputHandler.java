@@ -1,15 +1,18 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.common.util.ByteBuffersInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.RuntimeConfigurableServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.RuntimeConfiguration;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
-import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 /**
  * Handler that reads data and sets up the input stream
@@ -18,23 +21,38 @@ import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
- * TODO: the stream implementation here could be a lot more efficient.
+ * If the entity is read into memory anyway (e.g. {@code byte[]} or {@code ByteBuffer} parameters), the whole
+ * request is buffered, up to the maximum body size. The received buffers are never copied, readers can access them
+ * through {@link ByteBuffersInputStream}. If no maximum body size is configured, the size of the buffered data is limited
+ * as for any other entity.
  */
-public class InputHandler implements ServerRestHandler {
+public class InputHandler implements RuntimeConfigurableServerRestHandler {
 
     final long maxBufferSize;
+    final boolean bufferFully;
     private volatile Executor executor;
+    private volatile long maxBodySize = -1;
     private final Supplier<Executor> supplier;
     private final ClassLoader originalTCCL;
 
     public InputHandler(long maxBufferSize, Supplier<Executor> supplier) {
+        this(maxBufferSize, false, supplier);
+    }
+
+    public InputHandler(long maxBufferSize, boolean bufferFully, Supplier<Executor> supplier) {
         this.maxBufferSize = maxBufferSize;
+        this.bufferFully = bufferFully;
         this.supplier = supplier;
         // capture the proper TCCL in order to avoid losing it to Vert.x in dev-mode
         this.originalTCCL = Thread.currentThread().getContextClassLoader();
 
     }
 
+    @Override
+    public void configure(RuntimeConfiguration configuration) {
+        maxBodySize = configuration.limits().maxBodySize().orElse(-1L);
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext context) throws Exception {
         // in some cases, with sub-resource locators or via request filters, 
@@ -61,7 +79,8 @@ public class InputHandler implements ServerRestHandler {
 
     class InputListener implements ServerHttpRequest.ReadCallback {
         final ResteasyReactiveRequestContext context;
-        int dataCount;
+        long dataCount;
+        boolean failed;
         final List<ByteBuffer> data = new ArrayList<>();
 
         InputListener(ResteasyReactiveRequestContext context) {
@@ -70,34 +89,40 @@ public class InputHandler implements ServerRestHandler {
 
         @Override
         public void done() {
-            //super inefficient
-            //TODO: write a stream that just uses the existing vert.x buffers
-            byte[] ar = new byte[dataCount];
-            int count = 0;
-            for (ByteBuffer i : data) {
-                int remaining = i.remaining();
-                i.get(ar, count, remaining);
-                count += remaining;
+            if (failed) {
+                return;
             }
-            context.setInputStream(new ByteArrayInputStream(ar));
+            context.setInputStream(new ByteBuffersInputStream(data));
             Thread.currentThread().setContextClassLoader(originalTCCL);
             context.resume();
         }
 
         @Override
         public void data(ByteBuffer event) {
-
+            if (failed) {
+                return;
+            }
             dataCount += event.remaining();
             data.add(event);
-            if (dataCount > maxBufferSize) {
+            // without a maximum body size the body is not buffered fully, it is read from the blocking stream once the
+            // input buffer size is exceeded
+            if (bufferFully && maxBodySize > 0) {
+                if (dataCount > maxBodySize) {
+                    failed = true;
+                    data.clear();
+                    context.serverRequest().pauseRequestInput();
+                    // the rest of the body is not read, so the connection can't be reused
+                    context.resume(new WebApplicationException(Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
+                            .header("Connection", "close").build()));
+                }
+            } else if (dataCount > maxBufferSize) {
                 context.serverRequest().pauseRequestInput();
                 if (executor == null) {
                     executor = supplier.get();
                 }
-                //super inefficient
-                //TODO: write a stream that just uses the existing vert.x buffers
+                // only the data received so far is copied, the rest of the entity is read from the blocking stream
                 int count = 0;
-                byte[] ar = new byte[dataCount];
+                byte[] ar = new byte[(int) dataCount];
                 for (ByteBuffer i : data) {
                     int remaining = i.remaining();
                     i.get(ar, count, remaining);
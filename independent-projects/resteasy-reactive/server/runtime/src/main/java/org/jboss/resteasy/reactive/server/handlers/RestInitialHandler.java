@@ -45,6 +45,9 @@ public class RestInitialHandler implements ServerRestHandler {
                 requestContext,
                 initialChain, deployment.getAbortHandlerChain());
         rq.run();
+        if (rq.isReusable()) {
+            requestContextFactory.recycle(rq);
+        }
     }
 
     @Override
@@ -0,0 +1,66 @@
+package org.jboss.resteasy.reactive.server.providers.serialisers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.common.util.ByteBuffersInputStream;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Reads the entity into a {@link ByteBuffer}. If the entity was received in a single buffer, that buffer is returned
+ * as is, otherwise the entity is copied once.
+ */
+@Provider
+public class ServerByteBufferMessageBodyReader implements ServerMessageBodyReader<ByteBuffer> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public ByteBuffer readFrom(Class<ByteBuffer> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        return read(context.getInputStream());
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public ByteBuffer readFrom(Class<ByteBuffer> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        return read(entityStream);
+    }
+
+    private ByteBuffer read(InputStream entityStream) throws IOException {
+        if (entityStream instanceof ByteBuffersInputStream) {
+            List<ByteBuffer> buffers = ((ByteBuffersInputStream) entityStream).readBuffers();
+            if (buffers.size() == 1) {
+                return buffers.get(0);
+            }
+            int size = 0;
+            for (ByteBuffer buffer : buffers) {
+                size += buffer.remaining();
+            }
+            ByteBuffer result = ByteBuffer.allocate(size);
+            for (ByteBuffer buffer : buffers) {
+                result.put(buffer);
+            }
+            return result.flip();
+        }
+        return ByteBuffer.wrap(MessageReaderUtil.readBytes(entityStream));
+    }
+}
@@ -9,11 +9,38 @@ import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
 public class VertxRequestContextFactory implements RequestContextFactory {
+
+    private final VertxRequestContextPool pool;
+
+    public VertxRequestContextFactory() {
+        this(false);
+    }
+
+    /**
+     * @param pooling whether the request contexts are pooled per event loop, see {@link VertxRequestContextPool}
+     */
+    public VertxRequestContextFactory(boolean pooling) {
+        this.pool = pooling ? new VertxRequestContextPool() : null;
+    }
+
     @Override
     public ResteasyReactiveRequestContext createContext(Deployment deployment,
             ProvidersImpl providers, Object context, ThreadSetupAction requestContext,
             ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        if (pool != null) {
+            ResteasyReactiveRequestContext pooled = pool.get((RoutingContext) context, handlerChain, abortHandlerChain);
+            if (pooled != null) {
+                return pooled;
+            }
+        }
         return new VertxResteasyReactiveRequestContext(deployment, providers, (RoutingContext) context,
                 requestContext, handlerChain, abortHandlerChain, null);
     }
+
+    @Override
+    public void recycle(ResteasyReactiveRequestContext context) {
+        if (pool != null) {
+            pool.release(context);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.Context;
+import io.vertx.ext.web.RoutingContext;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Keeps a request context per event loop so that the requests processed by an event loop can reuse the context of a
+ * previous request instead of allocating a new one.
+ * <p>
+ * Only the contexts that are {@link ResteasyReactiveRequestContext#isReusable() reusable} are pooled, i.e. the ones
+ * whose request was fully processed on the event loop before any callback referencing them was registered. These
+ * contexts are released right after the processing of their request, so a single instance per event loop is enough.
+ * The released contexts are reset immediately so that they do not retain anything from the previous request.
+ */
+public class VertxRequestContextPool {
+
+    private final FastThreadLocal<VertxResteasyReactiveRequestContext> pooled = new FastThreadLocal<>();
+
+    /**
+     * @return a pooled context initialized for the given request, or <code>null</code> if there is none
+     */
+    public VertxResteasyReactiveRequestContext get(RoutingContext context, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain) {
+        if (!Context.isOnEventLoopThread()) {
+            return null;
+        }
+        VertxResteasyReactiveRequestContext ret = pooled.getIfExists();
+        if (ret == null) {
+            return null;
+        }
+        pooled.set(null);
+        ret.reinitialize(context, handlerChain, abortHandlerChain);
+        return ret;
+    }
+
+    public void release(ResteasyReactiveRequestContext context) {
+        if (!(context instanceof VertxResteasyReactiveRequestContext) || !Context.isOnEventLoopThread()) {
+            return;
+        }
+        VertxResteasyReactiveRequestContext vertxContext = (VertxResteasyReactiveRequestContext) context;
+        vertxContext.reset();
+        pooled.set(vertxContext);
+    }
+}
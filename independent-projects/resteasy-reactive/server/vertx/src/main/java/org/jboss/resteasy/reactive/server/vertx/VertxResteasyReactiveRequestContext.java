@@ -40,23 +40,29 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
     public static final String CONTINUE = "100-continue";
-    protected final RoutingContext context;
-    protected final HttpServerRequest request;
-    protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    protected RoutingContext context;
+    protected HttpServerRequest request;
+    protected HttpServerResponse response;
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
+    // set when Vert.x was handed a callback that may run after the processing of the request completed
+    private boolean callbacksRegistered;
 
     public VertxResteasyReactiveRequestContext(Deployment deployment, ProvidersImpl providers,
             RoutingContext context,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain,
             ClassLoader devModeTccl) {
         super(deployment, providers, requestContext, handlerChain, abortHandlerChain);
+        this.devModeTccl = devModeTccl;
+        init(context);
+    }
+
+    private void init(RoutingContext context) {
         this.context = context;
         this.request = context.request();
         this.response = context.response();
-        this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
         ContextInternal internal = ((ConnectionBase) context.request().connection()).getContext();
@@ -71,8 +77,37 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         };
     }
 
+    /**
+     * Prepares a context that was {@link #reset() reset} after the processing of a previous request to process the
+     * given request.
+     */
+    void reinitialize(RoutingContext context, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        this.handlers = handlerChain;
+        this.abortHandlerChain = abortHandlerChain;
+        init(context);
+    }
+
+    @Override
+    public boolean isReusable() {
+        // the response must have been sent so that the headers end handler will not be invoked anymore
+        return super.isReusable() && !callbacksRegistered && response.ended() && response.headWritten();
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        context = null;
+        request = null;
+        response = null;
+        contextExecutor = null;
+        preCommitTask = null;
+        continueState = ContinueState.NONE;
+        callbacksRegistered = false;
+    }
+
     @Override
     public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        callbacksRegistered = true;
         this.response.closeHandler(new Handler<Void>() {
             @Override
             public void handle(Void v) {
@@ -237,6 +272,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
             callback.done();
             return this;
         }
+        callbacksRegistered = true;
         request.pause();
         if (continueState == ContinueState.REQUIRED) {
             continueState = ContinueState.SENT;
@@ -248,7 +284,8 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
                 if (devModeTccl != null) {
                     Thread.currentThread().setContextClassLoader(devModeTccl);
                 }
-                callback.data(ByteBuffer.wrap(event.getBytes()));
+                // the buffers of the request are not pooled so they can be retained without copying them
+                callback.data(event.getByteBuf().nioBuffer());
             }
         });
         request.endHandler(new Handler<Void>() {
@@ -365,6 +402,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        callbacksRegistered = true;
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
             public void handle(AsyncResult<Void> event) {
@@ -380,6 +418,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public CompletionStage<Void> write(byte[] data) {
+        callbacksRegistered = true;
         CompletableFuture<Void> ret = new CompletableFuture<>();
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
@@ -396,6 +435,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
+        callbacksRegistered = true;
         response.sendFile(path, offset, length);
         return this;
     }
@@ -419,6 +459,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        callbacksRegistered = true;
         response.drainHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
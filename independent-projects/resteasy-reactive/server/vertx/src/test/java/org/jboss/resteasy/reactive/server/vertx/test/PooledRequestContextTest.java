@@ -0,0 +1,106 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class PooledRequestContextTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setPoolRequestContexts(true)
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClass(PooledResource.class);
+                }
+            });
+
+    @Test
+    public void testReuse() {
+        Set<String> contexts = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            contexts.add(get(i));
+        }
+        // the contexts of the requests that completed on the event loop are reused
+        assertTrue(contexts.size() < 20, "The request contexts were not reused: " + contexts);
+    }
+
+    @Test
+    public void testNoStateLeak() {
+        for (int i = 0; i < 20; i++) {
+            get(i);
+            // requests that do not complete on the event loop and failed requests must not alter the next ones
+            RestAssured.get("/pooled/async").then().statusCode(200).body(equalTo("async"));
+            RestAssured.get("/pooled/fail").then().statusCode(500);
+            RestAssured.given().header("X-Test", "value").get("/pooled/header").then().statusCode(200)
+                    .body(equalTo("value"));
+        }
+    }
+
+    private String get(int i) {
+        String body = RestAssured.given().queryParam("name", "n" + i)
+                .get("/pooled/" + i)
+                .then().statusCode(200).extract().asString();
+        String[] parts = body.split(":");
+        assertEquals("/pooled/" + i, parts[0]);
+        assertEquals("n" + i, parts[1]);
+        assertEquals(String.valueOf(i), parts[2]);
+        assertEquals("null", parts[3]);
+        return parts[4];
+    }
+
+    @Path("pooled")
+    public static class PooledResource {
+
+        @NonBlocking
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") String id, @QueryParam("name") String name, @HeaderParam("X-Test") String header,
+                @Context UriInfo uriInfo, @Context ServerRequestContext context) {
+            return uriInfo.getPath() + ":" + name + ":" + id + ":" + header + ":" + System.identityHashCode(context);
+        }
+
+        @GET
+        @Path("async")
+        public void async(@Suspended AsyncResponse response) {
+            CompletableFuture.runAsync(() -> response.resume("async"));
+        }
+
+        @GET
+        @Path("fail")
+        public String fail() {
+            throw new IllegalStateException();
+        }
+
+        @NonBlocking
+        @GET
+        @Path("header")
+        public String header(@HeaderParam("X-Test") String header) {
+            return header;
+        }
+    }
+}
@@ -89,6 +89,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
     private Timer timeoutTimer;
     private volatile TimerTask timeoutTask;
     private InMemoryLogHandler inMemoryLogHandler = new InMemoryLogHandler((r) -> false);
+    private boolean poolRequestContexts;
 
     static Vertx vertx;
     static HttpServer httpServer;
@@ -145,6 +146,11 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         return this;
     }
 
+    public ResteasyReactiveUnitTest setPoolRequestContexts(boolean poolRequestContexts) {
+        this.poolRequestContexts = poolRequestContexts;
+        return this;
+    }
+
     private void exportArchive(Path deploymentDir, Class<?> testClass) {
         try {
             JavaArchive archive = getArchiveProducerOrDefault();
@@ -312,7 +318,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 });
         RuntimeDeploymentManager runtimeDeploymentManager = new RuntimeDeploymentManager(info, () -> executor,
                 new CustomServerRestHandlers(null),
-                closeable -> closeTasks.add(closeable), new VertxRequestContextFactory(), ThreadSetupAction.NOOP, "/");
+                closeable -> closeTasks.add(closeable), new VertxRequestContextFactory(poolRequestContexts), ThreadSetupAction.NOOP, "/");
         Deployment deployment = runtimeDeploymentManager.deploy();
         RestInitialHandler initialHandler = new RestInitialHandler(deployment);
         router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
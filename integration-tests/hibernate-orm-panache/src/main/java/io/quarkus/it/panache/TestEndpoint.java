@@ -8,10 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -1375,6 +1377,74 @@ public class TestEndpoint {
         return "OK";
     }
 
+    @GET
+    @Path("bulk")
+    @Transactional
+    public String testBulk() {
+        List<Fruit> fruits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            fruits.add(new Fruit("fruit" + i, "green"));
+        }
+        Fruit.persistInBatches(fruits, 3);
+        Assertions.assertEquals(10, Fruit.count("color", "green"));
+        // the persistence context was cleared
+        Assertions.assertFalse(fruits.get(0).isPersistent());
+        Assertions.assertNotNull(fruits.get(0).id);
+
+        Fruit.persistInBatches(IntStream.range(0, 5).mapToObj(i -> new Fruit("fruit" + i, "red")));
+        Assertions.assertEquals(5, Fruit.count("color", "red"));
+
+        Fruit.insertStateless(IntStream.range(0, 5).mapToObj(i -> new Fruit("fruit" + i, "yellow")));
+        Assertions.assertEquals(5, Fruit.count("color", "yellow"));
+
+        personDao.persistInBatches(Arrays.asList(makeBulkPerson(), makeBulkPerson(), makeBulkPerson()), 2);
+        personDao.insertStateless(Stream.of(makeBulkPerson(), makeBulkPerson()));
+        Assertions.assertEquals(5, personDao.count("name", "bulk"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Fruit.persistInBatches(fruits, 0));
+
+        Fruit.delete("color in ?1", Arrays.asList("green", "red", "yellow"));
+        personDao.delete("name", "bulk");
+        return "OK";
+    }
+
+    @GET
+    @Path("cursor")
+    @Transactional
+    public String testCursor() {
+        for (int i = 0; i < 5; i++) {
+            Fruit fruit = new Fruit("fruit" + i, "blue");
+            fruit.persist();
+        }
+        Fruit.flush();
+
+        List<Fruit> streamed;
+        try (Stream<Fruit> stream = Fruit.find("color", Sort.by("name"), "blue").stream(2)) {
+            streamed = stream.collect(Collectors.toList());
+        }
+        Assertions.assertEquals(5, streamed.size());
+        Assertions.assertEquals("fruit0", streamed.get(0).name);
+        // entities are detached once consumed
+        Assertions.assertFalse(streamed.get(0).isPersistent());
+
+        List<Integer> batchSizes;
+        try (Stream<List<Fruit>> batches = Fruit.find("color", "blue").batches(2)) {
+            batchSizes = batches.map(List::size).collect(Collectors.toList());
+        }
+        Assertions.assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Fruit.findAll().stream(0));
+
+        Fruit.delete("color", "blue");
+        return "OK";
+    }
+
+    private Person makeBulkPerson() {
+        Person person = new Person();
+        person.name = "bulk";
+        return person;
+    }
+
     @GET
     @Path("9036")
     @Transactional
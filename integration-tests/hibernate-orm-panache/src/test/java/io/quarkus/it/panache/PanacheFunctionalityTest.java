@@ -52,6 +52,16 @@ public class PanacheFunctionalityTest {
         RestAssured.when().get("/test/model3").then().body(is("OK"));
     }
 
+    @Test
+    public void testBulkOperations() {
+        RestAssured.when().get("/test/bulk").then().body(is("OK"));
+    }
+
+    @Test
+    public void testCursorStreaming() {
+        RestAssured.when().get("/test/cursor").then().body(is("OK"));
+    }
+
     @Test
     public void testPanacheSerialisation() {
         RestAssured.given().accept(ContentType.JSON)
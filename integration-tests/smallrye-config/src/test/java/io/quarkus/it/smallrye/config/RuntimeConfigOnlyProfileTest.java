@@ -0,0 +1,74 @@
+package io.quarkus.it.smallrye.config;
+
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(RuntimeConfigOnlyProfileTest.RuntimeProfile.class)
+public class RuntimeConfigOnlyProfileTest {
+    // the test classes are loaded by the application class loader, the id is kept where a restart cannot reset it
+    static final String STARTUP_ID = "runtime-config-only.startup-id";
+
+    @Test
+    void runtimeConfig() {
+        given()
+                .get("/config/{name}", "runtime.profile.value")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("value", equalTo("runtime"));
+        System.setProperty(STARTUP_ID, given().get("/startup").then().statusCode(OK.getStatusCode()).extract().asString());
+    }
+
+    @Nested
+    @TestProfile(OtherRuntimeProfile.class)
+    class OtherRuntimeConfig {
+        @Test
+        void applicationReused() {
+            given()
+                    .get("/config/{name}", "runtime.profile.value")
+                    .then()
+                    .statusCode(OK.getStatusCode())
+                    .body("value", equalTo("other"));
+            String startupId = System.getProperty(STARTUP_ID);
+            assertNotNull(startupId);
+            // the application that ran the enclosing tests was not restarted
+            given().get("/startup").then().statusCode(OK.getStatusCode()).body(equalTo(startupId));
+        }
+    }
+
+    public static class RuntimeProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Collections.singletonMap("runtime.profile.value", "runtime");
+        }
+
+        @Override
+        public boolean runtimeConfigOnly() {
+            return true;
+        }
+    }
+
+    public static class OtherRuntimeProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Collections.singletonMap("runtime.profile.value", "other");
+        }
+
+        @Override
+        public boolean runtimeConfigOnly() {
+            return true;
+        }
+    }
+}
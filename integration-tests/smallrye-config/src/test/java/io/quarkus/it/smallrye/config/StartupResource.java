@@ -0,0 +1,31 @@
+package io.quarkus.it.smallrye.config;
+
+import java.util.UUID;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Identifies the start of the application, to tell whether a test was run by a new application.
+ */
+@ApplicationScoped
+@Path("/startup")
+public class StartupResource {
+    private String id;
+
+    void onStart(@Observes StartupEvent event) {
+        id = UUID.randomUUID().toString();
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String id() {
+        return id;
+    }
+}
@@ -20,6 +20,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.AbstractMap;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
@@ -145,6 +146,7 @@ public class QuarkusTestExtension
     private static Class<? extends QuarkusTestProfile> quarkusTestProfile;
     private static boolean hasPerTestResources;
     private static Class<?> currentJUnitTestClass;
+    private static Map<String, String> sysPropRestore;
     private static List<Function<Class<?>, String>> testHttpEndpointProviders;
 
     private static List<Object> testMethodInvokers;
@@ -250,6 +252,7 @@ public class QuarkusTestExtension
 
             originalCl = Thread.currentThread().getContextClassLoader();
             Map<String, String> sysPropRestore = new HashMap<>();
+            QuarkusTestExtension.sysPropRestore = sysPropRestore;
             sysPropRestore.put(ProfileManager.QUARKUS_TEST_PROFILE_PROP,
                     System.getProperty(ProfileManager.QUARKUS_TEST_PROFILE_PROP));
 
@@ -677,7 +680,16 @@ public class QuarkusTestExtension
         // we reload the test resources if we changed test class and if we had or will have per-test test resources
         boolean reloadTestResources = !Objects.equals(extensionContext.getRequiredTestClass(), currentJUnitTestClass)
                 && (hasPerTestResources || hasPerTestResources(extensionContext));
+        StartupTimings timings = store.getOrComputeIfAbsent(StartupTimings.class.getName(), k -> new StartupTimings(),
+                StartupTimings.class);
+        if (state != null && wrongProfile && !reloadTestResources && isRuntimeConfigOnly(quarkusTestProfile)
+                && isRuntimeConfigOnly(selectedProfile)) {
+            applyRuntimeConfig(selectedProfile);
+            timings.reused++;
+            return state;
+        }
         if ((state == null && !failedBoot) || wrongProfile || reloadTestResources) {
+            long start = System.nanoTime();
             if (wrongProfile || reloadTestResources) {
                 if (state != null) {
                     try {
@@ -697,10 +709,60 @@ public class QuarkusTestExtension
                 firstException = e;
                 store.put(FailedCleanup.class.getName(), new FailedCleanup());
             }
+            timings.starts++;
+            timings.restartTime += System.nanoTime() - start;
         }
         return state;
     }
 
+    private static boolean isRuntimeConfigOnly(Class<? extends QuarkusTestProfile> profile) {
+        if (profile == null) {
+            return true;
+        }
+        QuarkusTestProfile profileInstance = newProfileInstance(profile);
+        return profileInstance.runtimeConfigOnly()
+                && profileInstance.getEnabledAlternatives().isEmpty()
+                && profileInstance.getConfigProfile() == null
+                && profileInstance.testResources().isEmpty()
+                && !profileInstance.disableGlobalTestResources()
+                && !profileInstance.disableApplicationLifecycleObservers();
+    }
+
+    /**
+     * Switches the running application to the given profile, which only overrides runtime config, by restoring the
+     * system properties overridden by the previous profile and setting the new ones.
+     */
+    private static void applyRuntimeConfig(Class<? extends QuarkusTestProfile> profile) {
+        Map<String, String> overrides = profile == null ? Collections.emptyMap()
+                : newProfileInstance(profile).getConfigOverrides();
+        for (Map.Entry<String, String> entry : sysPropRestore.entrySet()) {
+            if (entry.getKey().equals(ProfileManager.QUARKUS_TEST_PROFILE_PROP) || overrides.containsKey(entry.getKey())) {
+                continue;
+            }
+            if (entry.getValue() == null) {
+                System.clearProperty(entry.getKey());
+            } else {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, String> entry : overrides.entrySet()) {
+            if (!sysPropRestore.containsKey(entry.getKey())) {
+                sysPropRestore.put(entry.getKey(), System.getProperty(entry.getKey()));
+            }
+            System.setProperty(entry.getKey(), entry.getValue());
+        }
+        log.debugf("Applied the config of test profile %s to the running application", profile);
+        quarkusTestProfile = profile;
+    }
+
+    private static QuarkusTestProfile newProfileInstance(Class<? extends QuarkusTestProfile> profile) {
+        try {
+            return profile.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to instantiate test profile " + profile, e);
+        }
+    }
+
     private Class<? extends QuarkusTestProfile> getQuarkusTestProfile(ExtensionContext extensionContext) {
         TestProfile annotation = extensionContext.getRequiredTestClass().getAnnotation(TestProfile.class);
         Class<? extends QuarkusTestProfile> selectedProfile = null;
@@ -1289,6 +1351,28 @@ public class QuarkusTestExtension
         }
     }
 
+    /**
+     * Reports the time spent starting and stopping Quarkus compared to the time spent running the tests.
+     */
+    static class StartupTimings implements ExtensionContext.Store.CloseableResource {
+
+        private final long created = System.nanoTime();
+        private int starts;
+        private int reused;
+        private long restartTime;
+
+        @Override
+        public void close() {
+            if (starts == 0) {
+                return;
+            }
+            long total = System.nanoTime() - created;
+            log.infof("Quarkus was started %d time(s) and reused for %d test profile change(s), %d ms were spent "
+                    + "starting and stopping Quarkus and %d ms running tests", starts, reused,
+                    TimeUnit.NANOSECONDS.toMillis(restartTime), TimeUnit.NANOSECONDS.toMillis(total - restartTime));
+        }
+    }
+
     public static class TestBuildChainFunction implements Function<Map<String, Object>, List<Consumer<BuildChainBuilder>>> {
 
         @Override
@@ -77,6 +77,20 @@ public interface QuarkusTestProfile {
         return false;
     }
 
+    /**
+     * If this method returns true then the profile only overrides configuration that the application reads when it
+     * is used, and not when it starts. When switching between such profiles (or from and to tests without a profile)
+     * Quarkus is not restarted, the config overrides are applied to the running application instead.
+     * <p>
+     * This is ignored if the profile enables alternatives, changes the config profile, declares test resources or
+     * disables the global test resources or the application lifecycle observers, as these are only taken into account when
+     * the application starts. Note that configuration that was already read, e.g. injected into an application scoped
+     * bean, is not updated.
+     */
+    default boolean runtimeConfigOnly() {
+        return false;
+    }
+
     final class TestResourceEntry {
         private final Class<? extends QuarkusTestResourceLifecycleManager> clazz;
         private final Map<String, String> args;